@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.benchmark;
+
+import android.app.Dialog;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.AssetManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.util.DisplayMetrics;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+
+/**
+ * The Android environment the benchmarks run in.
+ * <p>
+ * Benchmarks run on the JVM against the mockable Android jar, where every framework method returns a default value.
+ * This class provides a context whose resources return fixed colors and dimensions, and dialogs bound to that
+ * context, so that the library code resolving resources can run without a device.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+final class BenchmarkEnvironment {
+
+    /**
+     * The color returned for every color resource.
+     */
+    static final int COLOR = 0xFF202020;
+
+    /**
+     * The value returned for every dimension resource.
+     */
+    static final float DIMENSION = 13.125F;
+
+    /**
+     * Not instantiable.
+     */
+    private BenchmarkEnvironment() {
+    }
+
+    /**
+     * Creates a context resolving every resource to a fixed value.
+     *
+     * @return The context.
+     */
+    @NonNull
+    static Context newContext() {
+        return new BenchmarkContext();
+    }
+
+    /**
+     * Creates a dialog bound to a context resolving every resource to a fixed value.
+     *
+     * @return The PopupDialog instance.
+     */
+    @NonNull
+    static PopupDialog newPopupDialog() {
+        Context context = newContext();
+        try (MockedConstruction<Dialog> ignored = Mockito.mockConstruction(
+                Dialog.class,
+                (dialog, construction) -> Mockito.when(dialog.getContext()).thenReturn(context)
+        )) {
+            return PopupDialog.getInstance(context);
+        }
+    }
+
+    /**
+     * A context whose resources return fixed values.
+     */
+    private static final class BenchmarkContext extends ContextWrapper {
+
+        /** The resources of the context. */
+        private final Resources resources = new BenchmarkResources();
+
+        private BenchmarkContext() {
+            super(null);
+        }
+
+        @Override
+        public Context getApplicationContext() {
+            return this;
+        }
+
+        @Override
+        public Resources getResources() {
+            return resources;
+        }
+    }
+
+    /**
+     * Resources returning fixed values.
+     */
+    @SuppressWarnings("deprecation")
+    private static final class BenchmarkResources extends Resources {
+
+        /** The configuration of the resources. */
+        private final Configuration configuration = new Configuration();
+
+        private BenchmarkResources() {
+            super((AssetManager) null, (DisplayMetrics) null, (Configuration) null);
+        }
+
+        @Override
+        public int getColor(int id) {
+            return COLOR;
+        }
+
+        @Override
+        public int getColor(int id, Theme theme) {
+            return COLOR;
+        }
+
+        @Override
+        public float getDimension(int id) {
+            return DIMENSION;
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return configuration;
+        }
+    }
+}
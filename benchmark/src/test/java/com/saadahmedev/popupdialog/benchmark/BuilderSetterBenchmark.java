@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.benchmark;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.dialog.standard.AlertDialog;
+import com.saadahmedev.popupdialog.dialog.standard.IOSDialog;
+import com.saadahmedev.popupdialog.dialog.standard.StandardDialog;
+import com.saadahmedev.popupdialog.dialog.status.StatusDialog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creating a builder and configuring it through a typical chain of setters, without building it.
+ * Font setters are left out since loading a font needs a device.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderSetterBenchmark {
+
+    /** The dialog the builders are created for. */
+    private PopupDialog popupDialog;
+
+    @Setup
+    public void setup() {
+        popupDialog = BenchmarkEnvironment.newPopupDialog();
+    }
+
+    @Benchmark
+    public StandardDialog standardDialog() {
+        return popupDialog.standardDialogBuilder()
+                .createStandardDialog()
+                .setHeading("Logout")
+                .setDescription("Are you sure you want to logout?")
+                .setIcon(android.R.drawable.ic_dialog_alert)
+                .setIconColor(R.color.static_main)
+                .setHeadingTextColor(R.color.text_color)
+                .setDescriptionTextColor(R.color.text_color_dim)
+                .setPositiveButtonText("Logout")
+                .setNegativeButtonText("Cancel")
+                .setPositiveButtonBackgroundColor(R.color.static_main)
+                .setPositiveButtonCornerRadius(12F)
+                .setHeadingFontSize(18F)
+                .setBackgroundColor(R.color.static_white)
+                .setBackgroundCornerRadius(16F);
+    }
+
+    @Benchmark
+    public AlertDialog alertDialog() {
+        return popupDialog.standardDialogBuilder()
+                .createAlertDialog()
+                .setHeading("Logout")
+                .setDescription("Are you sure you want to logout?")
+                .setPositiveButtonText("Logout")
+                .setNegativeButtonText("Cancel")
+                .setPositiveButtonTextColor(R.color.static_main)
+                .setDescriptionFontSize(14F)
+                .setBackgroundColor(R.color.static_white)
+                .setBackgroundCornerRadius(16F);
+    }
+
+    @Benchmark
+    public IOSDialog iosDialog() {
+        return popupDialog.standardDialogBuilder()
+                .createIOSDialog()
+                .setHeading("Logout")
+                .setDescription("Are you sure you want to logout?")
+                .setPositiveButtonText("Logout")
+                .setNegativeButtonText("Cancel")
+                .setNegativeButtonTextColor(R.color.text_color)
+                .setButtonFontSize(16F)
+                .setBackgroundColor(R.color.static_white)
+                .setBackgroundCornerRadius(16F);
+    }
+
+    @Benchmark
+    public StatusDialog statusDialog() {
+        return popupDialog.statusDialogBuilder()
+                .createStatusDialog()
+                .setHeading("Payment failed")
+                .setDescription("The card was declined, please try another payment method.")
+                .setActionButtonText("Retry")
+                .setHeadingTextColor(R.color.text_color)
+                .setActionButtonBackgroundColor(R.color.static_main)
+                .setActionButtonCornerRadius(8F)
+                .setHeadingFontSize(18F)
+                .setBackgroundColor(R.color.static_white)
+                .setBackgroundCornerRadius(16F);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.benchmark;
+
+import android.graphics.Typeface;
+
+import androidx.annotation.NonNull;
+import androidx.databinding.ViewDataBinding;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.base.BaseStandardDialog;
+import com.saadahmedev.popupdialog.base.BaseStatusDialog;
+import com.saadahmedev.popupdialog.style.PopupDialogStyle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks resolving the defaults of a builder in {@code prepare()}, which runs once per built dialog,
+ * with and without a pre-resolved {@link PopupDialogStyle}. Font loading is stubbed out since it needs a device.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultResolutionBenchmark {
+
+    /** The dialog the builders are created for. */
+    private PopupDialog popupDialog;
+
+    /** The style applied by the styled benchmarks. */
+    private PopupDialogStyle style;
+
+    @Setup
+    public void setup() {
+        popupDialog = BenchmarkEnvironment.newPopupDialog();
+        style = PopupDialogStyle.builder(popupDialog.getContext())
+                .setHeadingTextColor(R.color.text_color)
+                .setDescriptionTextColor(R.color.text_color_dim)
+                .setPositiveButtonTextColor(R.color.static_white)
+                .setNegativeButtonTextColor(R.color.text_color)
+                .setHeadingFontSize(18F)
+                .setDescriptionFontSize(14F)
+                .setButtonFontSize(16F)
+                .setBackgroundCornerRadius(16F)
+                .build();
+    }
+
+    @Benchmark
+    public StandardResolver standardDefaults() {
+        StandardResolver resolver = new StandardResolver(popupDialog).setHeading("Logout");
+        resolver.resolve();
+        return resolver;
+    }
+
+    @Benchmark
+    public StandardResolver standardStyled() {
+        StandardResolver resolver = new StandardResolver(popupDialog).setStyle(style).setHeading("Logout");
+        resolver.resolve();
+        return resolver;
+    }
+
+    /**
+     * Configures every numeric property through the primitive setters before resolving the defaults.
+     * Run with {@code -prof gc} to check that the builder state does not box any value.
+     */
+    @Benchmark
+    public StandardResolver standardConfigured() {
+        StandardResolver resolver = new StandardResolver(popupDialog)
+                .setHeading("Logout")
+                .setHeadingFontSize(18F)
+                .setDescriptionFontSize(14F)
+                .setButtonFontSize(16F)
+                .setBackgroundColor(R.color.static_white)
+                .setBackgroundCornerRadius(16F, 16F, 8F, 8F);
+        resolver.resolve();
+        return resolver;
+    }
+
+    @Benchmark
+    public StatusResolver statusDefaults() {
+        StatusResolver resolver = new StatusResolver(popupDialog).setHeading("Payment failed");
+        resolver.resolve();
+        return resolver;
+    }
+
+    @Benchmark
+    public StatusResolver statusStyled() {
+        StatusResolver resolver = new StatusResolver(popupDialog).setStyle(style).setHeading("Payment failed");
+        resolver.resolve();
+        return resolver;
+    }
+
+    /**
+     * A standard dialog builder exposing the resolution of its defaults.
+     */
+    public static class StandardResolver extends BaseStandardDialog<StandardResolver, ViewDataBinding> {
+
+        StandardResolver(@NonNull PopupDialog popupDialog) {
+            super(popupDialog, 0);
+        }
+
+        void resolve() {
+            prepare();
+        }
+
+        @Override
+        protected Typeface resToTypeface(int font) {
+            return null;
+        }
+    }
+
+    /**
+     * A status dialog builder exposing the resolution of its defaults.
+     */
+    public static class StatusResolver extends BaseStatusDialog<StatusResolver, ViewDataBinding> {
+
+        StatusResolver(@NonNull PopupDialog popupDialog) {
+            super(popupDialog, 0);
+        }
+
+        void resolve() {
+            prepare();
+        }
+
+        @Override
+        protected Typeface resToTypeface(int font) {
+            return null;
+        }
+    }
+}
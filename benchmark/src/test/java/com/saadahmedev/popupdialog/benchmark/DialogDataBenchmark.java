@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.benchmark;
+
+import com.saadahmedev.popupdialog.dto.AlertDialogData;
+import com.saadahmedev.popupdialog.dto.DialogColor;
+import com.saadahmedev.popupdialog.dto.IOSDialogData;
+import com.saadahmedev.popupdialog.dto.StandardDialogData;
+import com.saadahmedev.popupdialog.dto.StatusDialogData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the construction of the data bound to each dialog layout, and the content hash of status dialog data
+ * used to coalesce duplicate dialogs.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DialogDataBenchmark {
+
+    /** The text color of the heading. */
+    private final DialogColor headingTextColor = DialogColor.ofColorInt(0xFF000000);
+
+    /** The text color of the description. */
+    private final DialogColor descriptionTextColor = DialogColor.ofColorInt(0xFF777777);
+
+    /** The text color of the buttons. */
+    private final DialogColor buttonTextColor = DialogColor.ofColorInt(0xFFFFFFFF);
+
+    /** The heading text. */
+    private String heading = "Payment failed";
+
+    /** The description text. */
+    private String description = "The card was declined, please try another payment method.";
+
+    /** Status dialog data, hashed by {@link #statusDialogDataHashCode()}. */
+    private final StatusDialogData statusDialogData = new StatusDialogData(
+            heading,
+            description,
+            headingTextColor,
+            descriptionTextColor,
+            buttonTextColor,
+            "Dismiss"
+    );
+
+    @Benchmark
+    public StandardDialogData standardDialogData() {
+        return new StandardDialogData(
+                1,
+                heading,
+                description,
+                headingTextColor,
+                descriptionTextColor,
+                buttonTextColor,
+                headingTextColor,
+                "Submit",
+                "Cancel"
+        );
+    }
+
+    @Benchmark
+    public AlertDialogData alertDialogData() {
+        return new AlertDialogData(
+                heading,
+                description,
+                headingTextColor,
+                descriptionTextColor,
+                buttonTextColor,
+                buttonTextColor,
+                "Ok",
+                "Cancel"
+        );
+    }
+
+    @Benchmark
+    public IOSDialogData iosDialogData() {
+        return new IOSDialogData(
+                heading,
+                description,
+                headingTextColor,
+                descriptionTextColor,
+                buttonTextColor,
+                buttonTextColor,
+                "Ok",
+                "Cancel"
+        );
+    }
+
+    @Benchmark
+    public StatusDialogData statusDialogData() {
+        return new StatusDialogData(
+                heading,
+                description,
+                headingTextColor,
+                descriptionTextColor,
+                buttonTextColor,
+                "Dismiss"
+        );
+    }
+
+    @Benchmark
+    public int statusDialogDataHashCode() {
+        return statusDialogData.hashCode();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.cache.LottieCompositionCache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Counts the layout passes of the window of each dialog type from {@code show()} until it is idle.
+ * <p>
+ * With synchronous binding, the texts and colors of the binding are applied inside {@code build()}, so the window of
+ * a dialog with binding expressions must be laid out exactly once, and fewer times than when the bindings are left
+ * for the next frame. The progress and Lottie layouts have no binding expressions, so the option must not change
+ * their count.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DialogLayoutPassTest extends DialogTestFixture {
+
+    /**
+     * How long the main looper runs after the dialog is shown.
+     */
+    private static final Duration SETTLE_TIME = Duration.ofMillis(200);
+
+    /**
+     * The dialog types whose layouts have no binding expressions.
+     */
+    private static final Set<DialogType> WITHOUT_BINDINGS = EnumSet.of(DialogType.PROGRESS, DialogType.LOTTIE);
+
+    /**
+     * The tested dialog type.
+     */
+    private final DialogType type;
+
+    public DialogLayoutPassTest(DialogType type) {
+        this.type = type;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return DialogType.parameters();
+    }
+
+    @Before
+    public void setUp() {
+        // Parse the animations up front, so that no composition arriving after the first frame lays the window out again
+        LottieCompositionCache.getInstance().load(activity, R.raw.success);
+        LottieCompositionCache.getInstance().load(activity, R.raw.failed);
+        LottieCompositionCache.getInstance().load(activity, R.raw.warning);
+    }
+
+    @Test
+    public void synchronousBindingLaysOutOnce() {
+        int passes = countLayoutPasses(type.build(PopupDialog.getInstance(activity), true));
+        int deferredPasses = countLayoutPasses(type.build(PopupDialog.getInstance(activity), false));
+
+        if (WITHOUT_BINDINGS.contains(type)) {
+            assertEquals(type.key() + " has no bindings, so synchronous binding must not change its layout passes",
+                    deferredPasses, passes);
+            return;
+        }
+
+        assertEquals(type.key() + " layout passes with synchronous binding", 1, passes);
+        assertTrue(
+                String.format(Locale.ROOT, "%s is laid out %d times with synchronous binding and %d times without",
+                        type.key(), passes, deferredPasses),
+                deferredPasses > passes
+        );
+    }
+
+    /**
+     * Shows a built dialog, runs the main looper until it is idle and dismisses the dialog.
+     *
+     * @param popupDialog The built dialog.
+     * @return The number of layout passes of its window.
+     */
+    private int countLayoutPasses(@NonNull PopupDialog popupDialog) {
+        int[] passes = {0};
+        ViewTreeObserver.OnGlobalLayoutListener listener = () -> passes[0]++;
+
+        popupDialog.show();
+        View decorView = popupDialog.getDialog().getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnGlobalLayoutListener(listener);
+        shadowOf(Looper.getMainLooper()).idleFor(SETTLE_TIME);
+        decorView.getViewTreeObserver().removeOnGlobalLayoutListener(listener);
+
+        popupDialog.dismiss();
+        shadowOf(Looper.getMainLooper()).idle();
+        return passes[0];
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.Collection;
+
+/**
+ * Checks the wall time and allocated bytes of building each dialog type, and of a show/dismiss cycle of a built
+ * dialog, against the checked-in budgets of {@link PerfBudgets}.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DialogPerformanceBudgetTest extends DialogTestFixture {
+
+    /**
+     * The budgets shared by every dialog type.
+     */
+    private static final PerfBudgets BUDGETS = PerfBudgets.load();
+
+    /**
+     * The measured dialog type.
+     */
+    private final DialogType type;
+
+    public DialogPerformanceBudgetTest(DialogType type) {
+        this.type = type;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return DialogType.parameters();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        BUDGETS.store();
+    }
+
+    @Test
+    public void build() {
+        Measurement measurement = Measurement.measure(() -> PopupDialog.getInstance(activity), type::build);
+        BUDGETS.verify(type.key() + ".build", measurement);
+    }
+
+    @Test
+    public void showDismiss() {
+        PopupDialog popupDialog = type.build(PopupDialog.getInstance(activity));
+        Measurement measurement = Measurement.measure(() -> popupDialog, dialog -> {
+            dialog.show();
+            shadowOf(Looper.getMainLooper()).idle();
+            dialog.dismiss();
+            shadowOf(Looper.getMainLooper()).idle();
+        });
+        BUDGETS.verify(type.key() + ".showDismiss", measurement);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.databinding.DataBindingUtil;
+import androidx.databinding.ViewDataBinding;
+
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.render.DialogRenderer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Compares the {@link DialogRenderer#XML} and {@link DialogRenderer#PROGRAMMATIC} renderers on the layouts built in
+ * code: the view tree of each is created, bound and measured for the first time, as when a dialog is built and shown.
+ * <p>
+ * Both trees must bind to the generated binding class, and the programmatic renderer must take less time and
+ * allocate fewer bytes than inflating. The bound trees are compared view by view in {@link DialogRendererBindingTest}.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DialogRendererBenchmarkTest extends DialogTestFixture {
+
+    /**
+     * The width available to the dialog window, in pixels.
+     */
+    private static final int WINDOW_WIDTH = 1080;
+
+    /**
+     * The name of the measured layout.
+     */
+    private final String name;
+
+    /**
+     * The measured layout resource ID.
+     */
+    private final int layout;
+
+    public DialogRendererBenchmarkTest(String name, int layout) {
+        this.name = name;
+        this.layout = layout;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+                new Object[]{"standard", R.layout.dialog_standard},
+                new Object[]{"status", R.layout.dialog_status},
+                new Object[]{"progress", R.layout.dialog_progress},
+                new Object[]{"lottie", R.layout.dialog_lottie}
+        );
+    }
+
+    @Test
+    public void programmaticIsFaster() {
+        Measurement inflated = Measurement.measure(() -> DialogRenderer.XML, renderer -> render(renderer, layout));
+        Measurement built = Measurement.measure(() -> DialogRenderer.PROGRAMMATIC, renderer -> render(renderer, layout));
+
+        String message = String.format(
+                Locale.ROOT,
+                "%s is built in %d ns and %d bytes, inflated in %d ns and %d bytes",
+                name, built.getNanos(), built.getBytes(), inflated.getNanos(), inflated.getBytes()
+        );
+        assertTrue(message, built.getNanos() < inflated.getNanos());
+        assertTrue(message, built.getBytes() < inflated.getBytes());
+    }
+
+    /**
+     * Creates the view tree of a layout, binds it and measures it as the content of a dialog window.
+     *
+     * @param renderer The renderer creating the tree.
+     * @param layout   The layout resource ID.
+     * @return The measured root view.
+     */
+    @NonNull
+    private View render(@NonNull DialogRenderer renderer, @LayoutRes int layout) {
+        View root = renderer.createView(activity, layout);
+        ViewDataBinding binding = DataBindingUtil.bind(root);
+        assertNotNull(binding);
+        root.measure(
+                View.MeasureSpec.makeMeasureSpec(WINDOW_WIDTH, View.MeasureSpec.AT_MOST),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
+        );
+        return root;
+    }
+}
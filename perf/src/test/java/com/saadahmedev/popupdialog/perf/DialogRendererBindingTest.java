@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.render.DialogRenderer;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.Collection;
+
+/**
+ * Builds each dialog type whose layout is also built in code with the {@link DialogRenderer#XML} and the
+ * {@link DialogRenderer#PROGRAMMATIC} renderers, and compares the two bound view trees view by view.
+ * <p>
+ * The programmatic trees reuse the binding tags generated from the layouts, so an edit to the binding expressions
+ * of a layout that is not mirrored in code binds the items to the wrong views. Every view must have the same ID,
+ * visibility, child count and measured size in both trees, and every text view the same text, size and color.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DialogRendererBindingTest extends DialogTestFixture {
+
+    /**
+     * The width available to the dialog window, in pixels.
+     */
+    private static final int WINDOW_WIDTH = 1080;
+
+    /**
+     * The tested dialog type.
+     */
+    private final DialogType type;
+
+    public DialogRendererBindingTest(DialogType type) {
+        this.type = type;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return DialogType.parameters(
+                DialogType.STANDARD,
+                DialogType.SUCCESS,
+                DialogType.ERROR,
+                DialogType.WARNING,
+                DialogType.PROGRESS,
+                DialogType.LOTTIE
+        );
+    }
+
+    @After
+    public void tearDown() {
+        DialogRenderer.setDefault(null);
+    }
+
+    @Test
+    public void sameBoundTree() {
+        View inflated = buildContent(DialogRenderer.XML);
+        View built = buildContent(DialogRenderer.PROGRAMMATIC);
+
+        assertSameView(type.key(), inflated, built);
+    }
+
+    /**
+     * Builds a dialog of the tested type with a renderer, executing its bindings, and measures its content view as
+     * in a dialog window.
+     *
+     * @param renderer The renderer creating the view tree.
+     * @return The measured root of the content view.
+     */
+    @NonNull
+    private View buildContent(@NonNull DialogRenderer renderer) {
+        DialogRenderer.setDefault(renderer);
+        PopupDialog popupDialog = type.build(PopupDialog.getInstance(activity), true);
+
+        ViewGroup content = popupDialog.getDialog().findViewById(android.R.id.content);
+        assertNotNull(type.key() + " has no content view", content);
+        assertEquals(type.key() + " content view", 1, content.getChildCount());
+
+        View root = content.getChildAt(0);
+        root.measure(
+                View.MeasureSpec.makeMeasureSpec(WINDOW_WIDTH, View.MeasureSpec.AT_MOST),
+                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
+        );
+        return root;
+    }
+
+    /**
+     * Compares a view of the inflated tree with the view at the same position in the programmatic tree, and then
+     * their children.
+     *
+     * @param path     The position of the views, for the failure messages.
+     * @param inflated The view of the inflated tree.
+     * @param built    The view of the programmatic tree.
+     */
+    private static void assertSameView(@NonNull String path, @NonNull View inflated, @NonNull View built) {
+        assertEquals(path + " id", inflated.getId(), built.getId());
+        assertEquals(path + " visibility", inflated.getVisibility(), built.getVisibility());
+        assertEquals(path + " width", inflated.getMeasuredWidth(), built.getMeasuredWidth());
+        assertEquals(path + " height", inflated.getMeasuredHeight(), built.getMeasuredHeight());
+
+        if (inflated instanceof TextView) {
+            assertTrue(path + " is a text view", built instanceof TextView);
+            TextView inflatedText = (TextView) inflated;
+            TextView builtText = (TextView) built;
+            assertEquals(path + " text", String.valueOf(inflatedText.getText()), String.valueOf(builtText.getText()));
+            assertEquals(path + " text size", inflatedText.getTextSize(), builtText.getTextSize(), 0F);
+            assertEquals(path + " text color", inflatedText.getCurrentTextColor(), builtText.getCurrentTextColor());
+        }
+
+        if (!(inflated instanceof ViewGroup)) return;
+        assertTrue(path + " is a view group", built instanceof ViewGroup);
+        ViewGroup inflatedGroup = (ViewGroup) inflated;
+        ViewGroup builtGroup = (ViewGroup) built;
+        assertEquals(path + " child count", inflatedGroup.getChildCount(), builtGroup.getChildCount());
+        for (int i = 0; i < inflatedGroup.getChildCount(); i++) {
+            View child = inflatedGroup.getChildAt(i);
+            String name = child.getId() == View.NO_ID
+                    ? String.valueOf(i)
+                    : child.getResources().getResourceEntryName(child.getId());
+            assertSameView(path + "/" + name, child, builtGroup.getChildAt(i));
+        }
+    }
+}
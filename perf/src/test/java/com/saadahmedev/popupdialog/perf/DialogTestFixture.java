@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import android.app.Activity;
+
+import org.junit.Before;
+import org.robolectric.Robolectric;
+
+/**
+ * The fixture shared by the dialog tests: a resumed activity, created before each test, for the dialogs to be built
+ * and shown in.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+abstract class DialogTestFixture {
+
+    /**
+     * The activity the dialogs are built and shown in.
+     */
+    protected Activity activity;
+
+    @Before
+    public void createActivity() {
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.dialog.standard.StandardDialog;
+import com.saadahmedev.popupdialog.dialog.status.SuccessDialog;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
+import com.saadahmedev.popupdialog.trace.InMemoryTraceSink;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records the trace sections of building and showing a standard and a status dialog with an
+ * {@link InMemoryTraceSink}, and checks their order, nesting and durations.
+ * <p>
+ * The inflate, setItem and show sections of a dialog must each be begun once, in that order, as top-level sections
+ * of the main thread. Every section must be closed, even the ones of the drawables and fonts resolved on the way,
+ * and no section may last longer than the section it is nested in.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DialogTraceTest extends DialogTestFixture {
+
+    /**
+     * The traced dialog type.
+     */
+    private final DialogType type;
+
+    /**
+     * The builder class the sections of the dialog type are named after.
+     */
+    private final Class<?> dialogClass;
+
+    /**
+     * The sink recording the sections.
+     */
+    private final InMemoryTraceSink sink = new InMemoryTraceSink();
+
+    public DialogTraceTest(DialogType type, Class<?> dialogClass) {
+        this.type = type;
+        this.dialogClass = dialogClass;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+                new Object[]{DialogType.STANDARD, StandardDialog.class},
+                new Object[]{DialogType.SUCCESS, SuccessDialog.class}
+        );
+    }
+
+    @Before
+    public void installSink() {
+        DialogTrace.setSink(sink);
+    }
+
+    @After
+    public void restoreSink() {
+        DialogTrace.setSink(null);
+    }
+
+    @Test
+    public void inflateSetItemShow() {
+        PopupDialog popupDialog = type.build(PopupDialog.getInstance(activity), true);
+        popupDialog.show();
+        shadowOf(Looper.getMainLooper()).idle();
+        popupDialog.dismiss();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        List<InMemoryTraceSink.Section> sections = sink.getSections();
+        InMemoryTraceSink.Section inflate = single(DialogTrace.INFLATE);
+        InMemoryTraceSink.Section setItem = single(DialogTrace.SET_ITEM);
+        InMemoryTraceSink.Section show = single(DialogTrace.SHOW);
+
+        assertTrue(type.key() + " inflates before setting the item", sections.indexOf(inflate) < sections.indexOf(setItem));
+        assertTrue(type.key() + " sets the item before showing", sections.indexOf(setItem) < sections.indexOf(show));
+
+        for (InMemoryTraceSink.Section section : Arrays.asList(inflate, setItem, show)) {
+            assertNull(section + " must be a top-level section", section.getParent());
+            assertEquals(section + " must run on the main thread",
+                    Looper.getMainLooper().getThread().getName(), section.getThreadName());
+        }
+
+        for (InMemoryTraceSink.Section section : sections) {
+            assertTrue(section.getName() + " must be closed", section.isClosed());
+            assertTrue(section + " must have a duration", section.getDurationNanos() > 0);
+
+            InMemoryTraceSink.Section parent = section.getParent();
+            if (parent == null) continue;
+            assertEquals(section + " must run on the thread of " + parent, parent.getThreadName(), section.getThreadName());
+            assertTrue(section + " must not outlast " + parent, section.getDurationNanos() <= parent.getDurationNanos());
+        }
+    }
+
+    /**
+     * Gets the only section of a phase of the traced dialog.
+     *
+     * @param phase The phase, such as {@link DialogTrace#INFLATE}.
+     * @return The section.
+     */
+    @NonNull
+    private InMemoryTraceSink.Section single(@NonNull String phase) {
+        List<InMemoryTraceSink.Section> matching = sink.getSections(DialogTrace.sectionName(dialogClass, phase));
+        assertEquals(type.key() + " " + phase + " sections", 1, matching.size());
+        return matching.get(0);
+    }
+}
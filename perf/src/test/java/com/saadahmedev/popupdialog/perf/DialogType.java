@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import android.app.Dialog;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
+import com.saadahmedev.popupdialog.listener.StatusDialogActionListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+
+/**
+ * The dialog types whose performance is budgeted, each built the way an app typically configures it.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+enum DialogType {
+
+    STANDARD((popupDialog, synchronous) -> popupDialog.standardDialogBuilder()
+            .createStandardDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Logout")
+            .setDescription("Are you sure you want to logout? This action cannot be undone")
+            .setIcon(android.R.drawable.ic_dialog_alert)
+            .build(Listeners.STANDARD)),
+
+    ALERT((popupDialog, synchronous) -> popupDialog.standardDialogBuilder()
+            .createAlertDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Logout")
+            .setDescription("Are you sure you want to logout? This action cannot be undone")
+            .build(Listeners.STANDARD)),
+
+    IOS((popupDialog, synchronous) -> popupDialog.standardDialogBuilder()
+            .createIOSDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Logout")
+            .setDescription("Are you sure you want to logout? This action cannot be undone")
+            .build(Listeners.STANDARD)),
+
+    SUCCESS((popupDialog, synchronous) -> popupDialog.statusDialogBuilder()
+            .createSuccessDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Well Done")
+            .setDescription("You have successfully completed the task")
+            .build(Listeners.STATUS)),
+
+    ERROR((popupDialog, synchronous) -> popupDialog.statusDialogBuilder()
+            .createErrorDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Uh-Oh")
+            .setDescription("Unexpected error occurred. Try again later.")
+            .build(Listeners.STATUS)),
+
+    WARNING((popupDialog, synchronous) -> popupDialog.statusDialogBuilder()
+            .createWarningDialog()
+            .setSynchronousBinding(synchronous)
+            .setHeading("Pending")
+            .setDescription("Your verification is under observation. Try again later.")
+            .build(Listeners.STATUS)),
+
+    PROGRESS((popupDialog, synchronous) -> popupDialog.progressDialogBuilder()
+            .createProgressDialog()
+            .setSynchronousBinding(synchronous)
+            .build()),
+
+    LOTTIE((popupDialog, synchronous) -> popupDialog.progressDialogBuilder()
+            .createLottieDialog()
+            .setSynchronousBinding(synchronous)
+            .setRawRes(R.raw.success)
+            .build());
+
+    /**
+     * Configures and builds a dialog of this type, with or without synchronous binding.
+     */
+    private final BiFunction<PopupDialog, Boolean, PopupDialog> builder;
+
+    DialogType(@NonNull BiFunction<PopupDialog, Boolean, PopupDialog> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Configures and builds a dialog of this type.
+     *
+     * @param popupDialog The dialog to build.
+     * @return The built dialog.
+     */
+    @NonNull
+    PopupDialog build(@NonNull PopupDialog popupDialog) {
+        return build(popupDialog, false);
+    }
+
+    /**
+     * Configures and builds a dialog of this type.
+     *
+     * @param popupDialog The dialog to build.
+     * @param synchronous Whether the bindings are executed inside {@code build()}.
+     * @return The built dialog.
+     */
+    @NonNull
+    PopupDialog build(@NonNull PopupDialog popupDialog, boolean synchronous) {
+        return builder.apply(popupDialog, synchronous);
+    }
+
+    /**
+     * Gets the prefix of the budget keys of this type.
+     *
+     * @return The lower case name of the type.
+     */
+    @NonNull
+    String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the parameters of a test run once per dialog type.
+     *
+     * @return One parameter array per dialog type.
+     */
+    @NonNull
+    static Collection<Object[]> parameters() {
+        return parameters(values());
+    }
+
+    /**
+     * Gets the parameters of a test run once per given dialog type.
+     *
+     * @param types The dialog types to run the test with.
+     * @return One parameter array per dialog type.
+     */
+    @NonNull
+    static Collection<Object[]> parameters(@NonNull DialogType... types) {
+        List<Object[]> parameters = new ArrayList<>();
+        for (DialogType type : types) {
+            parameters.add(new Object[]{type});
+        }
+        return parameters;
+    }
+
+    /**
+     * The action listeners shared by every built dialog.
+     */
+    private static final class Listeners {
+
+        /** Dismisses a standard dialog on either button. */
+        private static final StandardDialogActionListener STANDARD = new StandardDialogActionListener() {
+            @Override
+            public void onPositiveButtonClicked(Dialog dialog) {
+                dialog.dismiss();
+            }
+
+            @Override
+            public void onNegativeButtonClicked(Dialog dialog) {
+                dialog.dismiss();
+            }
+        };
+
+        /** Dismisses a status dialog on its action button. */
+        private static final StatusDialogActionListener STATUS = Dialog::dismiss;
+    }
+}
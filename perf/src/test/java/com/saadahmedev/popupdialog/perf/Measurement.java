@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import androidx.annotation.NonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The wall time and allocated bytes of an operation, measured over a number of iterations after a warm-up.
+ * <p>
+ * The wall time is the median of the iterations, so that a single garbage collection or class loading pause does not
+ * fail a budget. The allocated bytes are the mean of the iterations, read from the allocation counter of the current
+ * thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+final class Measurement {
+
+    /**
+     * The number of iterations run before measuring.
+     */
+    static final int WARMUP_ITERATIONS = 20;
+
+    /**
+     * The number of measured iterations.
+     */
+    static final int MEASURED_ITERATIONS = 50;
+
+    /**
+     * The allocation counter of the threads of the JVM.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * The median wall time of an iteration, in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * The mean number of bytes allocated by an iteration.
+     */
+    private final long bytes;
+
+    private Measurement(long nanos, long bytes) {
+        this.nanos = nanos;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Measures an operation. The subject of each iteration is created before the iteration starts, so that
+     * neither its wall time nor its allocations are measured.
+     *
+     * @param subject   Creates the subject of an iteration.
+     * @param operation The measured operation.
+     * @param <T>       The type of the subject.
+     * @return The measurement.
+     */
+    @NonNull
+    static <T> Measurement measure(@NonNull Supplier<T> subject, @NonNull Consumer<T> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.accept(subject.get());
+        }
+
+        long[] nanos = new long[MEASURED_ITERATIONS];
+        long bytes = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            T value = subject.get();
+            long startBytes = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            operation.accept(value);
+            nanos[i] = System.nanoTime() - start;
+            bytes += THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        }
+
+        Arrays.sort(nanos);
+        return new Measurement(nanos[MEASURED_ITERATIONS / 2], bytes / MEASURED_ITERATIONS);
+    }
+
+    /**
+     * Gets the median wall time of an iteration.
+     *
+     * @return The wall time in nanoseconds.
+     */
+    long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Gets the mean number of bytes allocated by an iteration.
+     *
+     * @return The allocated bytes.
+     */
+    long getBytes() {
+        return bytes;
+    }
+}
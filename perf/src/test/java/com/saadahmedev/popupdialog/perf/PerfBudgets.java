@@ -0,0 +1,203 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * The checked-in performance budgets, read from the file named by the {@code perf.budgets} system property.
+ * <p>
+ * Each budget is a {@code <type>.<operation>.nanos} or {@code <type>.<operation>.bytes} entry. Budgets written from
+ * measurements carry {@code measured=true}, and a measurement fails when it exceeds its budget by more than the
+ * percentage of the {@code perf.tolerance} system property. Without that entry the budgets are hand-picked ceilings,
+ * which cannot tell a small regression from noise, so a measurement only fails when it exceeds its ceiling. When the
+ * {@code perf.update} system property is set, measurements are recorded as the new budgets instead of being checked,
+ * and the file is rewritten with its header comment kept and its entries sorted, so that regenerating it only shows
+ * the changed values in a diff.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+final class PerfBudgets {
+
+    /**
+     * The tolerance used when none is configured, in percent.
+     */
+    private static final double DEFAULT_TOLERANCE = 20;
+
+    /**
+     * The entry marking budgets written from measurements rather than picked by hand.
+     */
+    private static final String MEASURED = "measured";
+
+    /**
+     * The file holding the budgets.
+     */
+    private final String file;
+
+    /**
+     * The percentage by which a measurement may exceed its budget.
+     */
+    private final double tolerance;
+
+    /**
+     * Whether measurements are recorded as the new budgets.
+     */
+    private final boolean update;
+
+    /**
+     * The budgets, keyed by measurement.
+     */
+    private final Properties budgets = new Properties();
+
+    /**
+     * The comment lines at the top of the budgets file, written back by {@link #store()}.
+     */
+    private final List<String> header = new ArrayList<>();
+
+    private PerfBudgets(@NonNull String file, double tolerance, boolean update) {
+        this.file = file;
+        this.tolerance = tolerance;
+        this.update = update;
+    }
+
+    /**
+     * Loads the budgets configured by the system properties.
+     *
+     * @return The budgets.
+     */
+    @NonNull
+    static PerfBudgets load() {
+        String file = System.getProperty("perf.budgets", "src/test/resources/perf-budgets.properties");
+        double tolerance = Double.parseDouble(System.getProperty("perf.tolerance", String.valueOf(DEFAULT_TOLERANCE)));
+        PerfBudgets perfBudgets = new PerfBudgets(file, tolerance, Boolean.getBoolean("perf.update"));
+
+        try (InputStream input = new FileInputStream(file)) {
+            perfBudgets.budgets.load(input);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the performance budgets from " + file, e);
+        }
+
+        // Properties drops comments, so the header is read separately to be written back by store()
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1))) {
+            String line;
+            while ((line = reader.readLine()) != null && line.startsWith("#")) perfBudgets.header.add(line);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the performance budgets from " + file, e);
+        }
+        return perfBudgets;
+    }
+
+    /**
+     * Checks a measurement against its budgets, or records it as the new budgets when updating.
+     *
+     * @param key         The key of the measured operation, such as {@code standard.build}.
+     * @param measurement The measurement.
+     * @throws AssertionError if the wall time or the allocated bytes exceed their budget by more than the tolerance,
+     *                        or exceed their ceiling when the budgets have not been measured.
+     */
+    synchronized void verify(@NonNull String key, @NonNull Measurement measurement) {
+        if (update) {
+            budgets.setProperty(key + ".nanos", String.valueOf(measurement.getNanos()));
+            budgets.setProperty(key + ".bytes", String.valueOf(measurement.getBytes()));
+            budgets.setProperty(MEASURED, "true");
+            return;
+        }
+
+        String failure = check(key + ".nanos", measurement.getNanos(), "ns");
+        String bytesFailure = check(key + ".bytes", measurement.getBytes(), "bytes");
+        if (failure == null) failure = bytesFailure;
+        else if (bytesFailure != null) failure += "\n" + bytesFailure;
+
+        if (failure != null) throw new AssertionError(failure);
+    }
+
+    /**
+     * Writes the recorded budgets back to the budgets file when updating, keeping its header comment and
+     * writing the {@code measured} entry first and the budgets in sorted order.
+     */
+    synchronized void store() {
+        if (!update) return;
+
+        TreeSet<String> keys = new TreeSet<>(budgets.stringPropertyNames());
+        keys.remove(MEASURED);
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1)) {
+            for (String line : header) writer.write(line + "\n");
+            writer.write(MEASURED + "=" + budgets.getProperty(MEASURED, "false") + "\n");
+            for (String key : keys) writer.write(key + "=" + budgets.getProperty(key) + "\n");
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write the performance budgets to " + file, e);
+        }
+    }
+
+    /**
+     * Checks a measured value against its budget.
+     *
+     * @param key      The key of the budget.
+     * @param measured The measured value.
+     * @param unit     The unit of the value, for the failure message.
+     * @return The failure message, or null if the value is within budget.
+     */
+    private String check(@NonNull String key, long measured, @NonNull String unit) {
+        String budget = budgets.getProperty(key);
+        if (budget == null) return "No budget for " + key + " (measured " + measured + " " + unit + ")";
+
+        long limit = Long.parseLong(budget.trim());
+        if (!isMeasured()) {
+            if (measured <= limit) return null;
+            return String.format(
+                    Locale.ROOT,
+                    "%s is %d %s, over its ceiling of %d %s",
+                    key, measured, unit, limit, unit
+            );
+        }
+
+        double allowed = limit * (1 + tolerance / 100);
+        if (measured <= allowed) return null;
+
+        return String.format(
+                Locale.ROOT,
+                "%s is %d %s, %.1f%% over its budget of %d %s (tolerance %.1f%%)",
+                key, measured, unit, (measured - limit) * 100.0 / limit, limit, unit, tolerance
+        );
+    }
+
+    /**
+     * Checks whether the budgets were written from measurements, so that the tolerance is meaningful.
+     *
+     * @return True if the budgets were measured, false if they are hand-picked ceilings.
+     */
+    private boolean isMeasured() {
+        return Boolean.parseBoolean(budgets.getProperty(MEASURED));
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.perf;
+
+import static org.junit.Assert.assertEquals;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Color;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.cache.ResourceCache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Resolves a color defined under both the default and the {@code -night} qualifiers through {@link ResourceCache},
+ * and checks that each configuration gets its own value and that only the first lookup of each is a miss.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ResourceCacheTest {
+
+    /**
+     * The cache under test, emptied around each test.
+     */
+    private final ResourceCache cache = ResourceCache.getInstance();
+
+    /**
+     * A context with the default, light, configuration.
+     */
+    private Context day;
+
+    /**
+     * A context with the night configuration.
+     */
+    private Context night;
+
+    @Before
+    public void setUp() {
+        cache.clear();
+        day = withNightMode(RuntimeEnvironment.getApplication(), Configuration.UI_MODE_NIGHT_NO);
+        night = withNightMode(RuntimeEnvironment.getApplication(), Configuration.UI_MODE_NIGHT_YES);
+    }
+
+    @After
+    public void tearDown() {
+        cache.clear();
+    }
+
+    @Test
+    public void resolvesEachConfigurationOnce() {
+        assertEquals(Color.BLACK, cache.getColor(day, R.color.text_color));
+        assertCounts(0, 1);
+        assertEquals(Color.WHITE, cache.getColor(night, R.color.text_color));
+        assertCounts(0, 2);
+
+        // Switching back and forth must serve both values from their own configuration
+        assertEquals(Color.BLACK, cache.getColor(day, R.color.text_color));
+        assertCounts(1, 2);
+        assertEquals(Color.WHITE, cache.getColor(night, R.color.text_color));
+        assertCounts(2, 2);
+        assertEquals(Color.WHITE, cache.getColor(night, R.color.text_color));
+        assertCounts(3, 2);
+    }
+
+    @Test
+    public void clearResetsValuesAndCounters() {
+        cache.getColor(day, R.color.text_color);
+        cache.getColor(day, R.color.text_color);
+        assertCounts(1, 1);
+
+        cache.clear();
+        assertCounts(0, 0);
+        assertEquals(Color.WHITE, cache.getColor(night, R.color.text_color));
+        assertCounts(0, 1);
+    }
+
+    /**
+     * Creates a context whose configuration only differs from the given one by its night mode.
+     *
+     * @param context   The base context.
+     * @param nightMode {@link Configuration#UI_MODE_NIGHT_YES} or {@link Configuration#UI_MODE_NIGHT_NO}.
+     * @return The context with the night mode applied.
+     */
+    @NonNull
+    private static Context withNightMode(@NonNull Context context, int nightMode) {
+        Configuration configuration = new Configuration(context.getResources().getConfiguration());
+        configuration.uiMode = (configuration.uiMode & ~Configuration.UI_MODE_NIGHT_MASK) | nightMode;
+        return context.createConfigurationContext(configuration);
+    }
+
+    /**
+     * Checks the hit and miss counters of the cache.
+     *
+     * @param hits   The expected number of hits.
+     * @param misses The expected number of misses.
+     */
+    private void assertCounts(long hits, long misses) {
+        assertEquals("hits", hits, cache.getHitCount());
+        assertEquals("misses", misses, cache.getMissCount());
+    }
+}
@@ -16,20 +16,55 @@
 
 package com.saadahmedev.popupdialog;
 
+import android.app.Activity;
+import android.app.Application;
 import android.app.Dialog;
 import android.content.Context;
-import android.os.Handler;
-import android.os.Looper;
+import android.content.DialogInterface;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RawRes;
+import androidx.databinding.ViewDataBinding;
+
+import com.airbnb.lottie.LottieAnimationView;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.DialogTask;
+import com.saadahmedev.popupdialog.async.DialogTimerWheel;
+import com.saadahmedev.popupdialog.async.FutureDialogTask;
+import com.saadahmedev.popupdialog.base.BaseStatusDialog;
+import com.saadahmedev.popupdialog.cache.LottieCompositionCache;
 import com.saadahmedev.popupdialog.dialogType.ProgressTypeDialog;
 import com.saadahmedev.popupdialog.dialogType.StandardTypeDialog;
 import com.saadahmedev.popupdialog.dialogType.StatusTypeDialog;
 import com.saadahmedev.popupdialog.dto.BaseStandardDialogData;
 import com.saadahmedev.popupdialog.dto.BaseStatusDialogData;
 import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.metrics.DialogPhase;
+import com.saadahmedev.popupdialog.metrics.PopupDialogMetrics;
+import com.saadahmedev.popupdialog.queue.PopupDialogQueue;
+import com.saadahmedev.popupdialog.registry.PopupDialogRegistry;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
+import com.saadahmedev.popupdialog.util.ActivityDestroyedCallbacks;
+import com.saadahmedev.popupdialog.util.ContextUtil;
 import com.saadahmedev.popupdialog.util.ImageBinder;
 import com.saadahmedev.popupdialog.util.TextBinder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+
 /**
  * Represents a utility class for creating and managing different types of dialogs within an Android application.
  * <p>
@@ -49,6 +84,12 @@ import com.saadahmedev.popupdialog.util.TextBinder;
  * <p>
  * Additionally, this class utilizes utility classes such as {@link ImageBinder} and {@link TextBinder} for data binding operations,
  * facilitating the dynamic setting of image resources and text colors in dialog layouts.
+ * <p>
+ * Every dialog registers itself with the {@link PopupDialogRegistry}, which dismisses and releases it once the
+ * Activity it belongs to is destroyed.
+ * <p>
+ * The underlying {@link Dialog} and its window are only created once a builder sets the content view, or
+ * {@link #getDialog()} is first called, so that a status dialog coalesced into an identical one never allocates them.
  *
  * @see ProgressTypeDialog
  * @see StandardTypeDialog
@@ -63,28 +104,164 @@ import com.saadahmedev.popupdialog.util.TextBinder;
  */
 public class PopupDialog {
 
-    private final Dialog dialog;
+    /**
+     * The recyclable dialogs of every live Activity.
+     */
+    private static final Map<Activity, PopupDialog> RECYCLABLE = new HashMap<>();
+
+    /**
+     * Whether the Activity lifecycle callbacks releasing the recyclable dialogs have been registered.
+     */
+    private static boolean lifecycleRegistered = false;
+
+    /**
+     * The underlying dialog, created on first use by {@link #getDialog()}.
+     */
+    private Dialog dialog;
+
+    /**
+     * The context the dialog is created with.
+     */
+    private final Context hostContext;
+
+    /**
+     * The context of the dialog, themed with the dialog theme of its host.
+     */
     private final Context context;
 
+    /**
+     * Whether the dialog is cancelable, applied to the {@link Dialog} once it is created.
+     */
+    private boolean cancelable = true;
+
+    /**
+     * Whether the dialog keeps its content view to be rebound by the next builder.
+     */
+    private final boolean recyclable;
+
+    /**
+     * The binding currently set as the content view, kept for recyclable dialogs only.
+     */
+    private ViewDataBinding contentBinding;
+
+    /**
+     * The binding currently set as the content view, kept so that {@link #release()} can drop its variables.
+     */
+    private ViewDataBinding boundBinding;
+
+    /**
+     * Whether the binding of the content view went back to the binding pool, so that the dialog must be built again
+     * before being shown.
+     */
+    private boolean contentReleased = false;
+
+    /**
+     * The layout resource ID of the content view.
+     */
+    private int contentLayout;
+
+    /**
+     * The class of the builder that set the content view, reported to {@link PopupDialogMetrics}.
+     */
+    private Class<?> contentClass = PopupDialog.class;
+
+    /**
+     * Restores the views of {@link #contentBinding} to their layout defaults before the next builder rebinds it.
+     */
+    private Runnable contentReset;
+
+    /**
+     * The duration after which the dialog is dismissed once shown, in milliseconds, or 0 for no timeout.
+     */
+    private long timeout = 0;
+
+    /**
+     * The timeout scheduled on the {@link DialogTimerWheel} since the dialog was shown, if any.
+     */
+    private DialogTimerWheel.Timeout pendingTimeout;
+
+    /**
+     * Listeners notified when the dialog is dismissed, in registration order.
+     */
+    private final List<DialogInterface.OnDismissListener> dismissListeners = new ArrayList<>();
+
+    /**
+     * Listeners notified when the dialog is cancelled by the user, in registration order.
+     */
+    private final List<DialogInterface.OnCancelListener> cancelListeners = new ArrayList<>();
+
+    /**
+     * Whether the dismiss listeners were already notified for the dismiss message the {@link Dialog} has yet to deliver.
+     */
+    private boolean dismissDispatched = false;
+
     /**
      * Constructs a new PopupDialog instance with the given context.
      *
      * @param context The context used to create the dialog.
      */
     private PopupDialog(Context context) {
-        this.dialog = new Dialog(context);
-        this.context = this.dialog.getContext();
+        this(context, false);
+    }
+
+    /**
+     * Constructs a new PopupDialog instance with the given context.
+     *
+     * @param context    The context used to create the dialog.
+     * @param recyclable Whether the dialog keeps its content view to be rebound by the next builder.
+     */
+    private PopupDialog(Context context, boolean recyclable) {
+        this.recyclable = recyclable;
+        this.hostContext = context;
+        this.context = createDialogContext(context);
+
+        // Release the dialog once its host is destroyed
+        if (DialogExecutors.isMainThread()) PopupDialogRegistry.getInstance().register(this);
+        else DialogExecutors.postToMainThread(() -> PopupDialogRegistry.getInstance().register(this));
     }
 
     /**
      * Retrieves the underlying Dialog object.
+     * <p>
+     * Its dismiss and cancel listeners are set by the PopupDialog, which dispatches them to the listeners registered
+     * with {@link #addOnDismissListener(DialogInterface.OnDismissListener)} and
+     * {@link #addOnCancelListener(DialogInterface.OnCancelListener)}. They must not be replaced: the binding pool,
+     * the queue, the coalescer and the timeout all rely on them.
      *
      * @return The Dialog object.
      */
     public Dialog getDialog() {
+        if (this.dialog == null) {
+            this.dialog = new Dialog(this.hostContext);
+            this.dialog.setCancelable(this.cancelable);
+            this.dialog.setOnDismissListener(this::dispatchDismiss);
+            this.dialog.setOnCancelListener(this::dispatchCancel);
+        }
         return this.dialog;
     }
 
+    /**
+     * Wraps the context with the dialog theme of its host, as {@link Dialog} does, so that builders resolve
+     * the same resources before the {@link Dialog} is created.
+     *
+     * @param context The context used to create the dialog.
+     * @return The context themed with the dialog theme.
+     */
+    private static Context createDialogContext(Context context) {
+        TypedValue outValue = new TypedValue();
+        context.getTheme().resolveAttribute(android.R.attr.dialogTheme, outValue, true);
+        return new ContextThemeWrapper(context, outValue.resourceId);
+    }
+
+    /**
+     * Checks whether the dialog has been created and is showing.
+     *
+     * @return True if the dialog is showing.
+     */
+    private boolean isShowing() {
+        return this.dialog != null && this.dialog.isShowing();
+    }
+
     /**
      * Retrieves the context associated with the dialog.
      *
@@ -104,6 +281,68 @@ public class PopupDialog {
         return new PopupDialog(context);
     }
 
+    /**
+     * Gets the recyclable PopupDialog of the Activity the context belongs to, reset and ready to be configured
+     * through any builder.
+     * <p>
+     * A recyclable dialog keeps its {@link Dialog}, window and content view after being dismissed. The next builder
+     * using the same layout rebinds the existing views instead of inflating them again, and a builder using another
+     * layout swaps the content view. If the recyclable dialog is still showing, or the context does not belong to an
+     * Activity, a regular dialog is returned instead. The recyclable dialog is released when its Activity is destroyed.
+     *
+     * @param context The context used to create the dialog.
+     * @return The recyclable PopupDialog instance of the Activity.
+     */
+    public static PopupDialog obtain(Context context) {
+        Activity activity = ContextUtil.findActivity(context);
+        if (activity == null) return new PopupDialog(context);
+
+        PopupDialog popupDialog = RECYCLABLE.get(activity);
+        if (popupDialog == null) {
+            popupDialog = new PopupDialog(activity, true);
+            RECYCLABLE.put(activity, popupDialog);
+            registerLifecycle(activity.getApplication());
+            return popupDialog;
+        }
+
+        if (popupDialog.isShowing()) return new PopupDialog(context);
+        return popupDialog.reset();
+    }
+
+    /**
+     * Parses the Lottie animations of the success, error and warning dialogs in the background,
+     * so that the first dialog of each kind does not parse its animation when it is built.
+     *
+     * @param context The context used to open the animations.
+     */
+    public static void prewarm(Context context) {
+        LottieCompositionCache.getInstance().prefetch(context, R.raw.success, R.raw.failed, R.raw.warning);
+    }
+
+    /**
+     * Parses the given Lottie raw resources in the background, in addition to the animations of the
+     * success, error and warning dialogs.
+     *
+     * @param context The context used to open the animations.
+     * @param rawRes  The raw resource IDs of the animations.
+     */
+    public static void prewarm(Context context, @RawRes int... rawRes) {
+        prewarm(context);
+        LottieCompositionCache.getInstance().prefetch(context, rawRes);
+    }
+
+    /**
+     * Parses the given Lottie assets in the background, in addition to the animations of the
+     * success, error and warning dialogs.
+     *
+     * @param context The context used to open the animations.
+     * @param assets  The asset file names of the animations.
+     */
+    public static void prewarm(Context context, String... assets) {
+        prewarm(context);
+        LottieCompositionCache.getInstance().prefetch(context, assets);
+    }
+
     /**
      * Creates a ProgressTypeDialog instance.
      *
@@ -138,38 +377,508 @@ public class PopupDialog {
      * @return The PopupDialog instance.
      */
     public PopupDialog setCancelable(boolean isCancelable) {
-        this.dialog.setCancelable(isCancelable);
+        this.cancelable = isCancelable;
+        if (this.dialog != null) this.dialog.setCancelable(isCancelable);
         return this;
     }
 
     /**
      * Sets a timeout for the dialog to automatically dismiss after a specified duration.
+     * <p>
+     * The duration is counted from the moment the dialog is shown, or from now if it is already showing,
+     * and the timeout is cancelled when the dialog is dismissed.
      *
      * @param milliseconds The duration in milliseconds before the dialog is automatically dismissed.
      * @return The PopupDialog instance.
      */
     public PopupDialog setTimeout(long milliseconds) {
-        new Handler(Looper.getMainLooper()).postDelayed(() -> {
-            if (this.dialog.isShowing()) this.dialog.dismiss();
-        }, milliseconds);
+        this.timeout = milliseconds;
+        if (isShowing()) scheduleTimeout();
+        return this;
+    }
+
+    /**
+     * Schedules the timeout on the {@link DialogTimerWheel}, replacing the one already scheduled.
+     */
+    private void scheduleTimeout() {
+        cancelTimeout();
+        if (this.timeout > 0) {
+            this.pendingTimeout = DialogTimerWheel.getInstance().schedule(this.timeout, this.dialog::dismiss);
+        }
+    }
+
+    /**
+     * Cancels the scheduled timeout, if any.
+     */
+    private void cancelTimeout() {
+        if (this.pendingTimeout != null) {
+            this.pendingTimeout.cancel();
+            this.pendingTimeout = null;
+        }
+    }
+
+    /**
+     * Registers a listener to be notified when the dialog is dismissed.
+     * <p>
+     * The underlying {@link Dialog} only holds a single dismiss listener, so the library components
+     * that need to react to dismissal (such as the binding pool) register themselves here instead.
+     *
+     * @param listener The listener to be notified on dismiss.
+     * @return The PopupDialog instance.
+     */
+    public PopupDialog addOnDismissListener(@NonNull DialogInterface.OnDismissListener listener) {
+        this.dismissListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addOnDismissListener(DialogInterface.OnDismissListener)}.
+     * It may be called from the listener itself.
+     *
+     * @param listener The listener to remove.
+     * @return The PopupDialog instance.
+     */
+    public PopupDialog removeOnDismissListener(@NonNull DialogInterface.OnDismissListener listener) {
+        this.dismissListeners.remove(listener);
         return this;
     }
 
+    /**
+     * Registers a listener to be notified when the dialog is cancelled, by pressing back or touching outside of it.
+     * The dismiss listeners are notified afterwards.
+     *
+     * @param listener The listener to be notified on cancel.
+     * @return The PopupDialog instance.
+     */
+    public PopupDialog addOnCancelListener(@NonNull DialogInterface.OnCancelListener listener) {
+        this.cancelListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Shows the dialog while a future is running, and dismisses it once the future completes.
+     * Cancelling the dialog cancels the future. Must be called on the main thread.
+     *
+     * @param future The future the dialog is shown for.
+     * @param <V>    The type of the result of the future.
+     * @return The PopupDialog instance.
+     * @see FutureDialogTask
+     */
+    public <V> PopupDialog showWhile(@NonNull Future<V> future) {
+        return showWhile(FutureDialogTask.getInstance(future), null, null);
+    }
+
+    /**
+     * Shows the dialog while a future is running, and replaces it with a success or an error dialog once the future
+     * completes. Cancelling the dialog cancels the future, and shows neither of them. Must be called on the main thread.
+     *
+     * @param future        The future the dialog is shown for.
+     * @param successDialog The unbuilt dialog shown if the future succeeds, such as a {@code SuccessDialog}, or null.
+     * @param errorDialog   The unbuilt dialog shown if the future fails, such as an {@code ErrorDialog}, or null.
+     * @param <V>           The type of the result of the future.
+     * @return The PopupDialog instance.
+     * @see FutureDialogTask
+     */
+    public <V> PopupDialog showWhile(
+            @NonNull Future<V> future,
+            @Nullable BaseStatusDialog<?, ?> successDialog,
+            @Nullable BaseStatusDialog<?, ?> errorDialog) {
+        return showWhile(FutureDialogTask.getInstance(future), successDialog, errorDialog);
+    }
+
+    /**
+     * Shows the dialog while a task is running, and dismisses it once the task completes.
+     * Cancelling the dialog cancels the task. Must be called on the main thread.
+     *
+     * @param task The task the dialog is shown for.
+     * @param <V>  The type of the result of the task.
+     * @return The PopupDialog instance.
+     */
+    public <V> PopupDialog showWhile(@NonNull DialogTask<V> task) {
+        return showWhile(task, null, null);
+    }
+
+    /**
+     * Shows the dialog while a task is running, and replaces it with a success or an error dialog once the task
+     * completes. Cancelling the dialog cancels the task, and shows neither of them. Must be called on the main thread.
+     *
+     * @param task          The task the dialog is shown for.
+     * @param successDialog The unbuilt dialog shown if the task succeeds, such as a {@code SuccessDialog}, or null.
+     * @param errorDialog   The unbuilt dialog shown if the task fails, such as an {@code ErrorDialog}, or null.
+     * @param <V>           The type of the result of the task.
+     * @return The PopupDialog instance.
+     */
+    public <V> PopupDialog showWhile(
+            @NonNull DialogTask<V> task,
+            @Nullable BaseStatusDialog<?, ?> successDialog,
+            @Nullable BaseStatusDialog<?, ?> errorDialog) {
+        show();
+
+        TaskObserver<V> observer = new TaskObserver<>(task, successDialog, errorDialog);
+        addOnCancelListener(observer);
+        task.start(observer);
+        return this;
+    }
+
+    /**
+     * Dismisses the dialog and clears everything configured for its previous content: dismiss listeners,
+     * pending timeouts, tasks started with {@code showWhile}, which are cancelled, and cancelability.
+     * The content view is kept, so that the next builder can rebind it.
+     *
+     * @return The PopupDialog instance.
+     */
+    public PopupDialog reset() {
+        dismissAndNotify();
+        cancelTasks();
+        cancelTimeout();
+        this.timeout = 0;
+        this.dismissListeners.clear();
+        this.cancelListeners.clear();
+        setCancelable(true);
+        return this;
+    }
+
+    /**
+     * Dismisses the dialog and drops everything that may keep its host alive: the timeout, the tasks started with
+     * {@code showWhile}, which are cancelled, the dismiss and cancel listeners, once notified of the dismissal, the
+     * listener and dialog variables of its binding, and the listeners of its Lottie animations, which are stopped.
+     * The dialog must not be shown again. It is called by the {@link PopupDialogRegistry} once the host of the dialog
+     * is destroyed.
+     */
+    public void release() {
+        dismissAndNotify();
+        cancelTasks();
+        cancelTimeout();
+        this.timeout = 0;
+        this.dismissListeners.clear();
+        this.cancelListeners.clear();
+
+        if (this.boundBinding != null) {
+            this.boundBinding.setVariable(BR.listener, null);
+            this.boundBinding.setVariable(BR.dialog, null);
+            this.boundBinding.unbind();
+            releaseAnimations(this.boundBinding.getRoot());
+            this.boundBinding = null;
+        }
+        this.contentBinding = null;
+        this.contentReset = null;
+    }
+
+    /**
+     * Stops the Lottie animations of a view tree and removes their listeners.
+     *
+     * @param view The root of the view tree.
+     */
+    private static void releaseAnimations(@NonNull View view) {
+        if (view instanceof LottieAnimationView) {
+            LottieAnimationView animationView = (LottieAnimationView) view;
+            animationView.cancelAnimation();
+            animationView.removeAllAnimatorListeners();
+            animationView.removeAllUpdateListeners();
+            animationView.removeAllLottieOnCompositionLoadedListener();
+        } else if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                releaseAnimations(viewGroup.getChildAt(i));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the dialog keeps its content view to be rebound by the next builder.
+     *
+     * @return True if the dialog was obtained with {@link #obtain(Context)}.
+     */
+    public boolean isRecyclable() {
+        return this.recyclable;
+    }
+
+    /**
+     * Checks whether the content view is a recyclable binding of the given layout.
+     *
+     * @param layout The layout resource ID.
+     * @return True if a builder using that layout can rebind the current content view.
+     */
+    public boolean hasContent(@LayoutRes int layout) {
+        return this.contentBinding != null && this.contentLayout == layout;
+    }
+
+    /**
+     * Takes over the current content view for a builder using the given layout. The views are first restored to
+     * their layout defaults by the builder that bound them.
+     *
+     * @param layout The layout resource ID of the builder.
+     * @return The binding of the content view, or null if it is not a recyclable binding of that layout.
+     */
+    @Nullable
+    public ViewDataBinding claimContent(@LayoutRes int layout) {
+        if (!hasContent(layout)) return null;
+
+        if (this.contentReset != null) this.contentReset.run();
+        this.contentReset = null;
+        return this.contentBinding;
+    }
+
+    /**
+     * Sets a binding as the content view, swapping the current one if it is a different binding.
+     * Recyclable dialogs keep the binding for the next builder.
+     *
+     * @param dialogClass The class of the builder setting the content view.
+     * @param layout      The layout resource ID of the binding.
+     * @param binding     The binding to show.
+     * @param reset       Restores the views of the binding to their layout defaults, run before the next builder rebinds it.
+     */
+    public void setContent(@NonNull Class<?> dialogClass, @LayoutRes int layout, @NonNull ViewDataBinding binding, @Nullable Runnable reset) {
+        if (binding != this.contentBinding) {
+            Dialog dialog = getDialog();
+            dialog.setContentView(binding.getRoot());
+
+            // Set background of dialog window to transparent
+            assert dialog.getWindow() != null;
+            dialog.getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
+        }
+
+        this.contentClass = dialogClass;
+        this.contentLayout = layout;
+        this.boundBinding = binding;
+        this.contentReleased = false;
+
+        if (!this.recyclable) return;
+        this.contentBinding = binding;
+        this.contentReset = reset;
+    }
+
+    /**
+     * Gives up the content view once its binding goes back to the binding pool. Showing the dialog again throws
+     * until a builder sets a new content view.
+     *
+     * @param binding The binding going back to the pool.
+     */
+    public void releaseContent(@NonNull ViewDataBinding binding) {
+        if (binding != this.boundBinding) return;
+        this.boundBinding = null;
+        this.contentReleased = true;
+    }
+
+    /**
+     * Dismisses the dialog and notifies the dismiss listeners right away, rather than once the {@link Dialog}
+     * delivers its dismiss message, so that they run before being cleared.
+     */
+    private void dismissAndNotify() {
+        if (!isShowing()) return;
+
+        dismiss();
+        this.dismissDispatched = true;
+        notifyDismiss(this.dialog);
+    }
+
+    /**
+     * Cancels the tasks started with {@code showWhile} that have not completed yet, so that they no longer hold
+     * the dialog and its host.
+     */
+    private void cancelTasks() {
+        for (DialogInterface.OnCancelListener listener : new ArrayList<>(this.cancelListeners)) {
+            if (listener instanceof TaskObserver) ((TaskObserver<?>) listener).onCancel(this.dialog);
+        }
+    }
+
+    /**
+     * Receives the dismiss message of the {@link Dialog}, unless its listeners were already notified by
+     * {@link #dismissAndNotify()}.
+     *
+     * @param dialogInterface The dialog that was dismissed.
+     */
+    private void dispatchDismiss(DialogInterface dialogInterface) {
+        if (this.dismissDispatched) {
+            this.dismissDispatched = false;
+            return;
+        }
+        notifyDismiss(dialogInterface);
+    }
+
+    /**
+     * Cancels the timeout and notifies every registered dismiss listener.
+     *
+     * @param dialogInterface The dialog that was dismissed.
+     */
+    private void notifyDismiss(DialogInterface dialogInterface) {
+        cancelTimeout();
+        for (DialogInterface.OnDismissListener listener : new ArrayList<>(this.dismissListeners)) {
+            listener.onDismiss(dialogInterface);
+        }
+    }
+
+    /**
+     * Notifies every registered cancel listener.
+     *
+     * @param dialogInterface The dialog that was cancelled.
+     */
+    private void dispatchCancel(DialogInterface dialogInterface) {
+        for (DialogInterface.OnCancelListener listener : new ArrayList<>(this.cancelListeners)) {
+            listener.onCancel(dialogInterface);
+        }
+    }
+
+    /**
+     * Registers the callbacks releasing the recyclable dialog of an Activity once it is destroyed.
+     *
+     * @param application The application hosting the Activities.
+     */
+    private static void registerLifecycle(@NonNull Application application) {
+        if (lifecycleRegistered) return;
+        lifecycleRegistered = true;
+
+        application.registerActivityLifecycleCallbacks(new ActivityDestroyedCallbacks() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                PopupDialog popupDialog = RECYCLABLE.remove(activity);
+                if (popupDialog != null) popupDialog.dismiss();
+            }
+        });
+    }
+
     /**
      * Shows the dialog.
      */
     public void show() {
-        if (dialog.getWindow() == null) {
+        if (this.dialog == null) {
             throw new PopupDialogException("Show method called before building the dialog.");
         }
+        if (this.contentReleased) {
+            throw new PopupDialogException("Show method called after the binding of the dialog went back to the pool. Build the dialog again.");
+        }
+
+        if (!this.dialog.isShowing()) {
+            long start = PopupDialogMetrics.start();
+            boolean traced = DialogTrace.begin(this.contentClass, DialogTrace.SHOW);
+            try {
+                this.dialog.show();
+            } finally {
+                DialogTrace.end(traced);
+            }
+            PopupDialogMetrics.end(DialogPhase.SHOW, this.contentClass, this.contentLayout, start);
+            if (start != PopupDialogMetrics.NOT_STARTED) reportFirstDraw(start);
+            scheduleTimeout();
+        }
+    }
+
+    /**
+     * Reports the {@link DialogPhase#FIRST_DRAW} phase once the window of the dialog is next drawn.
+     *
+     * @param start The time the dialog started showing.
+     */
+    private void reportFirstDraw(long start) {
+        View decorView = this.dialog.getWindow().getDecorView();
+        Class<?> dialogClass = this.contentClass;
+        int layout = this.contentLayout;
+
+        decorView.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+
+            /** Whether the first draw has been reported, since the listener stays registered until the removal runs. */
+            private boolean reported = false;
+
+            @Override
+            public void onDraw() {
+                if (reported) return;
+                reported = true;
+                PopupDialogMetrics.end(DialogPhase.FIRST_DRAW, dialogClass, layout, start);
+
+                // A draw listener cannot be removed while the listeners are being dispatched
+                ViewTreeObserver.OnDrawListener drawListener = this;
+                decorView.post(() -> decorView.getViewTreeObserver().removeOnDrawListener(drawListener));
+            }
+        });
+    }
+
+    /**
+     * Shows the dialog through the {@link PopupDialogQueue} of its Activity, once the dialogs ahead of it
+     * have been dismissed. Can be called from any thread; the queue is resolved and updated on the main thread.
+     *
+     * @param priority The priority of the dialog, such as {@link PopupDialogQueue#PRIORITY_NORMAL}.
+     * @throws PopupDialogException if the dialog is not built yet or its context does not belong to an Activity.
+     */
+    public void enqueue(int priority) {
+        if (this.dialog == null) {
+            throw new PopupDialogException("Enqueue method called before building the dialog.");
+        }
+        if (ContextUtil.findActivity(this.context) == null) {
+            throw new PopupDialogException("Dialogs can only be queued with an Activity context");
+        }
 
-        if (!this.dialog.isShowing()) this.dialog.show();
+        DialogExecutors.runOnMainThread(() -> PopupDialogQueue.getInstance(this.context).enqueue(this, priority));
     }
 
     /**
      * Dismisses the dialog if it is showing.
      */
     public void dismiss() {
-        if (this.dialog.isShowing()) this.dialog.dismiss();
+        if (!isShowing()) return;
+
+        boolean traced = DialogTrace.begin(this.contentClass, DialogTrace.DISMISS);
+        try {
+            this.dialog.dismiss();
+        } finally {
+            DialogTrace.end(traced);
+        }
+    }
+
+    /**
+     * Ties the dialog to a task: dismisses it once the task completes, showing the matching outcome dialog,
+     * and cancels the task if the dialog is cancelled first.
+     *
+     * @param <V> The type of the result of the task.
+     */
+    private final class TaskObserver<V> implements DialogTask.Callback<V>, DialogInterface.OnCancelListener {
+
+        /** The task the dialog is shown for. */
+        private final DialogTask<V> task;
+
+        /** The dialog shown if the task succeeds, or null. */
+        private final BaseStatusDialog<?, ?> successDialog;
+
+        /** The dialog shown if the task fails, or null. */
+        private final BaseStatusDialog<?, ?> errorDialog;
+
+        /** Whether the task has completed or been cancelled, only accessed on the main thread. */
+        private boolean finished = false;
+
+        private TaskObserver(@NonNull DialogTask<V> task, @Nullable BaseStatusDialog<?, ?> successDialog, @Nullable BaseStatusDialog<?, ?> errorDialog) {
+            this.task = task;
+            this.successDialog = successDialog;
+            this.errorDialog = errorDialog;
+        }
+
+        @Override
+        public void onSuccess(V result) {
+            DialogExecutors.runOnMainThread(() -> finish(successDialog));
+        }
+
+        @Override
+        public void onFailure(@NonNull Throwable error) {
+            DialogExecutors.runOnMainThread(() -> finish(error instanceof CancellationException ? null : errorDialog));
+        }
+
+        @Override
+        public void onCancel(DialogInterface dialogInterface) {
+            if (finished) return;
+            finished = true;
+            cancelListeners.remove(this);
+            task.cancel();
+        }
+
+        /**
+         * Dismisses the dialog and shows the outcome dialog, if the dialog was still showing.
+         *
+         * @param outcome The dialog to show, or null for none.
+         */
+        private void finish(@Nullable BaseStatusDialog<?, ?> outcome) {
+            if (finished) return;
+            finished = true;
+            cancelListeners.remove(this);
+
+            boolean showing = isShowing();
+            dismiss();
+            if (showing && outcome != null) outcome.build(Dialog::dismiss).show();
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.animation;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.airbnb.lottie.LottieAnimationView;
+import com.airbnb.lottie.LottieDrawable;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+/**
+ * Applies a {@link LottiePlaybackPolicy} to the Lottie animation of a dialog.
+ * <p>
+ * The controller sets the repeat count of the animation, moves it to its last frame once it has been played
+ * the configured number of times, and pauses it while the dialog window has lost focus or the hosting Activity
+ * is stopped. It is bound to the window the animation view is attached to: the animation is cancelled when the
+ * view leaves the window, so a dismissed dialog does not keep scheduling frames.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see LottiePlaybackPolicy
+ */
+public class LottiePlaybackController extends AnimatorListenerAdapter
+        implements View.OnAttachStateChangeListener, ViewTreeObserver.OnWindowFocusChangeListener, LifecycleEventObserver {
+
+    /**
+     * The animation view being controlled.
+     */
+    private final LottieAnimationView view;
+
+    /**
+     * The policy applied to the animation.
+     */
+    private final LottiePlaybackPolicy policy;
+
+    /**
+     * The lifecycle of the hosting Activity, if it has one.
+     */
+    private Lifecycle lifecycle;
+
+    /**
+     * Whether the dialog window currently has focus.
+     */
+    private boolean windowFocused = true;
+
+    /**
+     * Whether the hosting Activity is started.
+     */
+    private boolean hostStarted = true;
+
+    /**
+     * Whether the animation was paused by this controller.
+     */
+    private boolean paused = false;
+
+    /**
+     * Whether the animation has been played the configured number of times.
+     */
+    private boolean finished = false;
+
+    /**
+     * Constructs a new {@link LottiePlaybackController}.
+     *
+     * @param view   The animation view to control.
+     * @param policy The policy to apply.
+     */
+    private LottiePlaybackController(@NonNull LottieAnimationView view, @NonNull LottiePlaybackPolicy policy) {
+        this.view = view;
+        this.policy = policy.copy();
+    }
+
+    /**
+     * Applies a policy to an animation view. The returned controller must be released with {@link #release()}
+     * before the view is controlled again, for instance when its binding is reused.
+     *
+     * @param view   The animation view to control.
+     * @param policy The policy to apply.
+     * @return The controller bound to the view.
+     */
+    @NonNull
+    public static LottiePlaybackController attach(@NonNull LottieAnimationView view, @NonNull LottiePlaybackPolicy policy) {
+        LottiePlaybackController controller = new LottiePlaybackController(view, policy);
+        int playCount = controller.policy.getPlayCount();
+        view.setRepeatCount(playCount == LottiePlaybackPolicy.INFINITE ? LottieDrawable.INFINITE : playCount - 1);
+        view.addAnimatorListener(controller);
+        view.addOnAttachStateChangeListener(controller);
+        if (view.isAttachedToWindow()) controller.onViewAttachedToWindow(view);
+        return controller;
+    }
+
+    /**
+     * Stops controlling the animation view and cancels its animation.
+     */
+    public void release() {
+        if (view.isAttachedToWindow()) onViewDetachedFromWindow(view);
+        view.removeOnAttachStateChangeListener(this);
+        view.removeAnimatorListener(this);
+    }
+
+    /**
+     * Starts following the focus of the window and the lifecycle of the hosting Activity.
+     *
+     * @param v The animation view.
+     */
+    @Override
+    public void onViewAttachedToWindow(@NonNull View v) {
+        finished = false;
+        paused = false;
+        windowFocused = true;
+        hostStarted = true;
+        if (!policy.isPauseWhenHidden()) return;
+
+        view.getViewTreeObserver().addOnWindowFocusChangeListener(this);
+        Activity activity = ContextUtil.findActivity(view.getContext());
+        if (activity instanceof LifecycleOwner) {
+            lifecycle = ((LifecycleOwner) activity).getLifecycle();
+            hostStarted = lifecycle.getCurrentState().isAtLeast(Lifecycle.State.STARTED);
+            lifecycle.addObserver(this);
+        }
+        update();
+    }
+
+    /**
+     * Stops following the window and the Activity, and cancels the animation.
+     *
+     * @param v The animation view.
+     */
+    @Override
+    public void onViewDetachedFromWindow(@NonNull View v) {
+        view.getViewTreeObserver().removeOnWindowFocusChangeListener(this);
+        if (lifecycle != null) {
+            lifecycle.removeObserver(this);
+            lifecycle = null;
+        }
+        view.cancelAnimation();
+    }
+
+    @Override
+    public void onWindowFocusChanged(boolean hasFocus) {
+        windowFocused = hasFocus;
+        update();
+    }
+
+    @Override
+    public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+        if (event == Lifecycle.Event.ON_START) hostStarted = true;
+        else if (event == Lifecycle.Event.ON_STOP) hostStarted = false;
+        else return;
+        update();
+    }
+
+    /**
+     * Freezes the animation on its last frame once it has been played the configured number of times.
+     *
+     * @param animation The animator that ended.
+     */
+    @Override
+    public void onAnimationEnd(Animator animation) {
+        finished = true;
+        if (policy.isFreezeOnLastFrame()) view.setFrame((int) view.getMaxFrame());
+    }
+
+    /**
+     * Pauses the animation while the dialog is hidden and resumes it once visible again.
+     */
+    private void update() {
+        if (finished) return;
+
+        boolean visible = windowFocused && hostStarted;
+        if (!visible && !paused && view.isAnimating()) {
+            paused = true;
+            view.pauseAnimation();
+        } else if (visible && paused) {
+            paused = false;
+            view.resumeAnimation();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.animation;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+
+/**
+ * Describes how the Lottie animation of a dialog is played.
+ * <p>
+ * A policy bounds the number of times an animation is played, chooses whether it freezes on its last frame
+ * once done, and whether it pauses while the dialog window has lost focus or the hosting Activity is stopped.
+ * An animation that is paused or finished does not schedule any frame, so a dialog left open does not keep
+ * the CPU busy.
+ * <p>
+ * Every dialog uses the global policy returned by {@link #getDefault()} unless it was given its own.
+ * The default policy loops forever and pauses while hidden.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see LottiePlaybackController
+ */
+public class LottiePlaybackPolicy {
+
+    /**
+     * Play count meaning that the animation loops until the dialog is dismissed.
+     */
+    public static final int INFINITE = -1;
+
+    /**
+     * The policy used by dialogs that were not given one.
+     */
+    private static volatile LottiePlaybackPolicy defaultPolicy = new LottiePlaybackPolicy();
+
+    /**
+     * The number of times the animation is played, or {@link #INFINITE}.
+     */
+    private int playCount = INFINITE;
+
+    /**
+     * Whether the animation stays on its last frame once played {@link #playCount} times.
+     */
+    private boolean freezeOnLastFrame = true;
+
+    /**
+     * Whether the animation pauses while the dialog is not visible to the user.
+     */
+    private boolean pauseWhenHidden = true;
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private LottiePlaybackPolicy() {
+    }
+
+    /**
+     * Creates a new policy that loops forever and pauses while hidden.
+     *
+     * @return A new instance of {@link LottiePlaybackPolicy}.
+     */
+    @NonNull
+    public static LottiePlaybackPolicy getInstance() {
+        return new LottiePlaybackPolicy();
+    }
+
+    /**
+     * Gets the policy used by dialogs that were not given one.
+     *
+     * @return The global {@link LottiePlaybackPolicy}.
+     */
+    @NonNull
+    public static LottiePlaybackPolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * Sets the policy used by dialogs that were not given one. The policy is copied, so later changes
+     * to it do not affect the global policy.
+     *
+     * @param policy The new global policy.
+     */
+    public static void setDefault(@NonNull LottiePlaybackPolicy policy) {
+        defaultPolicy = policy.copy();
+    }
+
+    /**
+     * Sets the number of times the animation is played before it stops.
+     *
+     * @param playCount The number of plays, at least 1, or {@link #INFINITE}.
+     * @return The current instance of the {@link LottiePlaybackPolicy}.
+     * @throws PopupDialogException if the play count is neither positive nor {@link #INFINITE}.
+     */
+    public LottiePlaybackPolicy setPlayCount(@NonNull Integer playCount) {
+        if (playCount < 1 && playCount != INFINITE) throw new PopupDialogException("Play count must be positive or INFINITE");
+        this.playCount = playCount;
+        return this;
+    }
+
+    /**
+     * Sets whether the animation stays on its last frame once it stops.
+     * Otherwise it stays on the frame it was on when the last play ended.
+     *
+     * @param freezeOnLastFrame True to freeze on the last frame.
+     * @return The current instance of the {@link LottiePlaybackPolicy}.
+     */
+    public LottiePlaybackPolicy setFreezeOnLastFrame(boolean freezeOnLastFrame) {
+        this.freezeOnLastFrame = freezeOnLastFrame;
+        return this;
+    }
+
+    /**
+     * Sets whether the animation pauses while the dialog window has lost focus or the hosting Activity is stopped.
+     *
+     * @param pauseWhenHidden True to pause while hidden.
+     * @return The current instance of the {@link LottiePlaybackPolicy}.
+     */
+    public LottiePlaybackPolicy setPauseWhenHidden(boolean pauseWhenHidden) {
+        this.pauseWhenHidden = pauseWhenHidden;
+        return this;
+    }
+
+    /**
+     * Gets the number of times the animation is played.
+     *
+     * @return The number of plays, or {@link #INFINITE}.
+     */
+    public int getPlayCount() {
+        return playCount;
+    }
+
+    /**
+     * Checks whether the animation stays on its last frame once it stops.
+     *
+     * @return True if the animation freezes on its last frame.
+     */
+    public boolean isFreezeOnLastFrame() {
+        return freezeOnLastFrame;
+    }
+
+    /**
+     * Checks whether the animation pauses while the dialog is hidden.
+     *
+     * @return True if the animation pauses while hidden.
+     */
+    public boolean isPauseWhenHidden() {
+        return pauseWhenHidden;
+    }
+
+    /**
+     * Creates a copy of this policy.
+     *
+     * @return A new {@link LottiePlaybackPolicy} with the same settings.
+     */
+    @NonNull
+    public LottiePlaybackPolicy copy() {
+        LottiePlaybackPolicy copy = new LottiePlaybackPolicy();
+        copy.playCount = this.playCount;
+        copy.freezeOnLastFrame = this.freezeOnLastFrame;
+        copy.pauseWhenHidden = this.pauseWhenHidden;
+        return copy;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.async;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the executors used by the library to move work off the main thread and back onto it.
+ * <p>
+ * By default, background work such as layout inflation and font loading runs on a single daemon thread
+ * owned by the library. Applications that already manage a thread pool can install their own executor
+ * with {@link #setBackgroundExecutor(Executor)}.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see PopupDialogFuture
+ */
+public final class DialogExecutors {
+
+    /**
+     * Handler posting onto the main thread.
+     */
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    /**
+     * The executor running background work.
+     */
+    private static volatile Executor backgroundExecutor;
+
+    /**
+     * Not instantiable.
+     */
+    private DialogExecutors() {
+    }
+
+    /**
+     * Gets the executor running background work, creating the default one on first use.
+     *
+     * @return The background executor.
+     */
+    @NonNull
+    public static Executor getBackgroundExecutor() {
+        Executor executor = backgroundExecutor;
+        if (executor == null) {
+            synchronized (DialogExecutors.class) {
+                if (backgroundExecutor == null) backgroundExecutor = createDefaultExecutor();
+                executor = backgroundExecutor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Replaces the executor running background work.
+     *
+     * @param executor The executor to use.
+     */
+    public static void setBackgroundExecutor(@NonNull Executor executor) {
+        backgroundExecutor = executor;
+    }
+
+    /**
+     * Runs the given task on the main thread, immediately if already on it.
+     *
+     * @param task The task to run.
+     */
+    public static void runOnMainThread(@NonNull Runnable task) {
+        if (isMainThread()) task.run();
+        else MAIN_HANDLER.post(task);
+    }
+
+    /**
+     * Posts the given task to the main thread, even if already on it.
+     *
+     * @param task The task to post.
+     */
+    public static void postToMainThread(@NonNull Runnable task) {
+        MAIN_HANDLER.post(task);
+    }
+
+    /**
+     * Checks whether the calling thread is the main thread.
+     *
+     * @return True if called from the main thread, false otherwise.
+     */
+    public static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Creates the default single-threaded background executor.
+     *
+     * @return The executor service.
+     */
+    private static ExecutorService createDefaultExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "PopupDialog-Background");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
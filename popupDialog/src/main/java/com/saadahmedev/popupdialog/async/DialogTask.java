@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.async;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+
+/**
+ * A cancellable background task reporting its completion through a callback, which a dialog can be shown for
+ * with {@link PopupDialog#showWhile(DialogTask)}.
+ * <p>
+ * Futures are adapted with {@link FutureDialogTask}. Other asynchronous APIs, such as network clients with their
+ * own callbacks, can implement this interface directly.
+ *
+ * @param <V> The type of the result of the task.
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see FutureDialogTask
+ */
+public interface DialogTask<V> {
+
+    /**
+     * Starts observing the task. The callback must be called exactly once when the task completes, from any thread,
+     * and may be called before this method returns if the task has already completed.
+     *
+     * @param callback The callback notified of the completion of the task.
+     */
+    void start(@NonNull Callback<V> callback);
+
+    /**
+     * Cancels the task, because the dialog shown for it has been cancelled by the user. The callback need not be
+     * called afterwards.
+     */
+    void cancel();
+
+    /**
+     * Callback notified of the completion of a {@link DialogTask}.
+     *
+     * @param <V> The type of the result of the task.
+     */
+    interface Callback<V> {
+
+        /**
+         * Called when the task completes successfully.
+         *
+         * @param result The result of the task.
+         */
+        void onSuccess(V result);
+
+        /**
+         * Called when the task fails or is cancelled.
+         *
+         * @param error The cause of the failure, a {@link java.util.concurrent.CancellationException} if cancelled.
+         */
+        void onFailure(@NonNull Throwable error);
+    }
+}
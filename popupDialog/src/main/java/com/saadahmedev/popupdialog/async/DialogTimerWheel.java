@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.async;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hashed timer wheel running the timeouts of every dialog from a single main-thread tick source.
+ * <p>
+ * Timeouts are spread over a fixed number of slots by their deadline, and the wheel only visits the slot of the
+ * current tick, so scheduling and cancelling are constant time regardless of how many timeouts are pending.
+ * A cancelled timeout drops its task right away, so nothing it captured is kept reachable until its deadline.
+ * The tick source only runs while timeouts are pending. Timeouts fire within one tick after their deadline.
+ * <p>
+ * The wheel must only be used from the main thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class DialogTimerWheel {
+
+    /**
+     * The duration of a tick, in milliseconds.
+     */
+    private static final long TICK_MILLIS = 50L;
+
+    /**
+     * The number of slots of the wheel, a power of two.
+     */
+    private static final int WHEEL_SIZE = 64;
+
+    /**
+     * The single instance of the wheel.
+     */
+    private static final DialogTimerWheel INSTANCE = new DialogTimerWheel();
+
+    /**
+     * Handler posting the ticks onto the main thread.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * The pending timeouts, by slot.
+     */
+    private final List<List<Timeout>> slots = new ArrayList<>(WHEEL_SIZE);
+
+    /**
+     * Advances the wheel by one tick.
+     */
+    private final Runnable tickRunnable = this::onTick;
+
+    /**
+     * The number of ticks since the tick source was started.
+     */
+    private long tick = 0;
+
+    /**
+     * The uptime at which the tick source was started, in milliseconds.
+     */
+    private long startTime = 0;
+
+    /**
+     * The number of timeouts scheduled and not yet fired or cancelled.
+     */
+    private int pendingCount = 0;
+
+    /**
+     * Whether the tick source is running.
+     */
+    private boolean running = false;
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private DialogTimerWheel() {
+        for (int i = 0; i < WHEEL_SIZE; i++) slots.add(new ArrayList<>());
+    }
+
+    /**
+     * Gets the process-wide instance of the wheel.
+     *
+     * @return The {@link DialogTimerWheel} instance.
+     */
+    @NonNull
+    public static DialogTimerWheel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules a task to run on the main thread once the delay has elapsed.
+     *
+     * @param delay The delay in milliseconds.
+     * @param task  The task to run.
+     * @return The timeout, which can be cancelled.
+     */
+    @NonNull
+    public Timeout schedule(long delay, @NonNull Runnable task) {
+        long now = SystemClock.uptimeMillis();
+        if (!running) {
+            running = true;
+            tick = 0;
+            startTime = now;
+            handler.postAtTime(tickRunnable, startTime + TICK_MILLIS);
+        }
+
+        // Round the deadline up to the next tick boundary, so that the task never runs early
+        long deadlineTick = (now + Math.max(delay, 0L) - startTime + TICK_MILLIS - 1) / TICK_MILLIS;
+        long ticks = Math.max(deadlineTick - tick, 1L);
+
+        Timeout timeout = new Timeout(task, (ticks - 1) / WHEEL_SIZE);
+        slots.get((int) ((tick + ticks) & (WHEEL_SIZE - 1))).add(timeout);
+        pendingCount++;
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts scheduled and not yet fired or cancelled.
+     *
+     * @return The pending count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Advances the wheel by one tick, running the timeouts that are due and stopping the tick source once
+     * no timeout is pending.
+     */
+    private void onTick() {
+        tick++;
+        Iterator<Timeout> iterator = slots.get((int) (tick & (WHEEL_SIZE - 1))).iterator();
+        List<Runnable> due = new ArrayList<>();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.task == null) {
+                iterator.remove();
+            } else if (timeout.rounds > 0) {
+                timeout.rounds--;
+            } else {
+                iterator.remove();
+                due.add(timeout.task);
+                timeout.task = null;
+                pendingCount--;
+            }
+        }
+
+        for (Runnable task : due) task.run();
+
+        if (pendingCount > 0) {
+            handler.postAtTime(tickRunnable, startTime + (tick + 1) * TICK_MILLIS);
+        } else {
+            running = false;
+            for (List<Timeout> slot : slots) slot.clear();
+        }
+    }
+
+    /**
+     * A task scheduled on the wheel.
+     */
+    public final class Timeout {
+
+        /** The task to run, or null once fired or cancelled. */
+        private Runnable task;
+
+        /** The number of full turns of the wheel left before the task is due. */
+        private long rounds;
+
+        private Timeout(Runnable task, long rounds) {
+            this.task = task;
+            this.rounds = rounds;
+        }
+
+        /**
+         * Cancels the timeout, unless it has already fired.
+         */
+        public void cancel() {
+            if (task == null) return;
+            task = null;
+            pendingCount--;
+        }
+
+        /**
+         * Checks whether the timeout is still waiting to fire.
+         *
+         * @return True if the timeout has neither fired nor been cancelled.
+         */
+        public boolean isPending() {
+            return task != null;
+        }
+    }
+}
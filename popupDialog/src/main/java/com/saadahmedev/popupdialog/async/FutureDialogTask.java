@@ -0,0 +1,162 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.async;
+
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Adapts a {@link Future} to a {@link DialogTask}.
+ * <p>
+ * A {@link CompletableFuture} notifies its completion directly. Any other future, such as a {@code ListenableFuture}
+ * or one returned by an {@link java.util.concurrent.ExecutorService}, is checked on every tick of the
+ * {@link DialogTimerWheel} until it is done, which costs a call to {@link Future#isDone()} per tick on the main
+ * thread and never blocks a thread. Cancelling the task cancels the future, interrupting it if it is running.
+ * <p>
+ * The task must be started and cancelled on the main thread.
+ *
+ * @param <V> The type of the result of the future.
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see DialogTask
+ */
+public final class FutureDialogTask<V> implements DialogTask<V> {
+
+    /**
+     * The interval at which a future without completion callbacks is checked, in milliseconds.
+     */
+    private static final long POLL_MILLIS = 50L;
+
+    /**
+     * The adapted future.
+     */
+    private final Future<V> future;
+
+    /**
+     * The callback to notify, or null once notified or cancelled.
+     */
+    private Callback<V> callback;
+
+    /**
+     * The next check of the future, if it is being polled.
+     */
+    private DialogTimerWheel.Timeout pendingPoll;
+
+    /**
+     * Constructs a new {@link FutureDialogTask}.
+     *
+     * @param future The future to adapt.
+     */
+    private FutureDialogTask(@NonNull Future<V> future) {
+        this.future = future;
+    }
+
+    /**
+     * Adapts a future to a {@link DialogTask}.
+     *
+     * @param future The future to adapt.
+     * @param <V>    The type of the result of the future.
+     * @return The task.
+     */
+    @NonNull
+    public static <V> FutureDialogTask<V> getInstance(@NonNull Future<V> future) {
+        return new FutureDialogTask<>(future);
+    }
+
+    @Override
+    public void start(@NonNull Callback<V> callback) {
+        this.callback = callback;
+        if (future.isDone()) {
+            deliver();
+        } else if (Build.VERSION.SDK_INT < Build.VERSION_CODES.N
+                || !CompletableFutures.whenComplete(future, () -> DialogExecutors.runOnMainThread(this::deliver))) {
+            poll();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        this.callback = null;
+        if (this.pendingPoll != null) {
+            this.pendingPoll.cancel();
+            this.pendingPoll = null;
+        }
+        this.future.cancel(true);
+    }
+
+    /**
+     * Notifies the callback if the future is done, otherwise checks it again on the next tick.
+     */
+    private void poll() {
+        this.pendingPoll = null;
+        if (this.callback == null) return;
+
+        if (future.isDone()) deliver();
+        else this.pendingPoll = DialogTimerWheel.getInstance().schedule(POLL_MILLIS, this::poll);
+    }
+
+    /**
+     * Notifies the callback of the outcome of the completed future, unless already notified or cancelled.
+     */
+    private void deliver() {
+        Callback<V> callback = this.callback;
+        if (callback == null) return;
+        this.callback = null;
+
+        V result;
+        try {
+            result = future.get();
+        } catch (ExecutionException e) {
+            callback.onFailure(e.getCause() != null ? e.getCause() : e);
+            return;
+        } catch (CancellationException e) {
+            callback.onFailure(e);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            callback.onFailure(e);
+            return;
+        }
+        callback.onSuccess(result);
+    }
+
+    /**
+     * Completion callbacks of {@link CompletableFuture}, kept apart so that older platforms never load the class.
+     */
+    @RequiresApi(Build.VERSION_CODES.N)
+    private static final class CompletableFutures {
+
+        /**
+         * Runs a task once a future completes, if it is a {@link CompletableFuture}.
+         *
+         * @param future The future.
+         * @param task   The task to run once it completes.
+         * @return True if the future is a {@link CompletableFuture}, false otherwise.
+         */
+        private static boolean whenComplete(@NonNull Future<?> future, @NonNull Runnable task) {
+            if (!(future instanceof CompletableFuture)) return false;
+            ((CompletableFuture<?>) future).whenComplete((result, error) -> task.run());
+            return true;
+        }
+    }
+}
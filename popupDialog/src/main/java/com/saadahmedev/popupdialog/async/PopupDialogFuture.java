@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.async;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.listener.OnDialogBuildFailedListener;
+import com.saadahmedev.popupdialog.listener.OnDialogBuiltListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pending result of a {@code buildAsync} call.
+ * <p>
+ * The future is always completed on the main thread, once the layout has been inflated and the fonts and
+ * drawables have been resolved in the background. Listeners added with {@link #whenBuilt(OnDialogBuiltListener)}
+ * are called on the main thread with the dialog ready to be shown.
+ * <p>
+ * If the build fails, the listeners added with {@link #whenFailed(OnDialogBuildFailedListener)} are called on the
+ * main thread with the failure, which {@link #get()} also throws wrapped in an {@link ExecutionException}.
+ * <p>
+ * The future moves once from pending to built, failed or cancelled, through a single atomic state, so that
+ * {@link #cancel(boolean)} may be called from any thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see DialogExecutors
+ */
+public class PopupDialogFuture implements Future<PopupDialog> {
+
+    /** The state of a future not done yet. */
+    private static final int PENDING = 0;
+
+    /** The state of a future completed with the built dialog. */
+    private static final int BUILT = 1;
+
+    /** The state of a future completed with a failure. */
+    private static final int FAILED = 2;
+
+    /** The state of a cancelled future. */
+    private static final int CANCELLED = 3;
+
+    /**
+     * The state of the future, moved once out of {@link #PENDING}.
+     */
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    /**
+     * Released once the future is completed or cancelled.
+     */
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /**
+     * The listeners waiting for the dialog, only accessed on the main thread.
+     */
+    private final List<OnDialogBuiltListener> listeners = new ArrayList<>();
+
+    /**
+     * The listeners waiting for a failure, only accessed on the main thread.
+     */
+    private final List<OnDialogBuildFailedListener> failureListeners = new ArrayList<>();
+
+    /**
+     * The built dialog.
+     */
+    private volatile PopupDialog result;
+
+    /**
+     * The failure of the build, if any.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Adds a listener called on the main thread once the dialog is built.
+     * If the dialog is already built, the listener is called right away.
+     *
+     * @param listener The listener to add.
+     * @return The current instance of the {@link PopupDialogFuture}.
+     */
+    public PopupDialogFuture whenBuilt(@NonNull OnDialogBuiltListener listener) {
+        DialogExecutors.runOnMainThread(() -> {
+            int current = this.state.get();
+            if (current == BUILT) listener.onDialogBuilt(this.result);
+            else if (current == PENDING) this.listeners.add(listener);
+        });
+        return this;
+    }
+
+    /**
+     * Adds a listener called on the main thread if the build fails.
+     * If the build has already failed, the listener is called right away.
+     *
+     * @param listener The listener to add.
+     * @return The current instance of the {@link PopupDialogFuture}.
+     */
+    public PopupDialogFuture whenFailed(@NonNull OnDialogBuildFailedListener listener) {
+        DialogExecutors.runOnMainThread(() -> {
+            int current = this.state.get();
+            if (current == FAILED) listener.onDialogBuildFailed(this.failure);
+            else if (current == PENDING) this.failureListeners.add(listener);
+        });
+        return this;
+    }
+
+    /**
+     * Completes the future with the built dialog. Must be called on the main thread.
+     *
+     * @param popupDialog The built dialog.
+     */
+    public void complete(@NonNull PopupDialog popupDialog) {
+        if (!this.state.compareAndSet(PENDING, BUILT)) return;
+
+        // Readers of another thread wait for the latch before reading the result
+        this.result = popupDialog;
+
+        this.done.countDown();
+        for (OnDialogBuiltListener listener : this.listeners) listener.onDialogBuilt(popupDialog);
+        this.listeners.clear();
+        this.failureListeners.clear();
+    }
+
+    /**
+     * Completes the future with a failure. Must be called on the main thread.
+     *
+     * @param throwable The failure of the build.
+     */
+    public void fail(@NonNull Throwable throwable) {
+        if (!this.state.compareAndSet(PENDING, FAILED)) return;
+
+        this.failure = throwable;
+
+        this.done.countDown();
+        for (OnDialogBuildFailedListener listener : this.failureListeners) listener.onDialogBuildFailed(throwable);
+        this.failureListeners.clear();
+        this.listeners.clear();
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!this.state.compareAndSet(PENDING, CANCELLED)) return false;
+
+        this.done.countDown();
+        DialogExecutors.runOnMainThread(() -> {
+            this.listeners.clear();
+            this.failureListeners.clear();
+        });
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.state.get() == CANCELLED;
+    }
+
+    @Override
+    public boolean isDone() {
+        return this.state.get() != PENDING;
+    }
+
+    /**
+     * Waits for the dialog. Must not be called on the main thread before the future is done,
+     * since the future itself completes on the main thread.
+     *
+     * @return The built dialog.
+     */
+    @Override
+    public PopupDialog get() throws ExecutionException, InterruptedException {
+        checkNotBlockingMainThread();
+        this.done.await();
+        return getResult();
+    }
+
+    @Override
+    public PopupDialog get(long timeout, @NonNull TimeUnit unit) throws ExecutionException, InterruptedException, TimeoutException {
+        checkNotBlockingMainThread();
+        if (!this.done.await(timeout, unit)) throw new TimeoutException();
+        return getResult();
+    }
+
+    /**
+     * Gets the outcome of a completed future.
+     *
+     * @return The built dialog.
+     * @throws ExecutionException if the build failed.
+     */
+    private PopupDialog getResult() throws ExecutionException {
+        int current = this.state.get();
+        if (current == CANCELLED) throw new CancellationException();
+        if (current == FAILED) throw new ExecutionException(this.failure);
+        return this.result;
+    }
+
+    /**
+     * Guards against waiting on the main thread for work that needs the main thread to finish.
+     */
+    private void checkNotBlockingMainThread() {
+        if (!isDone() && DialogExecutors.isMainThread()) {
+            throw new PopupDialogException("Waiting for an asynchronous build on the main thread would deadlock, use whenBuilt instead.");
+        }
+    }
+}
@@ -54,11 +54,6 @@ public class BaseDialog<T> {
      */
     private final Context context;
 
-    /**
-     * The underlying {@link Dialog} object.
-     */
-    private final Dialog dialog;
-
     /**
      * Returns the {@link PopupDialog} instance associated with this dialog.
      *
@@ -78,12 +73,12 @@ public class BaseDialog<T> {
     }
 
     /**
-     * Returns the underlying {@link Dialog} object.
+     * Returns the underlying {@link Dialog} object, creating it if the dialog has not been built yet.
      *
      * @return The {@link Dialog} object.
      */
     public Dialog getDialog() {
-        return dialog;
+        return popupDialog.getDialog();
     }
 
     /**
@@ -94,7 +89,6 @@ public class BaseDialog<T> {
     protected BaseDialog(@NonNull PopupDialog popupDialog) {
         this.popupDialog = popupDialog;
         this.context = popupDialog.getContext();
-        this.dialog = popupDialog.getDialog();
     }
 
     /**
@@ -16,9 +16,9 @@
 
 package com.saadahmedev.popupdialog.base;
 
-import android.graphics.Color;
-import android.graphics.drawable.ColorDrawable;
-import android.view.LayoutInflater;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.view.View;
 
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
@@ -26,23 +26,59 @@ import androidx.databinding.DataBindingUtil;
 import androidx.databinding.ViewDataBinding;
 
 import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.PopupDialogFuture;
+import com.saadahmedev.popupdialog.cache.BindingPool;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.metrics.DialogPhase;
+import com.saadahmedev.popupdialog.metrics.PopupDialogMetrics;
+import com.saadahmedev.popupdialog.render.DialogRenderer;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
+import java.util.concurrent.Callable;
 
 /**
  * {@link BaseDialogBinder} is an abstract class providing a foundation for creating dialog
  * components with data binding capabilities in Android applications. It extends {@link BaseDialog}
  * and offers functionalities for inflating layout resources using Data Binding.
+ * <p>
+ * When pooling is enabled for the layout in the Activity's {@link BindingPool}, an idle binding is taken from
+ * the pool instead of inflating, and the binding is handed back to the pool once the dialog is dismissed.
+ * A dialog whose binding went back to the pool throws if shown again before being built again. Dialogs obtained with
+ * {@link PopupDialog#obtain(android.content.Context)} never use the pool, since they keep their binding and rebind
+ * it for the next builder using the same layout.
+ * <p>
+ * The layout is inflated when the dialog is built rather than when the builder is created, so that
+ * {@link #submitBuild(Callable)} can inflate it, together with everything resolved in {@link #prepare()},
+ * on a background thread. The view tree is created by the default {@link DialogRenderer}, which either inflates
+ * the layout resource or builds the same tree in code.
  *
  * @param <T> The type of the {@link PopupDialog}.
  * @param <VB> The type of {@link ViewDataBinding} associated with the layout resource.
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  * @see BaseDialog
+ * @see BindingPool
  */
 public class BaseDialogBinder<T, VB extends ViewDataBinding> extends BaseDialog<T> {
 
-    /** The ViewDataBinding associated with the inflated layout resource. */
-    protected final VB binding;
+    /** The ViewDataBinding associated with the inflated layout resource, available once {@link #inflate()} has run. */
+    protected VB binding;
+
+    /** The layout resource ID the binding was inflated from. */
+    protected final int layout;
+
+    /** The root view inflated in the background, waiting to be bound on the main thread. */
+    private View pendingRoot;
+
+    /** Whether {@link #prepare()} has already run. */
+    private boolean prepared = false;
+
+    /** Whether an asynchronous build has been submitted and has not reached the main thread yet. */
+    private boolean building = false;
+
+    /** Whether the binding expressions are executed inside {@code build()} rather than on the next frame. */
+    private boolean synchronousBinding = false;
 
     /**
      * Constructs a new {@link BaseDialogBinder} instance with the provided {@link PopupDialog} and layout resource.
@@ -52,20 +88,223 @@ public class BaseDialogBinder<T, VB extends ViewDataBinding> extends BaseDialog<
      */
     protected BaseDialogBinder(PopupDialog popupDialog, @NonNull @LayoutRes Integer layout) {
         super(popupDialog);
+        this.layout = layout;
+    }
+
+    /**
+     * Inflates the layout and sets it as the content view of the dialog, unless already done.
+     * Must be called on the main thread.
+     */
+    protected final void inflate() {
+        checkNotBuilding();
+        if (binding != null) return;
+
+        long start = PopupDialogMetrics.start();
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.INFLATE);
+        try {
+            bindContent();
+        } finally {
+            DialogTrace.end(traced);
+        }
+        PopupDialogMetrics.end(DialogPhase.INFLATE, getClass(), layout, start);
+    }
+
+    /**
+     * Rebinds the recycled content view, or takes a pooled binding, binds the view inflated in the background
+     * or inflates the layout, and sets it as the content view of the dialog.
+     */
+    @SuppressWarnings("unchecked")
+    private void bindContent() {
+        // Rebind the content view of a recyclable dialog when it uses the same layout
+        PopupDialog popupDialog = super.getPopupDialog();
+        VB recycled = (VB) popupDialog.claimContent(layout);
+        if (recycled != null) {
+            binding = recycled;
+            pendingRoot = null;
+            popupDialog.setContent(getClass(), layout, binding, this::resetBinding);
+            return;
+        }
+
+        // Take an idle binding from the pool, or bind the view created in the background
+        // or by the renderer now to ViewDataBinding
+        BindingPool pool = BindingPool.getInstance(super.getContext());
+        boolean pooled = !popupDialog.isRecyclable() && pool.isPooled(layout);
+        VB idle = pooled ? (VB) pool.acquire(layout) : null;
+        if (idle != null) binding = idle;
+        else if (pendingRoot != null) binding = DataBindingUtil.bind(pendingRoot);
+        else binding = DataBindingUtil.bind(DialogRenderer.getDefault().createView(super.getContext(), layout));
+        pendingRoot = null;
 
-        // Inflate the layout resource and associate with ViewDataBinding
-        binding = DataBindingUtil.inflate(
-                LayoutInflater.from(super.getContext()),
-                layout,
-                null,
-                false
-        );
+        // Hand the binding back to the pool once the dialog is dismissed
+        if (pooled) {
+            VB pooledBinding = binding;
+            popupDialog.addOnDismissListener(new DialogInterface.OnDismissListener() {
+                @Override
+                public void onDismiss(DialogInterface dialogInterface) {
+                    popupDialog.removeOnDismissListener(this);
+                    popupDialog.releaseContent(pooledBinding);
+                    resetBinding();
+                    pool.release(layout, pooledBinding);
+                }
+            });
+        }
 
         // Set the inflated view as the content view of the dialog
-        super.getDialog().setContentView(binding.getRoot());
+        popupDialog.setContent(getClass(), layout, binding, this::resetBinding);
+    }
+
+    /**
+     * Sets whether the binding expressions are executed inside {@code build()}.
+     * <p>
+     * By default the generated binding applies the item, the dialog and the listener set in {@code build()} on the
+     * next frame, so a dialog shown right away can lay its window out with the layout defaults first and again once
+     * the texts and colors are applied. With synchronous binding they are applied before {@code build()} returns,
+     * and the first layout pass already measures the final content. The progress and Lottie dialogs have no binding
+     * expressions, so it has no effect on them.
+     *
+     * @param synchronousBinding True to execute the bindings inside {@code build()}, false to leave them for the next frame.
+     * @return The current instance of the dialog.
+     */
+    public T setSynchronousBinding(boolean synchronousBinding) {
+        this.synchronousBinding = synchronousBinding;
+        return castType();
+    }
+
+    /**
+     * Executes the pending bindings right away if synchronous binding is enabled. Called by {@code build()}
+     * once every variable of the binding has been set.
+     */
+    protected final void executeBindings() {
+        if (synchronousBinding && binding != null) binding.executePendingBindings();
+    }
+
+    /**
+     * Checks the builder state before anything is built, throwing if a required property is missing.
+     */
+    protected void validate() {
+    }
 
-        // Set background of dialog window to transparent
-        assert super.getDialog().getWindow() != null;
-        super.getDialog().getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
+    /**
+     * Resolves the defaults, fonts and drawables the dialog needs without touching any view.
+     * It may run on a background thread when the dialog is built asynchronously.
+     */
+    protected void prepare() {
+    }
+
+    /**
+     * Runs {@link #prepare()} once.
+     */
+    protected final void ensurePrepared() {
+        checkNotBuilding();
+        if (prepared) return;
+        long start = PopupDialogMetrics.start();
+        prepare();
+        prepared = true;
+        PopupDialogMetrics.end(DialogPhase.PREPARE, getClass(), layout, start);
+    }
+
+    /**
+     * Throws if an asynchronous build of this builder is still running in the background.
+     */
+    private void checkNotBuilding() {
+        if (building) throw new PopupDialogException("Dialog is already being built asynchronously.");
+    }
+
+    /**
+     * Builds the dialog asynchronously. The builder is validated on the calling thread, then the layout
+     * is inflated and {@link #prepare()} runs on the background executor, and finally {@code build}
+     * runs on the main thread. The builder must not be modified until the returned future is done.
+     * <p>
+     * Whether a view has to be inflated at all is decided on the main thread before anything is submitted, since
+     * the binding, the recycled content and the pool are only ever touched there. The background task only creates
+     * the root view and runs {@link #prepare()}; the root is handed back through the post to the main thread, which
+     * is also where the builder is marked as prepared, so no main thread state is read or written in the background.
+     *
+     * @param build The synchronous build of the dialog, run on the main thread.
+     * @return A future completed on the main thread with the built dialog.
+     */
+    protected PopupDialogFuture submitBuild(@NonNull Callable<PopupDialog> build) {
+        validate();
+
+        PopupDialogFuture future = new PopupDialogFuture();
+        DialogExecutors.runOnMainThread(() -> {
+            try {
+                checkNotBuilding();
+            } catch (PopupDialogException exception) {
+                future.fail(exception);
+                return;
+            }
+
+            // Snapshot on the main thread whether the build will need a freshly created view
+            Context context = super.getContext();
+            boolean needsRoot = binding == null
+                    && !super.getPopupDialog().hasContent(layout)
+                    && BindingPool.getInstance(context).getIdleCount(layout) == 0;
+            boolean needsPrepare = !prepared;
+            building = true;
+
+            DialogExecutors.getBackgroundExecutor().execute(() -> {
+                View root = null;
+                try {
+                    if (needsRoot) {
+                        long start = PopupDialogMetrics.start();
+                        boolean traced = DialogTrace.begin(getClass(), DialogTrace.INFLATE);
+                        try {
+                            root = DialogRenderer.getDefault().createView(context, layout);
+                        } finally {
+                            DialogTrace.end(traced);
+                        }
+                        PopupDialogMetrics.end(DialogPhase.INFLATE, getClass(), layout, start);
+                    }
+                    if (needsPrepare) {
+                        long start = PopupDialogMetrics.start();
+                        prepare();
+                        PopupDialogMetrics.end(DialogPhase.PREPARE, getClass(), layout, start);
+                    }
+                } catch (Throwable throwable) {
+                    DialogExecutors.postToMainThread(() -> {
+                        building = false;
+                        future.fail(throwable);
+                    });
+                    return;
+                }
+
+                View createdRoot = root;
+                DialogExecutors.postToMainThread(() -> {
+                    building = false;
+                    if (needsPrepare) prepared = true;
+                    if (future.isCancelled()) return;
+                    if (binding == null) pendingRoot = createdRoot;
+
+                    PopupDialog popupDialog;
+                    try {
+                        popupDialog = build.call();
+                    } catch (Throwable throwable) {
+                        future.fail(throwable);
+                        return;
+                    }
+                    future.complete(popupDialog);
+                });
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Restores the views of the binding to their layout defaults before it goes back to the pool, or before the next
+     * builder of a recyclable dialog rebinds it.
+     * Subclasses override this to undo every view property their {@code build()} may have changed.
+     */
+    protected void resetBinding() {
+    }
+
+    /**
+     * Casts this instance to the specified type.
+     *
+     * @return This {@link BaseDialogBinder} instance cast to the specified type.
+     */
+    @SuppressWarnings("unchecked")
+    private T castType() {
+        return (T) this;
     }
 }
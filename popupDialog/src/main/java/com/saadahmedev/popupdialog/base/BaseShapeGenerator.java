@@ -17,22 +17,36 @@
 package com.saadahmedev.popupdialog.base;
 
 import android.content.res.ColorStateList;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
 import android.graphics.drawable.RippleDrawable;
 
+import androidx.annotation.ColorInt;
 import androidx.annotation.ColorRes;
+import androidx.annotation.DimenRes;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.FontRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
-import androidx.core.content.ContextCompat;
 import androidx.databinding.ViewDataBinding;
 
 import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.cache.DrawableCache;
+import com.saadahmedev.popupdialog.cache.ResourceCache;
+import com.saadahmedev.popupdialog.dto.DialogColor;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.style.PopupDialogStyle;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
 /**
  * BaseShapeGenerator is an abstract class that extends {@link BaseDialogBinder} and provides methods
  * for generating drawable shapes for dialogs, such as rounded rectangles. It also includes
  * methods for converting color resources to integer values, creating {@link RippleDrawable} objects,
- * and converting dimension resources to float values.
+ * converting dimension resources to float values and font resources to cached {@link Typeface} objects.
+ * <p>
+ * It also holds the fonts, text colors and background shared by the standard and status dialogs, which
+ * {@link #setStyle(PopupDialogStyle)} sets from a pre-resolved style.
  *
  * @param <T>  The type of the {@link PopupDialog}.
  * @param <VB> The type of {@link ViewDataBinding} associated with the layout resource.
@@ -41,6 +55,117 @@ import com.saadahmedev.popupdialog.PopupDialog;
  */
 public class BaseShapeGenerator<T, VB extends ViewDataBinding> extends BaseDialogBinder<T, VB> {
 
+    /**
+     * Default font size for the heading text.
+     */
+    private static final float DEFAULT_HEADING_FONT_SIZE = 17F;
+
+    /**
+     * Default font size for the description text.
+     */
+    private static final float DEFAULT_DESCRIPTION_FONT_SIZE = 15F;
+
+    /**
+     * Default font size for the button text.
+     */
+    private static final float DEFAULT_BUTTON_FONT_SIZE = 16F;
+
+    /**
+     * Flag of {@link #assigned} set once the background drawable resource has a value.
+     */
+    protected static final int HAS_BACKGROUND = 1;
+
+    /**
+     * Flag of {@link #assigned} set once the background color resource has a value.
+     */
+    protected static final int HAS_BACKGROUND_COLOR = 1 << 1;
+
+    /**
+     * Flag of {@link #assigned} set once the corner radius of the background has a value.
+     */
+    protected static final int HAS_BACKGROUND_CORNER_RADIUS = 1 << 2;
+
+    /**
+     * Flag of {@link #assigned} set once the four corner radii of the background have a value.
+     */
+    protected static final int HAS_BACKGROUND_CORNER_RADII = 1 << 3;
+
+    /**
+     * The flags of the primitive properties that have been given a value, so that defaults are only resolved
+     * for the others without boxing any of them. Subclasses use the bits above {@link #HAS_BACKGROUND_CORNER_RADII}.
+     */
+    protected int assigned;
+
+    /**
+     * The text color for the heading.
+     */
+    protected DialogColor headingTextColor;
+
+    /**
+     * The text color for the description.
+     */
+    protected DialogColor descriptionTextColor;
+
+    /**
+     * The custom font family for the dialog text.
+     */
+    protected Typeface fontFamily;
+
+    /**
+     * The custom font for the heading text.
+     */
+    protected Typeface headingFont;
+
+    /**
+     * The custom font for the description text.
+     */
+    protected Typeface descriptionFont;
+
+    /**
+     * The custom font for the button text.
+     */
+    protected Typeface buttonFont;
+
+    /**
+     * The font size for the heading text.
+     */
+    protected float headingFontSize = DEFAULT_HEADING_FONT_SIZE;
+
+    /**
+     * The font size for the description text.
+     */
+    protected float descriptionFontSize = DEFAULT_DESCRIPTION_FONT_SIZE;
+
+    /**
+     * The font size for the button text.
+     */
+    protected float buttonFontSize = DEFAULT_BUTTON_FONT_SIZE;
+
+    /**
+     * The top left corner radius for the dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADII} is assigned.
+     */
+    protected float backgroundTopLeftCornerRadius;
+
+    /**
+     * The top right corner radius for the dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADII} is assigned.
+     */
+    protected float backgroundTopRightCornerRadius;
+
+    /**
+     * The bottom left corner radius for the dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADII} is assigned.
+     */
+    protected float backgroundBottomLeftCornerRadius;
+
+    /**
+     * The bottom right corner radius for the dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADII} is assigned.
+     */
+    protected float backgroundBottomRightCornerRadius;
+
+    /**
+     * The background drawable generated from the background color and corner radii, or taken from a style.
+     */
+    protected Drawable backgroundDrawable;
+
     /**
      * Constructs a new BaseShapeGenerator instance with the provided PopupDialog and layout resource.
      *
@@ -51,8 +176,69 @@ public class BaseShapeGenerator<T, VB extends ViewDataBinding> extends BaseDialo
         super(popupDialog, layout);
     }
 
+    /**
+     * Applies a pre-resolved style. Properties left unset in the style keep their current value,
+     * and setters called afterwards override the style.
+     *
+     * @param style The style to apply, resolved for the current configuration of the dialog context.
+     * @return The current instance of the subclass.
+     * @throws PopupDialogException If the style was resolved for another configuration, such as before
+     *                              switching to night mode or changing the font scale.
+     */
+    public T setStyle(@NonNull PopupDialogStyle style) {
+        if (!style.isValidFor(super.getContext())) {
+            throw new PopupDialogException("Dialog style was resolved for another configuration. Build the style again.");
+        }
+
+        applyStyle(style);
+        return castType();
+    }
+
+    /**
+     * Copies the values of a style into the builder. Subclasses override this to apply the values specific to
+     * their dialogs, and call the super method.
+     *
+     * @param style The style to apply.
+     */
+    protected void applyStyle(@NonNull PopupDialogStyle style) {
+        this.fontFamily = null;
+        if (style.getHeadingFont() != null) this.headingFont = style.getHeadingFont();
+        if (style.getDescriptionFont() != null) this.descriptionFont = style.getDescriptionFont();
+        if (style.getButtonFont() != null) this.buttonFont = style.getButtonFont();
+        if (style.getHeadingFontSize() != null) this.headingFontSize = style.getHeadingFontSize();
+        if (style.getDescriptionFontSize() != null) this.descriptionFontSize = style.getDescriptionFontSize();
+        if (style.getButtonFontSize() != null) this.buttonFontSize = style.getButtonFontSize();
+        if (style.getHeadingTextColor() != null) this.headingTextColor = style.getHeadingTextColor();
+        if (style.getDescriptionTextColor() != null) this.descriptionTextColor = style.getDescriptionTextColor();
+        if (style.getBackgroundCornerRadius(0) != null) {
+            this.backgroundTopLeftCornerRadius = style.getBackgroundCornerRadius(0);
+            this.backgroundTopRightCornerRadius = style.getBackgroundCornerRadius(1);
+            this.backgroundBottomLeftCornerRadius = style.getBackgroundCornerRadius(2);
+            this.backgroundBottomRightCornerRadius = style.getBackgroundCornerRadius(3);
+            this.assigned |= HAS_BACKGROUND_CORNER_RADII;
+        }
+
+        Drawable styleBackground = style.newBackground();
+        if (styleBackground != null) {
+            this.assigned &= ~(HAS_BACKGROUND | HAS_BACKGROUND_COLOR);
+            this.backgroundDrawable = styleBackground;
+        }
+    }
+
+    /**
+     * Checks whether a primitive property has been given a value.
+     *
+     * @param flag The flag of the property, such as {@link #HAS_BACKGROUND}.
+     * @return True if the property has a value.
+     */
+    protected final boolean isAssigned(int flag) {
+        return (assigned & flag) != 0;
+    }
+
     /**
      * Generates a GradientDrawable with the specified background color and corner radii.
+     * The drawable shares its state with every other background of the same styling,
+     * see {@link DrawableCache}.
      *
      * @param backgroundColor The background color of the drawable.
      * @param topLeft         The radius of the top-left corner.
@@ -62,38 +248,70 @@ public class BaseShapeGenerator<T, VB extends ViewDataBinding> extends BaseDialo
      * @return A GradientDrawable representing the generated shape.
      */
     protected GradientDrawable getBackground(
-            Integer backgroundColor,
-            Float topLeft,
-            Float topRight,
-            Float bottomLeft,
-            Float bottomRight) {
-        GradientDrawable shape = new GradientDrawable();
-        shape.setShape(GradientDrawable.RECTANGLE);
-        shape.setColor(ContextCompat.getColor(super.getContext(), backgroundColor));
-        shape.setCornerRadii(
-                new float[]{
-                        topLeft,
-                        topLeft,
-                        topRight,
-                        topRight,
-                        bottomRight,
-                        bottomRight,
-                        bottomLeft,
-                        bottomLeft
-                }
-        );
-
-        return shape;
+            @ColorRes int backgroundColor,
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight) {
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.DRAWABLE);
+        try {
+            return DrawableCache.getInstance().getShape(
+                    resToColorInt(backgroundColor),
+                    topLeft,
+                    topRight,
+                    bottomLeft,
+                    bottomRight
+            );
+        } finally {
+            DialogTrace.end(traced);
+        }
+    }
+
+    /**
+     * Generates a background with the specified color and corner radii, wrapped in a ripple.
+     * The drawable shares its state with every other background of the same styling,
+     * see {@link DrawableCache}.
+     *
+     * @param backgroundColor The background color of the drawable.
+     * @param topLeft         The radius of the top-left corner.
+     * @param topRight        The radius of the top-right corner.
+     * @param bottomLeft      The radius of the bottom-left corner.
+     * @param bottomRight     The radius of the bottom-right corner.
+     * @param rippleColor     The color of the ripple effect.
+     * @return A {@link RippleDrawable} representing the generated background.
+     */
+    protected RippleDrawable getBackground(
+            @ColorRes int backgroundColor,
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight,
+            @ColorRes int rippleColor) {
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.DRAWABLE);
+        try {
+            return DrawableCache.getInstance().getRipple(
+                    resToColorInt(backgroundColor),
+                    topLeft,
+                    topRight,
+                    bottomLeft,
+                    bottomRight,
+                    resToColorInt(rippleColor)
+            );
+        } finally {
+            DialogTrace.end(traced);
+        }
     }
 
     /**
-     * Converts a color resource ID to its corresponding integer color value.
+     * Converts a color resource ID to its corresponding integer color value, resolved once per configuration.
      *
      * @param color The color resource ID to convert.
      * @return The integer value representing the color.
+     * @see ResourceCache
      */
-    protected Integer resToColorInt(@NonNull @ColorRes Integer color) {
-        return ContextCompat.getColor(super.getContext(), color);
+    @ColorInt
+    protected int resToColorInt(@ColorRes int color) {
+        return ResourceCache.getInstance().getColor(super.getContext(), color);
     }
 
     /**
@@ -103,21 +321,69 @@ public class BaseShapeGenerator<T, VB extends ViewDataBinding> extends BaseDialo
      * @param rippleColor The color of the ripple effect.
      * @return A {@link RippleDrawable} with the specified properties.
      */
-    protected RippleDrawable getRipple(GradientDrawable shape, Integer rippleColor) {
-        return new RippleDrawable(
-                ColorStateList.valueOf(ContextCompat.getColor(super.getContext(), rippleColor)),
-                shape,
-                null
-        );
+    protected RippleDrawable getRipple(GradientDrawable shape, @ColorRes int rippleColor) {
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.DRAWABLE);
+        try {
+            return new RippleDrawable(
+                    ColorStateList.valueOf(resToColorInt(rippleColor)),
+                    shape,
+                    null
+            );
+        } finally {
+            DialogTrace.end(traced);
+        }
     }
 
     /**
-     * Converts a dimension resource ID to its corresponding float value.
+     * Converts a dimension resource ID to its corresponding float value, resolved once per configuration.
      *
      * @param dimen The dimension resource ID to convert.
      * @return The float value representing the dimension.
+     * @see ResourceCache
+     */
+    protected float dimenToFloat(@DimenRes int dimen) {
+        return ResourceCache.getInstance().getDimension(super.getContext(), dimen);
+    }
+
+    /**
+     * Converts a drawable resource ID to a drawable sharing the state resolved once per configuration.
+     *
+     * @param drawable The drawable resource ID to convert.
+     * @return The drawable, or null if it cannot be loaded.
+     * @see ResourceCache
+     */
+    protected Drawable resToDrawable(@DrawableRes int drawable) {
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.DRAWABLE);
+        try {
+            return ResourceCache.getInstance().getDrawable(super.getContext(), drawable);
+        } finally {
+            DialogTrace.end(traced);
+        }
+    }
+
+    /**
+     * Converts a font resource ID to its Typeface object, loading it at most once per process.
+     *
+     * @param font The resource ID of the font.
+     * @return The Typeface object corresponding to the font resource.
+     * @see ResourceCache
+     */
+    protected Typeface resToTypeface(@FontRes int font) {
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.FONT);
+        try {
+            return ResourceCache.getInstance().getFont(super.getContext(), font);
+        } finally {
+            DialogTrace.end(traced);
+        }
+    }
+
+    /**
+     * Casts this instance to the specified type.
+     *
+     * @return This {@link BaseShapeGenerator} instance cast to the specified type.
      */
-    protected float dimenToFloat(Integer dimen) {
-        return super.getContext().getResources().getDimension(dimen);
+    @SuppressWarnings("unchecked")
+    private T castType() {
+        return (T) this;
     }
 }
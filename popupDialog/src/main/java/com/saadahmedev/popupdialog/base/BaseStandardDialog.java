@@ -16,20 +16,20 @@
 
 package com.saadahmedev.popupdialog.base;
 
-import android.graphics.Typeface;
-
 import androidx.annotation.ColorRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.FontRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
-import androidx.core.content.res.ResourcesCompat;
 import androidx.databinding.ViewDataBinding;
 
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.async.PopupDialogFuture;
+import com.saadahmedev.popupdialog.dto.DialogColor;
 import com.saadahmedev.popupdialog.exception.PopupDialogException;
 import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
+import com.saadahmedev.popupdialog.style.PopupDialogStyle;
 
 /**
  * {@link BaseStandardDialog} is an abstract class designed for customizing standard dialogs in Android applications.
@@ -45,21 +45,6 @@ import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
  */
 public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShapeGenerator<T, VB> {
 
-    /**
-     * Default font size for the heading text.
-     */
-    private static final Float DEFAULT_HEADING_FONT_SIZE = 17F;
-
-    /**
-     * Default font size for the description text.
-     */
-    private static final Float DEFAULT_DESCRIPTION_FONT_SIZE = 15F;
-
-    /**
-     * Default font size for the button text.
-     */
-    private static final Float DEFAULT_BUTTON_FONT_SIZE = 16F;
-
     /**
      * The heading text of the dialog.
      */
@@ -83,92 +68,29 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
     /**
      * The text color for the positive button.
      */
-    protected Integer positiveButtonTextColor;
+    protected DialogColor positiveButtonTextColor;
 
     /**
      * The text color for the negative button.
      */
-    protected Integer negativeButtonTextColor;
-
-    /**
-     * The text color for the heading.
-     */
-    protected Integer headingTextColor;
-
-    /**
-     * The text color for the description.
-     */
-    protected Integer descriptionTextColor;
-
-    /**
-     * The custom font family for the dialog text.
-     */
-    protected Typeface fontFamily;
+    protected DialogColor negativeButtonTextColor;
 
     /**
-     * The custom font for the heading text.
+     * The background drawable resource for the dialog, valid if {@link #HAS_BACKGROUND} is assigned.
      */
-    protected Typeface headingFont;
+    @DrawableRes
+    protected int background;
 
     /**
-     * The custom font for the description text.
+     * The background color resource for the dialog, valid if {@link #HAS_BACKGROUND_COLOR} is assigned.
      */
-    protected Typeface descriptionFont;
+    @ColorRes
+    protected int backgroundColor;
 
     /**
-     * The custom font for the button text.
+     * The corner radius for the dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADIUS} is assigned.
      */
-    protected Typeface buttonFont;
-
-    /**
-     * The font size for the heading text.
-     */
-    protected Float headingFontSize;
-
-    /**
-     * The font size for the description text.
-     */
-    protected Float descriptionFontSize;
-
-    /**
-     * The font size for the button text.
-     */
-    protected Float buttonFontSize;
-
-    /**
-     * The background drawable resource for the dialog.
-     */
-    protected Integer background;
-
-    /**
-     * The background color resource for the dialog.
-     */
-    protected Integer backgroundColor;
-
-    /**
-     * The corner radius for the dialog background.
-     */
-    protected Float backgroundCornerRadius;
-
-    /**
-     * The top left corner radius for the dialog background.
-     */
-    protected Float backgroundTopLeftCornerRadius;
-
-    /**
-     * The top right corner radius for the dialog background.
-     */
-    protected Float backgroundTopRightCornerRadius;
-
-    /**
-     * The bottom left corner radius for the dialog background.
-     */
-    protected Float backgroundBottomLeftCornerRadius;
-
-    /**
-     * The bottom right corner radius for the dialog background.
-     */
-    protected Float backgroundBottomRightCornerRadius;
+    protected float backgroundCornerRadius;
 
     /**
      * Constructs a {@link BaseStandardDialog} instance.
@@ -180,6 +102,18 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
         super(popupDialog, layout);
     }
 
+    /**
+     * Applies the text colors of the buttons of a pre-resolved style.
+     *
+     * @param style The style to apply.
+     */
+    @Override
+    protected void applyStyle(@NonNull PopupDialogStyle style) {
+        super.applyStyle(style);
+        if (style.getPositiveButtonTextColor() != null) this.positiveButtonTextColor = style.getPositiveButtonTextColor();
+        if (style.getNegativeButtonTextColor() != null) this.negativeButtonTextColor = style.getNegativeButtonTextColor();
+    }
+
     /**
      * Sets the heading text of the dialog.
      *
@@ -224,6 +158,17 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
         return castType();
     }
 
+    /**
+     * Sets the text color for the positive button.
+     *
+     * @param positiveButtonTextColor The text color for the positive button.
+     * @return The subclass instance for method chaining.
+     */
+    public T setPositiveButtonTextColor(@ColorRes int positiveButtonTextColor) {
+        this.positiveButtonTextColor = DialogColor.ofResource(positiveButtonTextColor);
+        return castType();
+    }
+
     /**
      * Sets the text color for the positive button.
      *
@@ -231,7 +176,17 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @return The subclass instance for method chaining.
      */
     public T setPositiveButtonTextColor(@NonNull @ColorRes Integer positiveButtonTextColor) {
-        this.positiveButtonTextColor = positiveButtonTextColor;
+        return setPositiveButtonTextColor(positiveButtonTextColor.intValue());
+    }
+
+    /**
+     * Sets the text color for the negative button.
+     *
+     * @param negativeButtonTextColor The text color for the negative button.
+     * @return The subclass instance for method chaining.
+     */
+    public T setNegativeButtonTextColor(@ColorRes int negativeButtonTextColor) {
+        this.negativeButtonTextColor = DialogColor.ofResource(negativeButtonTextColor);
         return castType();
     }
 
@@ -242,7 +197,17 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @return The subclass instance for method chaining.
      */
     public T setNegativeButtonTextColor(@NonNull @ColorRes Integer negativeButtonTextColor) {
-        this.negativeButtonTextColor = negativeButtonTextColor;
+        return setNegativeButtonTextColor(negativeButtonTextColor.intValue());
+    }
+
+    /**
+     * Sets the text color for the heading.
+     *
+     * @param headingTextColor The text color for the heading.
+     * @return The subclass instance for method chaining.
+     */
+    public T setHeadingTextColor(@ColorRes int headingTextColor) {
+        this.headingTextColor = DialogColor.ofResource(headingTextColor);
         return castType();
     }
 
@@ -253,7 +218,17 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @return The subclass instance for method chaining.
      */
     public T setHeadingTextColor(@NonNull @ColorRes Integer headingTextColor) {
-        this.headingTextColor = headingTextColor;
+        return setHeadingTextColor(headingTextColor.intValue());
+    }
+
+    /**
+     * Sets the text color for the description.
+     *
+     * @param descriptionTextColor The text color for the description.
+     * @return The subclass instance for method chaining.
+     */
+    public T setDescriptionTextColor(@ColorRes int descriptionTextColor) {
+        this.descriptionTextColor = DialogColor.ofResource(descriptionTextColor);
         return castType();
     }
 
@@ -264,8 +239,7 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @return The subclass instance for method chaining.
      */
     public T setDescriptionTextColor(@NonNull @ColorRes Integer descriptionTextColor) {
-        this.descriptionTextColor = descriptionTextColor;
-        return castType();
+        return setDescriptionTextColor(descriptionTextColor.intValue());
     }
 
     /**
@@ -274,110 +248,213 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @param fontFamily The resource ID of the font family.
      * @return The subclass instance for method chaining.
      */
-    public T setFontFamily(@NonNull @FontRes Integer fontFamily) {
+    public T setFontFamily(@FontRes int fontFamily) {
         this.fontFamily = resToTypeface(fontFamily);
         return castType();
     }
 
+    /**
+     * Sets the custom font family for the dialog text.
+     *
+     * @param fontFamily The resource ID of the font family.
+     * @return The subclass instance for method chaining.
+     */
+    public T setFontFamily(@NonNull @FontRes Integer fontFamily) {
+        return setFontFamily(fontFamily.intValue());
+    }
+
     /**
      * Sets the custom font for the heading text.
      *
      * @param headingFont The resource ID of the font.
      * @return The subclass instance for method chaining.
      */
-    public T setHeadingFont(@NonNull @FontRes Integer headingFont) {
+    public T setHeadingFont(@FontRes int headingFont) {
         this.headingFont = resToTypeface(headingFont);
         return castType();
     }
 
+    /**
+     * Sets the custom font for the heading text.
+     *
+     * @param headingFont The resource ID of the font.
+     * @return The subclass instance for method chaining.
+     */
+    public T setHeadingFont(@NonNull @FontRes Integer headingFont) {
+        return setHeadingFont(headingFont.intValue());
+    }
+
     /**
      * Sets the custom font for the description text.
      *
      * @param descriptionFont The resource ID of the font.
      * @return The subclass instance for method chaining.
      */
-    public T setDescriptionFont(@NonNull @FontRes Integer descriptionFont) {
+    public T setDescriptionFont(@FontRes int descriptionFont) {
         this.descriptionFont = resToTypeface(descriptionFont);
         return castType();
     }
 
+    /**
+     * Sets the custom font for the description text.
+     *
+     * @param descriptionFont The resource ID of the font.
+     * @return The subclass instance for method chaining.
+     */
+    public T setDescriptionFont(@NonNull @FontRes Integer descriptionFont) {
+        return setDescriptionFont(descriptionFont.intValue());
+    }
+
     /**
      * Sets the custom font for the button text.
      *
      * @param buttonFont The resource ID of the font.
      * @return The subclass instance for method chaining.
      */
-    public T setButtonFont(@NonNull @FontRes Integer buttonFont) {
+    public T setButtonFont(@FontRes int buttonFont) {
         this.buttonFont = resToTypeface(buttonFont);
         return castType();
     }
 
+    /**
+     * Sets the custom font for the button text.
+     *
+     * @param buttonFont The resource ID of the font.
+     * @return The subclass instance for method chaining.
+     */
+    public T setButtonFont(@NonNull @FontRes Integer buttonFont) {
+        return setButtonFont(buttonFont.intValue());
+    }
+
     /**
      * Sets the font size for the heading text.
      *
      * @param headingFontSize The font size for the heading text.
      * @return The subclass instance for method chaining.
      */
-    public T setHeadingFontSize(@NonNull Float headingFontSize) {
+    public T setHeadingFontSize(float headingFontSize) {
         this.headingFontSize = headingFontSize;
         return castType();
     }
 
+    /**
+     * Sets the font size for the heading text.
+     *
+     * @param headingFontSize The font size for the heading text.
+     * @return The subclass instance for method chaining.
+     */
+    public T setHeadingFontSize(@NonNull Float headingFontSize) {
+        return setHeadingFontSize(headingFontSize.floatValue());
+    }
+
     /**
      * Sets the font size for the description text.
      *
      * @param descriptionFontSize The font size for the description text.
      * @return The subclass instance for method chaining.
      */
-    public T setDescriptionFontSize(@NonNull Float descriptionFontSize) {
+    public T setDescriptionFontSize(float descriptionFontSize) {
         this.descriptionFontSize = descriptionFontSize;
         return castType();
     }
 
+    /**
+     * Sets the font size for the description text.
+     *
+     * @param descriptionFontSize The font size for the description text.
+     * @return The subclass instance for method chaining.
+     */
+    public T setDescriptionFontSize(@NonNull Float descriptionFontSize) {
+        return setDescriptionFontSize(descriptionFontSize.floatValue());
+    }
+
     /**
      * Sets the font size for the button text.
      *
      * @param buttonFontSize The font size for the button text.
      * @return The subclass instance for method chaining.
      */
-    public T setButtonFontSize(@NonNull Float buttonFontSize) {
+    public T setButtonFontSize(float buttonFontSize) {
         this.buttonFontSize = buttonFontSize;
         return castType();
     }
 
+    /**
+     * Sets the font size for the button text.
+     *
+     * @param buttonFontSize The font size for the button text.
+     * @return The subclass instance for method chaining.
+     */
+    public T setButtonFontSize(@NonNull Float buttonFontSize) {
+        return setButtonFontSize(buttonFontSize.floatValue());
+    }
+
     /**
      * Sets the background drawable resource for the dialog.
      *
      * @param background The background drawable resource.
      * @return The subclass instance for method chaining.
      */
-    public T setBackground(@NonNull @DrawableRes Integer background) {
+    public T setBackground(@DrawableRes int background) {
         this.background = background;
+        this.assigned |= HAS_BACKGROUND;
         return castType();
     }
 
+    /**
+     * Sets the background drawable resource for the dialog.
+     *
+     * @param background The background drawable resource.
+     * @return The subclass instance for method chaining.
+     */
+    public T setBackground(@NonNull @DrawableRes Integer background) {
+        return setBackground(background.intValue());
+    }
+
     /**
      * Sets the background color resource for the dialog.
      *
      * @param backgroundColor The background color resource.
      * @return The subclass instance for method chaining.
      */
-    public T setBackgroundColor(@NonNull @ColorRes Integer backgroundColor) {
+    public T setBackgroundColor(@ColorRes int backgroundColor) {
         this.backgroundColor = backgroundColor;
+        this.assigned |= HAS_BACKGROUND_COLOR;
         return castType();
     }
 
+    /**
+     * Sets the background color resource for the dialog.
+     *
+     * @param backgroundColor The background color resource.
+     * @return The subclass instance for method chaining.
+     */
+    public T setBackgroundColor(@NonNull @ColorRes Integer backgroundColor) {
+        return setBackgroundColor(backgroundColor.intValue());
+    }
+
     /**
      * Sets the corner radius for the dialog background.
      *
      * @param cornerRadius The corner radius for the dialog background.
      * @return The subclass instance for method chaining.
      */
-    public T setBackgroundCornerRadius(@NonNull Float cornerRadius) {
+    public T setBackgroundCornerRadius(float cornerRadius) {
         this.backgroundCornerRadius = cornerRadius;
+        this.assigned |= HAS_BACKGROUND_CORNER_RADIUS;
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the dialog background.
+     *
+     * @param cornerRadius The corner radius for the dialog background.
+     * @return The subclass instance for method chaining.
+     */
+    public T setBackgroundCornerRadius(@NonNull Float cornerRadius) {
+        return setBackgroundCornerRadius(cornerRadius.floatValue());
+    }
+
     /**
      * Sets the corner radius for the dialog background.
      *
@@ -388,17 +465,40 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @return The subclass instance for method chaining.
      */
     public T setBackgroundCornerRadius(
-            @NonNull Float topLeft,
-            @NonNull Float topRight,
-            @NonNull Float bottomLeft,
-            @NonNull Float bottomRight) {
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight) {
         this.backgroundTopLeftCornerRadius = topLeft;
         this.backgroundTopRightCornerRadius = topRight;
         this.backgroundBottomLeftCornerRadius = bottomLeft;
         this.backgroundBottomRightCornerRadius = bottomRight;
+        this.assigned |= HAS_BACKGROUND_CORNER_RADII;
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the dialog background.
+     *
+     * @param topLeft     The top left corner radius for the dialog background.
+     * @param topRight    The top right corner radius for the dialog background.
+     * @param bottomLeft  The bottom left corner radius for the dialog background.
+     * @param bottomRight The bottom right corner radius for the dialog background.
+     * @return The subclass instance for method chaining.
+     */
+    public T setBackgroundCornerRadius(
+            @NonNull Float topLeft,
+            @NonNull Float topRight,
+            @NonNull Float bottomLeft,
+            @NonNull Float bottomRight) {
+        return setBackgroundCornerRadius(
+                topLeft.floatValue(),
+                topRight.floatValue(),
+                bottomLeft.floatValue(),
+                bottomRight.floatValue()
+        );
+    }
+
     /**
      * Constructs the dialog with the provided settings.
      *
@@ -407,18 +507,50 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
      * @throws PopupDialogException if the heading or description is null.
      */
     public PopupDialog build(StandardDialogActionListener listener) {
+        validate();
+        inflate();
+        ensurePrepared();
+
+        return super.getPopupDialog();
+    }
+
+    /**
+     * Constructs the dialog asynchronously, inflating the layout and resolving fonts and drawables
+     * on a background thread.
+     *
+     * @param listener The listener for dialog actions.
+     * @return A future completed on the main thread with the constructed PopupDialog instance.
+     * @throws PopupDialogException if the heading or description is null.
+     */
+    public PopupDialogFuture buildAsync(StandardDialogActionListener listener) {
+        return submitBuild(() -> build(listener));
+    }
+
+    /**
+     * Checks that the heading and description are set.
+     *
+     * @throws PopupDialogException if the heading or description is null.
+     */
+    @Override
+    protected void validate() {
         if (heading == null) throw new PopupDialogException("Standard dialog heading is null");
         if (description == null)
             throw new PopupDialogException("Standard dialog description is null");
+    }
 
+    /**
+     * Resolves the default texts, colors, fonts, font sizes and background corner radii.
+     */
+    @Override
+    protected void prepare() {
         positiveButtonText = positiveButtonText == null ? "Submit" : positiveButtonText;
         negativeButtonText = negativeButtonText == null ? "Cancel" : negativeButtonText;
 
 //        positiveButtonTextColor = positiveButtonTextColor == null ? super.resToColorInt(R.color.colorWhite) : positiveButtonTextColor;
 //        negativeButtonTextColor = negativeButtonTextColor == null ? super.resToColorInt(R.color.colorBlack) : negativeButtonTextColor;
 
-        headingTextColor = headingTextColor == null ? super.resToColorInt(R.color.text_color) : headingTextColor;
-        descriptionTextColor = descriptionTextColor == null ? super.resToColorInt(R.color.text_color) : descriptionTextColor;
+        headingTextColor = headingTextColor == null ? DialogColor.ofColorInt(super.resToColorInt(R.color.text_color)) : headingTextColor;
+        descriptionTextColor = descriptionTextColor == null ? DialogColor.ofColorInt(super.resToColorInt(R.color.text_color)) : descriptionTextColor;
 
         if (fontFamily != null) {
             headingFont = fontFamily;
@@ -430,40 +562,32 @@ public class BaseStandardDialog<T, VB extends ViewDataBinding> extends BaseShape
             buttonFont = buttonFont == null ? resToTypeface(R.font.medium) : buttonFont;
         }
 
-        headingFontSize = headingFontSize == null ? DEFAULT_HEADING_FONT_SIZE : headingFontSize;
-        descriptionFontSize = descriptionFontSize == null ? DEFAULT_DESCRIPTION_FONT_SIZE : descriptionFontSize;
-        buttonFontSize = buttonFontSize == null ? DEFAULT_BUTTON_FONT_SIZE : buttonFontSize;
-
-        if (background != null) {
-            backgroundColor = null;
-            backgroundCornerRadius = null;
+        if (isAssigned(HAS_BACKGROUND)) {
+            assigned &= ~(HAS_BACKGROUND_COLOR | HAS_BACKGROUND_CORNER_RADIUS);
         }
-        else if (backgroundColor != null) {
-            if (backgroundCornerRadius != null) {
+        else if (isAssigned(HAS_BACKGROUND_COLOR)) {
+            if (isAssigned(HAS_BACKGROUND_CORNER_RADIUS)) {
                 backgroundTopLeftCornerRadius = backgroundCornerRadius;
                 backgroundTopRightCornerRadius = backgroundCornerRadius;
                 backgroundBottomLeftCornerRadius = backgroundCornerRadius;
                 backgroundBottomRightCornerRadius = backgroundCornerRadius;
             }
-            else {
-                backgroundTopLeftCornerRadius = backgroundTopLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundTopLeftCornerRadius;
-                backgroundTopRightCornerRadius = backgroundTopRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundTopRightCornerRadius;
-                backgroundBottomLeftCornerRadius = backgroundBottomLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundBottomLeftCornerRadius;
-                backgroundBottomRightCornerRadius = backgroundBottomRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundBottomRightCornerRadius;
+            else if (!isAssigned(HAS_BACKGROUND_CORNER_RADII)) {
+                float defaultRadius = dimenToFloat(R.dimen.dp_5);
+                backgroundTopLeftCornerRadius = defaultRadius;
+                backgroundTopRightCornerRadius = defaultRadius;
+                backgroundBottomLeftCornerRadius = defaultRadius;
+                backgroundBottomRightCornerRadius = defaultRadius;
             }
-        }
 
-        return super.getPopupDialog();
-    }
-
-    /**
-     * Converts a resource ID of a font to a Typeface object.
-     *
-     * @param font The resource ID of the font.
-     * @return The Typeface object corresponding to the font resource.
-     */
-    private Typeface resToTypeface(@NonNull @FontRes Integer font) {
-        return ResourcesCompat.getFont(super.getContext(), font);
+            backgroundDrawable = getBackground(
+                    backgroundColor,
+                    backgroundTopLeftCornerRadius,
+                    backgroundTopRightCornerRadius,
+                    backgroundBottomLeftCornerRadius,
+                    backgroundBottomRightCornerRadius
+            );
+        }
     }
 
     /**
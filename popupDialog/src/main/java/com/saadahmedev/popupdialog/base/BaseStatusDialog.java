@@ -16,8 +16,7 @@
 
 package com.saadahmedev.popupdialog.base;
 
-import android.graphics.Typeface;
-import android.graphics.drawable.GradientDrawable;
+import android.graphics.drawable.Drawable;
 
 import androidx.annotation.ColorRes;
 import androidx.annotation.DrawableRes;
@@ -25,17 +24,26 @@ import androidx.annotation.FontRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.RawRes;
-import androidx.core.content.res.ResourcesCompat;
 import androidx.databinding.ViewDataBinding;
 
+import com.airbnb.lottie.LottieComposition;
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.animation.LottiePlaybackController;
+import com.saadahmedev.popupdialog.animation.LottiePlaybackPolicy;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.PopupDialogFuture;
+import com.saadahmedev.popupdialog.cache.LottieCompositionCache;
+import com.saadahmedev.popupdialog.dto.DialogColor;
 import com.saadahmedev.popupdialog.databinding.DialogStatusBinding;
 import com.saadahmedev.popupdialog.dialog.status.ErrorDialog;
 import com.saadahmedev.popupdialog.dialog.status.SuccessDialog;
 import com.saadahmedev.popupdialog.dto.StatusDialogData;
 import com.saadahmedev.popupdialog.exception.PopupDialogException;
 import com.saadahmedev.popupdialog.listener.StatusDialogActionListener;
+import com.saadahmedev.popupdialog.queue.StatusDialogCoalescer;
+import com.saadahmedev.popupdialog.style.PopupDialogStyle;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
 /**
  * Base class for creating status dialogs with customizable properties such as headings, descriptions, and action buttons.
@@ -55,169 +63,145 @@ import com.saadahmedev.popupdialog.listener.StatusDialogActionListener;
 public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGenerator<T, VB> {
 
     /**
-     * Default font size for heading text.
+     * Flag of {@link #assigned} set once {@link #lottieRaw} has a value.
      */
-    private static final Float DEFAULT_HEADING_FONT_SIZE = 17F;
+    private static final int HAS_LOTTIE_RAW = 1 << 4;
 
     /**
-     * Default font size for description text.
+     * Flag of {@link #assigned} set once {@link #actionButtonBackground} has a value.
      */
-    private static final Float DEFAULT_DESCRIPTION_FONT_SIZE = 15F;
+    private static final int HAS_ACTION_BUTTON_BACKGROUND = 1 << 5;
 
     /**
-     * Default font size for button text.
+     * Flag of {@link #assigned} set once {@link #actionButtonBackgroundColor} has a value.
      */
-    private static final Float DEFAULT_BUTTON_FONT_SIZE = 16F;
+    private static final int HAS_ACTION_BUTTON_BACKGROUND_COLOR = 1 << 6;
 
     /**
-     * Resource ID for the Lottie animation file.
+     * Flag of {@link #assigned} set once {@link #actionButtonRippleColor} has a value.
      */
-    private Integer lottieRaw;
+    private static final int HAS_ACTION_BUTTON_RIPPLE_COLOR = 1 << 7;
 
     /**
-     * Asset file name for the Lottie animation.
+     * Flag of {@link #assigned} set once {@link #actionButtonCornerRadius} has a value.
      */
-    private String lottieAsset;
+    private static final int HAS_ACTION_BUTTON_CORNER_RADIUS = 1 << 8;
 
     /**
-     * Text for the dialog heading.
+     * Flag of {@link #assigned} set once the four corner radii of the action button have a value.
      */
-    private String heading;
+    private static final int HAS_ACTION_BUTTON_CORNER_RADII = 1 << 9;
 
     /**
-     * Text for the dialog description.
+     * Resource ID for the Lottie animation file, valid if {@link #HAS_LOTTIE_RAW} is assigned.
      */
-    private String description;
-
-    /**
-     * Text for the action button.
-     */
-    private String actionButtonText;
+    @RawRes
+    private int lottieRaw;
 
     /**
-     * Color resource ID for heading text color.
-     */
-    private Integer headingTextColor;
-
-    /**
-     * Color resource ID for description text color.
-     */
-    private Integer descriptionTextColor;
-
-    /**
-     * Color resource ID for action button text color.
-     */
-    private Integer actionButtonTextColor;
-
-    /**
-     * Drawable resource ID for dialog background.
-     */
-    private Integer background;
-
-    /**
-     * Color resource ID for dialog background color.
-     */
-    private Integer backgroundColor;
-
-    /**
-     * Drawable resource ID for action button background.
+     * Asset file name for the Lottie animation.
      */
-    private Integer actionButtonBackground;
+    private String lottieAsset;
 
     /**
-     * Color resource ID for action button background color.
+     * The parsed Lottie composition, when available from the {@link LottieCompositionCache}.
      */
-    private Integer actionButtonBackgroundColor;
+    private LottieComposition lottieComposition;
 
     /**
-     * Color resource ID for action button ripple color.
+     * The playback policy of the Lottie animation, or null to use {@link LottiePlaybackPolicy#getDefault()}.
      */
-    private Integer actionButtonRippleColor;
+    private LottiePlaybackPolicy lottiePlaybackPolicy;
 
     /**
-     * Corner radius for action button.
+     * The controller applying the playback policy to the Lottie icon of the built dialog.
      */
-    private Float actionButtonCornerRadius;
+    private LottiePlaybackController lottiePlaybackController;
 
     /**
-     * Corner radius for dialog background.
+     * Text for the dialog heading.
      */
-    private Float backgroundCornerRadius;
+    private String heading;
 
     /**
-     * Corner radius for dialog background (top left).
+     * Text for the dialog description.
      */
-    private Float backgroundTopLeftCornerRadius;
+    private String description;
 
     /**
-     * Corner radius for dialog background (top right).
+     * Text for the action button.
      */
-    private Float backgroundTopRightCornerRadius;
+    private String actionButtonText;
 
     /**
-     * Corner radius for dialog background (bottom left).
+     * Color for action button text color.
      */
-    private Float backgroundBottomLeftCornerRadius;
+    private DialogColor actionButtonTextColor;
 
     /**
-     * Corner radius for dialog background (bottom right).
+     * Drawable resource ID for dialog background, valid if {@link #HAS_BACKGROUND} is assigned.
      */
-    private Float backgroundBottomRightCornerRadius;
+    @DrawableRes
+    private int background;
 
     /**
-     * Corner radius for action button (top left).
+     * Color resource ID for dialog background color, valid if {@link #HAS_BACKGROUND_COLOR} is assigned.
      */
-    private Float actionButtonTopLeftCornerRadius;
+    @ColorRes
+    private int backgroundColor;
 
     /**
-     * Corner radius for action button (top right).
+     * Drawable resource ID for action button background, valid if {@link #HAS_ACTION_BUTTON_BACKGROUND} is assigned.
      */
-    private Float actionButtonTopRightCornerRadius;
+    @DrawableRes
+    private int actionButtonBackground;
 
     /**
-     * Corner radius for action button (bottom left).
+     * Color resource ID for action button background color, valid if {@link #HAS_ACTION_BUTTON_BACKGROUND_COLOR} is assigned.
      */
-    private Float actionButtonBottomLeftCornerRadius;
+    @ColorRes
+    private int actionButtonBackgroundColor;
 
     /**
-     * Corner radius for action button (bottom right).
+     * Color resource ID for action button ripple color, valid if {@link #HAS_ACTION_BUTTON_RIPPLE_COLOR} is assigned.
      */
-    private Float actionButtonBottomRightCornerRadius;
+    @ColorRes
+    private int actionButtonRippleColor;
 
     /**
-     * Resource ID for the font family.
+     * Corner radius for action button, valid if {@link #HAS_ACTION_BUTTON_CORNER_RADIUS} is assigned.
      */
-    private Typeface fontFamily;
+    private float actionButtonCornerRadius;
 
     /**
-     * Typeface for the dialog heading.
+     * Corner radius for dialog background, valid if {@link #HAS_BACKGROUND_CORNER_RADIUS} is assigned.
      */
-    private Typeface headingFont;
+    private float backgroundCornerRadius;
 
     /**
-     * Typeface for the dialog description.
+     * Corner radius for action button (top left), valid if {@link #HAS_ACTION_BUTTON_CORNER_RADII} is assigned.
      */
-    private Typeface descriptionFont;
+    private float actionButtonTopLeftCornerRadius;
 
     /**
-     * Typeface for the action button text.
+     * Corner radius for action button (top right), valid if {@link #HAS_ACTION_BUTTON_CORNER_RADII} is assigned.
      */
-    private Typeface buttonFont;
+    private float actionButtonTopRightCornerRadius;
 
     /**
-     * Font size for the dialog heading.
+     * Corner radius for action button (bottom left), valid if {@link #HAS_ACTION_BUTTON_CORNER_RADII} is assigned.
      */
-    private Float headingFontSize;
+    private float actionButtonBottomLeftCornerRadius;
 
     /**
-     * Font size for the dialog description.
+     * Corner radius for action button (bottom right), valid if {@link #HAS_ACTION_BUTTON_CORNER_RADII} is assigned.
      */
-    private Float descriptionFontSize;
+    private float actionButtonBottomRightCornerRadius;
 
     /**
-     * Font size for the action button text.
+     * Background drawable generated for the action button.
      */
-    private Float buttonFontSize;
+    private Drawable actionButtonDrawable;
 
     /**
      * Constructs a {@link BaseStatusDialog}.
@@ -233,55 +217,170 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * Initializes default values for corner radius properties.
      */
     private void init() {
-        if (this.actionButtonCornerRadius != null) {
+        if (isAssigned(HAS_ACTION_BUTTON_CORNER_RADIUS)) {
             this.actionButtonTopLeftCornerRadius = this.actionButtonCornerRadius;
             this.actionButtonTopRightCornerRadius = this.actionButtonCornerRadius;
             this.actionButtonBottomRightCornerRadius = this.actionButtonCornerRadius;
             this.actionButtonBottomLeftCornerRadius = this.actionButtonCornerRadius;
-        } else {
-            this.actionButtonTopLeftCornerRadius = this.actionButtonTopLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : actionButtonTopLeftCornerRadius;
-            this.actionButtonTopRightCornerRadius = this.actionButtonTopRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : actionButtonTopRightCornerRadius;
-            this.actionButtonBottomRightCornerRadius = this.actionButtonBottomRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : actionButtonBottomRightCornerRadius;
-            this.actionButtonBottomLeftCornerRadius = this.actionButtonBottomLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : actionButtonBottomLeftCornerRadius;
+        } else if (!isAssigned(HAS_ACTION_BUTTON_CORNER_RADII)) {
+            float defaultRadius = dimenToFloat(R.dimen.dp_5);
+            this.actionButtonTopLeftCornerRadius = defaultRadius;
+            this.actionButtonTopRightCornerRadius = defaultRadius;
+            this.actionButtonBottomRightCornerRadius = defaultRadius;
+            this.actionButtonBottomLeftCornerRadius = defaultRadius;
         }
     }
 
     /**
      * Builds and returns the {@link PopupDialog}.
+     * <p>
+     * If the {@link StatusDialogCoalescer} finds an identical dialog showing or queued, that dialog is returned
+     * instead and nothing is built: the {@link android.app.Dialog} of this builder is never created, {@code listener} is not
+     * attached, and the cancelability, timeout and listeners set on the {@link PopupDialog} of this builder are
+     * dropped. Anything set on the returned instance applies to the existing dialog.
      *
      * @param listener The listener for dialog actions.
-     * @return The constructed {@link PopupDialog} instance.
+     * @return The constructed {@link PopupDialog} instance, or the identical dialog it was coalesced into.
      */
     public PopupDialog build(StatusDialogActionListener listener) {
-        init();
-        if (lottieRaw == null && lottieAsset == null) throw new PopupDialogException("Lottie raw or asset animation is required");
+        validate();
+        ensurePrepared();
+
+        // Drop the dialog before its Dialog and window are created if an identical one is already showing or queued
+        StatusDialogCoalescer coalescer = StatusDialogCoalescer.getInstance();
+        StatusDialogData data = new StatusDialogData(
+                heading,
+                description,
+                headingTextColor,
+                descriptionTextColor,
+                actionButtonTextColor,
+                actionButtonText
+        );
+        PopupDialog duplicate = coalescer.coalesce(getContext(), getClass(), data);
+        if (duplicate != null) return duplicate;
+
+        inflate();
+
+        if (isAssigned(HAS_ACTION_BUTTON_BACKGROUND)) {
+            ((DialogStatusBinding) binding).btnDismiss.setBackground(resToDrawable(this.actionButtonBackground));
+        } else if (this.actionButtonDrawable != null) {
+            ((DialogStatusBinding) binding).btnDismiss.setBackground(this.actionButtonDrawable);
+        }
+
+        if (lottieComposition != null) ((DialogStatusBinding) binding).lottieIcon.setComposition(lottieComposition);
+        else if (isAssigned(HAS_LOTTIE_RAW)) ((DialogStatusBinding) binding).lottieIcon.setAnimation(lottieRaw);
+        else if (lottieAsset != null) ((DialogStatusBinding) binding).lottieIcon.setAnimation(lottieAsset);
+        if (lottiePlaybackController != null) lottiePlaybackController.release();
+        lottiePlaybackController = LottiePlaybackController.attach(
+                ((DialogStatusBinding) binding).lottieIcon,
+                lottiePlaybackPolicy != null ? lottiePlaybackPolicy : LottiePlaybackPolicy.getDefault()
+        );
+
+        ((DialogStatusBinding) binding).btnDismiss.setTypeface(buttonFont);
+        ((DialogStatusBinding) binding).tvHeading.setTypeface(headingFont);
+        ((DialogStatusBinding) binding).tvDescription.setTypeface(descriptionFont);
+        ((DialogStatusBinding) binding).btnDismiss.setTextSize(buttonFontSize);
+        ((DialogStatusBinding) binding).tvHeading.setTextSize(headingFontSize);
+        ((DialogStatusBinding) binding).tvDescription.setTextSize(descriptionFontSize);
+
+        if (isAssigned(HAS_BACKGROUND)) {
+            ((DialogStatusBinding) binding).layoutRoot.setBackground(resToDrawable(background));
+        } else if (backgroundDrawable != null) {
+            ((DialogStatusBinding) binding).layoutRoot.setBackground(backgroundDrawable);
+        }
+
+        ((DialogStatusBinding) binding).setDialog(super.getDialog());
+        ((DialogStatusBinding) binding).setListener(listener);
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.SET_ITEM);
+        try {
+            ((DialogStatusBinding) binding).setItem(data);
+            executeBindings();
+        } finally {
+            DialogTrace.end(traced);
+        }
+
+        coalescer.register(getClass(), data, super.getPopupDialog(), coalescer.isShowCount() ? this::showOccurrenceCount : null);
+        return super.getPopupDialog();
+    }
+
+    /**
+     * Shows the number of occurrences of the dialog next to its heading, once identical dialogs have been coalesced into it.
+     *
+     * @param count The number of occurrences of the dialog.
+     */
+    private void showOccurrenceCount(int count) {
+        ((DialogStatusBinding) binding).tvHeading.setText(heading + " \u00D7" + count);
+    }
+
+    /**
+     * Builds the {@link PopupDialog} asynchronously, inflating the layout and resolving fonts and drawables
+     * on a background thread. Like {@link #build(StatusDialogActionListener)}, the future may be completed with
+     * the identical dialog this one was coalesced into.
+     *
+     * @param listener The listener for dialog actions.
+     * @return A future completed on the main thread with the constructed {@link PopupDialog} instance.
+     */
+    public PopupDialogFuture buildAsync(StatusDialogActionListener listener) {
+        return submitBuild(() -> build(listener));
+    }
+
+    /**
+     * Checks that the Lottie animation, heading and description are set.
+     *
+     * @throws PopupDialogException if the Lottie animation, heading or description is null.
+     */
+    @Override
+    protected void validate() {
+        if (!isAssigned(HAS_LOTTIE_RAW) && lottieAsset == null) throw new PopupDialogException("Lottie raw or asset animation is required");
         if (heading == null) throw new PopupDialogException("Standard dialog heading is null");
         if (description == null)
             throw new PopupDialogException("Standard dialog description is null");
+    }
 
-        if (this.actionButtonBackground != null) {
-            ((DialogStatusBinding) binding).btnDismiss.setBackgroundResource(this.actionButtonBackground);
-        } else if (this.actionButtonBackgroundColor != null) {
-            GradientDrawable shape = getBackground(
-                    actionButtonBackgroundColor,
-                    actionButtonTopLeftCornerRadius,
-                    actionButtonTopRightCornerRadius,
-                    actionButtonBottomLeftCornerRadius,
-                    actionButtonBottomRightCornerRadius
-            );
+    /**
+     * Resolves the default texts, colors, fonts, font sizes, corner radii and the generated backgrounds.
+     */
+    @Override
+    protected void prepare() {
+        init();
 
-            if (this.actionButtonRippleColor != null) ((DialogStatusBinding) binding).btnDismiss.setBackground(getRipple(shape, this.actionButtonRippleColor));
-            else ((DialogStatusBinding) binding).btnDismiss.setBackground(shape);
+        // Parse the animation here only when off the main thread, otherwise use it if it has been prefetched
+        LottieCompositionCache lottieCache = LottieCompositionCache.getInstance();
+        boolean background = !DialogExecutors.isMainThread();
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.LOTTIE);
+        try {
+            if (isAssigned(HAS_LOTTIE_RAW)) lottieComposition = background ? lottieCache.load(getContext(), lottieRaw) : lottieCache.get(lottieRaw);
+            else if (lottieAsset != null) lottieComposition = background ? lottieCache.load(getContext(), lottieAsset) : lottieCache.get(lottieAsset);
+        } finally {
+            DialogTrace.end(traced);
         }
 
-        actionButtonText = actionButtonText == null ? "Dismiss" : actionButtonText;
+        if (!isAssigned(HAS_ACTION_BUTTON_BACKGROUND) && isAssigned(HAS_ACTION_BUTTON_BACKGROUND_COLOR)) {
+            if (isAssigned(HAS_ACTION_BUTTON_RIPPLE_COLOR)) {
+                this.actionButtonDrawable = getBackground(
+                        actionButtonBackgroundColor,
+                        actionButtonTopLeftCornerRadius,
+                        actionButtonTopRightCornerRadius,
+                        actionButtonBottomLeftCornerRadius,
+                        actionButtonBottomRightCornerRadius,
+                        actionButtonRippleColor
+                );
+            } else {
+                this.actionButtonDrawable = getBackground(
+                        actionButtonBackgroundColor,
+                        actionButtonTopLeftCornerRadius,
+                        actionButtonTopRightCornerRadius,
+                        actionButtonBottomLeftCornerRadius,
+                        actionButtonBottomRightCornerRadius
+                );
+            }
+        }
 
-        actionButtonTextColor = actionButtonTextColor == null ? super.resToColorInt(R.color.static_white) : actionButtonTextColor;
-        headingTextColor = headingTextColor == null ? super.resToColorInt(R.color.text_color) : headingTextColor;
-        descriptionTextColor = descriptionTextColor == null ? super.resToColorInt(R.color.text_color_dim) : descriptionTextColor;
+        actionButtonText = actionButtonText == null ? "Dismiss" : actionButtonText;
 
-        if (lottieRaw != null) ((DialogStatusBinding) binding).lottieIcon.setAnimation(lottieRaw);
-        else if (lottieAsset != null) ((DialogStatusBinding) binding).lottieIcon.setAnimation(lottieAsset);
+        actionButtonTextColor = actionButtonTextColor == null ? DialogColor.ofColorInt(super.resToColorInt(R.color.static_white)) : actionButtonTextColor;
+        headingTextColor = headingTextColor == null ? DialogColor.ofColorInt(super.resToColorInt(R.color.text_color)) : headingTextColor;
+        descriptionTextColor = descriptionTextColor == null ? DialogColor.ofColorInt(super.resToColorInt(R.color.text_color_dim)) : descriptionTextColor;
 
         if (fontFamily != null) {
             headingFont = fontFamily;
@@ -293,59 +392,46 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
             buttonFont = buttonFont == null ? resToTypeface(R.font.medium) : buttonFont;
         }
 
-        headingFontSize = headingFontSize == null ? DEFAULT_HEADING_FONT_SIZE : headingFontSize;
-        descriptionFontSize = descriptionFontSize == null ? DEFAULT_DESCRIPTION_FONT_SIZE : descriptionFontSize;
-        buttonFontSize = buttonFontSize == null ? DEFAULT_BUTTON_FONT_SIZE : buttonFontSize;
-
-        ((DialogStatusBinding) binding).btnDismiss.setTypeface(buttonFont);
-        ((DialogStatusBinding) binding).tvHeading.setTypeface(headingFont);
-        ((DialogStatusBinding) binding).tvDescription.setTypeface(descriptionFont);
-        ((DialogStatusBinding) binding).btnDismiss.setTextSize(buttonFontSize);
-        ((DialogStatusBinding) binding).tvHeading.setTextSize(headingFontSize);
-        ((DialogStatusBinding) binding).tvDescription.setTextSize(descriptionFontSize);
-
-        if (background != null) {
-            backgroundColor = null;
-            backgroundCornerRadius = null;
-            ((DialogStatusBinding) binding).layoutRoot.setBackgroundResource(background);
-        } else if (backgroundColor != null) {
-            if (backgroundCornerRadius != null) {
+        if (isAssigned(HAS_BACKGROUND)) {
+            assigned &= ~(HAS_BACKGROUND_COLOR | HAS_BACKGROUND_CORNER_RADIUS);
+        } else if (isAssigned(HAS_BACKGROUND_COLOR)) {
+            if (isAssigned(HAS_BACKGROUND_CORNER_RADIUS)) {
                 backgroundTopLeftCornerRadius = backgroundCornerRadius;
                 backgroundTopRightCornerRadius = backgroundCornerRadius;
                 backgroundBottomLeftCornerRadius = backgroundCornerRadius;
                 backgroundBottomRightCornerRadius = backgroundCornerRadius;
-            } else {
-                backgroundTopLeftCornerRadius = backgroundTopLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundTopLeftCornerRadius;
-                backgroundTopRightCornerRadius = backgroundTopRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundTopRightCornerRadius;
-                backgroundBottomLeftCornerRadius = backgroundBottomLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundBottomLeftCornerRadius;
-                backgroundBottomRightCornerRadius = backgroundBottomRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : backgroundBottomRightCornerRadius;
+            } else if (!isAssigned(HAS_BACKGROUND_CORNER_RADII)) {
+                float defaultRadius = dimenToFloat(R.dimen.dp_5);
+                backgroundTopLeftCornerRadius = defaultRadius;
+                backgroundTopRightCornerRadius = defaultRadius;
+                backgroundBottomLeftCornerRadius = defaultRadius;
+                backgroundBottomRightCornerRadius = defaultRadius;
             }
 
-            ((DialogStatusBinding) binding).layoutRoot.setBackground(
-                    getBackground(
-                            backgroundColor,
-                            backgroundTopLeftCornerRadius,
-                            backgroundTopRightCornerRadius,
-                            backgroundBottomLeftCornerRadius,
-                            backgroundBottomRightCornerRadius
-                    )
+            backgroundDrawable = getBackground(
+                    backgroundColor,
+                    backgroundTopLeftCornerRadius,
+                    backgroundTopRightCornerRadius,
+                    backgroundBottomLeftCornerRadius,
+                    backgroundBottomRightCornerRadius
             );
         }
+    }
 
-        ((DialogStatusBinding) binding).setDialog(super.getDialog());
-        ((DialogStatusBinding) binding).setListener(listener);
-        ((DialogStatusBinding) binding).setItem(
-                new StatusDialogData(
-                        heading,
-                        description,
-                        headingTextColor,
-                        descriptionTextColor,
-                        actionButtonTextColor,
-                        actionButtonText
-                )
-        );
-
-        return super.getPopupDialog();
+    /**
+     * Releases the playback controller, stops the Lottie icon and restores the backgrounds of the action button and the root layout
+     * to their layout defaults.
+     */
+    @Override
+    protected void resetBinding() {
+        if (lottiePlaybackController != null) {
+            lottiePlaybackController.release();
+            lottiePlaybackController = null;
+        }
+        ((DialogStatusBinding) binding).lottieIcon.cancelAnimation();
+        ((DialogStatusBinding) binding).lottieIcon.setProgress(0F);
+        ((DialogStatusBinding) binding).btnDismiss.setBackgroundResource(R.drawable.ripple_bg_dark_grey_10);
+        ((DialogStatusBinding) binding).layoutRoot.setBackgroundResource(R.drawable.bg_white_10);
     }
 
     /**
@@ -354,11 +440,23 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @param lottieRaw The resource ID of the Lottie animation file.
      * @return The current instance of the subclass.
      */
-    protected T setLottieIcon(@NonNull @RawRes Integer lottieRaw) {
+    protected T setLottieIcon(@RawRes int lottieRaw) {
         this.lottieRaw = lottieRaw;
+        LottieCompositionCache.getInstance().prefetch(getContext(), lottieRaw);
+        this.assigned |= HAS_LOTTIE_RAW;
         return castType();
     }
 
+    /**
+     * Sets the Lottie animation by resource ID.
+     *
+     * @param lottieRaw The resource ID of the Lottie animation file.
+     * @return The current instance of the subclass.
+     */
+    protected T setLottieIcon(@NonNull @RawRes Integer lottieRaw) {
+        return setLottieIcon(lottieRaw.intValue());
+    }
+
     /**
      * Sets the Lottie animation by asset file name.
      *
@@ -367,9 +465,38 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      */
     protected T setLottieIcon(@NonNull String lottieAsset) {
         this.lottieAsset = lottieAsset;
+        LottieCompositionCache.getInstance().prefetch(getContext(), lottieAsset);
+        return castType();
+    }
+
+    /**
+     * Sets how the Lottie animation is played, overriding {@link LottiePlaybackPolicy#getDefault()}.
+     *
+     * @param lottiePlaybackPolicy The playback policy of the animation.
+     * @return The current instance of the subclass.
+     */
+    public T setLottiePlaybackPolicy(@NonNull LottiePlaybackPolicy lottiePlaybackPolicy) {
+        this.lottiePlaybackPolicy = lottiePlaybackPolicy.copy();
         return castType();
     }
 
+    /**
+     * Applies the text color and the background of the action button of a pre-resolved style.
+     *
+     * @param style The style to apply.
+     */
+    @Override
+    protected void applyStyle(@NonNull PopupDialogStyle style) {
+        super.applyStyle(style);
+        if (style.getPositiveButtonTextColor() != null) this.actionButtonTextColor = style.getPositiveButtonTextColor();
+
+        Drawable styleActionButtonBackground = style.newActionButtonBackground();
+        if (styleActionButtonBackground != null) {
+            this.assigned &= ~(HAS_ACTION_BUTTON_BACKGROUND | HAS_ACTION_BUTTON_BACKGROUND_COLOR);
+            this.actionButtonDrawable = styleActionButtonBackground;
+        }
+    }
+
     /**
      * Sets the dialog heading text.
      *
@@ -403,6 +530,17 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
         return castType();
     }
 
+    /**
+     * Sets the heading text color.
+     *
+     * @param headingTextColor The color resource ID for the heading text color.
+     * @return The current instance of the subclass.
+     */
+    public T setHeadingTextColor(@ColorRes int headingTextColor) {
+        this.headingTextColor = DialogColor.ofResource(headingTextColor);
+        return castType();
+    }
+
     /**
      * Sets the heading text color.
      *
@@ -410,7 +548,17 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @return The current instance of the subclass.
      */
     public T setHeadingTextColor(@NonNull @ColorRes Integer headingTextColor) {
-        this.headingTextColor = headingTextColor;
+        return setHeadingTextColor(headingTextColor.intValue());
+    }
+
+    /**
+     * Sets the description text color.
+     *
+     * @param descriptionTextColor The color resource ID for the description text color.
+     * @return The current instance of the subclass.
+     */
+    public T setDescriptionTextColor(@ColorRes int descriptionTextColor) {
+        this.descriptionTextColor = DialogColor.ofResource(descriptionTextColor);
         return castType();
     }
 
@@ -421,7 +569,17 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @return The current instance of the subclass.
      */
     public T setDescriptionTextColor(@NonNull @ColorRes Integer descriptionTextColor) {
-        this.descriptionTextColor = descriptionTextColor;
+        return setDescriptionTextColor(descriptionTextColor.intValue());
+    }
+
+    /**
+     * Sets the action button text color.
+     *
+     * @param actionButtonTextColor The color resource ID for the action button text color.
+     * @return The current instance of the subclass.
+     */
+    public T setActionButtonTextColor(@ColorRes int actionButtonTextColor) {
+        this.actionButtonTextColor = DialogColor.ofResource(actionButtonTextColor);
         return castType();
     }
 
@@ -432,8 +590,7 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @return The current instance of the subclass.
      */
     public T setActionButtonTextColor(@NonNull @ColorRes Integer actionButtonTextColor) {
-        this.actionButtonTextColor = actionButtonTextColor;
-        return castType();
+        return setActionButtonTextColor(actionButtonTextColor.intValue());
     }
 
     /**
@@ -442,44 +599,88 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @param background The drawable resource ID for the dialog background.
      * @return The current instance of the subclass.
      */
-    public T setBackground(@NonNull @DrawableRes Integer background) {
+    public T setBackground(@DrawableRes int background) {
         this.background = background;
+        this.assigned |= HAS_BACKGROUND;
         return castType();
     }
 
+    /**
+     * Sets the background drawable resource for the dialog.
+     *
+     * @param background The drawable resource ID for the dialog background.
+     * @return The current instance of the subclass.
+     */
+    public T setBackground(@NonNull @DrawableRes Integer background) {
+        return setBackground(background.intValue());
+    }
+
     /**
      * Sets the background color for the dialog.
      *
      * @param backgroundColor The color resource ID for the dialog background color.
      * @return The current instance of the subclass.
      */
-    public T setBackgroundColor(@NonNull @ColorRes Integer backgroundColor) {
+    public T setBackgroundColor(@ColorRes int backgroundColor) {
         this.backgroundColor = backgroundColor;
+        this.assigned |= HAS_BACKGROUND_COLOR;
         return castType();
     }
 
+    /**
+     * Sets the background color for the dialog.
+     *
+     * @param backgroundColor The color resource ID for the dialog background color.
+     * @return The current instance of the subclass.
+     */
+    public T setBackgroundColor(@NonNull @ColorRes Integer backgroundColor) {
+        return setBackgroundColor(backgroundColor.intValue());
+    }
+
     /**
      * Sets the corner radius for the dialog background.
      *
      * @param backgroundCornerRadius The corner radius for the dialog background.
      * @return The current instance of the subclass.
      */
-    public T setBackgroundCornerRadius(@NonNull Float backgroundCornerRadius) {
+    public T setBackgroundCornerRadius(float backgroundCornerRadius) {
         this.backgroundCornerRadius = backgroundCornerRadius;
+        this.assigned |= HAS_BACKGROUND_CORNER_RADIUS;
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the dialog background.
+     *
+     * @param backgroundCornerRadius The corner radius for the dialog background.
+     * @return The current instance of the subclass.
+     */
+    public T setBackgroundCornerRadius(@NonNull Float backgroundCornerRadius) {
+        return setBackgroundCornerRadius(backgroundCornerRadius.floatValue());
+    }
+
     /**
      * Sets the ripple color for the action button.
      *
      * @param dismissButtonRippleColor The color resource ID for the action button ripple color.
      * @return The current instance of the subclass.
      */
-    public T setDismissButtonRippleColor(@NonNull @ColorRes Integer dismissButtonRippleColor) {
+    public T setDismissButtonRippleColor(@ColorRes int dismissButtonRippleColor) {
         this.actionButtonRippleColor = dismissButtonRippleColor;
+        this.assigned |= HAS_ACTION_BUTTON_RIPPLE_COLOR;
         return castType();
     }
 
+    /**
+     * Sets the ripple color for the action button.
+     *
+     * @param dismissButtonRippleColor The color resource ID for the action button ripple color.
+     * @return The current instance of the subclass.
+     */
+    public T setDismissButtonRippleColor(@NonNull @ColorRes Integer dismissButtonRippleColor) {
+        return setDismissButtonRippleColor(dismissButtonRippleColor.intValue());
+    }
+
     /**
      * Sets the corner radius for the dialog background.
      *
@@ -490,51 +691,107 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @return The current instance of the subclass.
      */
     public T setBackgroundCornerRadius(
-            @NonNull Float topLeft,
-            @NonNull Float topRight,
-            @NonNull Float bottomLeft,
-            @NonNull Float bottomRight) {
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight) {
         this.backgroundTopLeftCornerRadius = topLeft;
         this.backgroundTopRightCornerRadius = topRight;
         this.backgroundBottomLeftCornerRadius = bottomLeft;
         this.backgroundBottomRightCornerRadius = bottomRight;
+        this.assigned |= HAS_BACKGROUND_CORNER_RADII;
 
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the dialog background.
+     *
+     * @param topLeft     The corner radius for the top-left corner.
+     * @param topRight    The corner radius for the top-right corner.
+     * @param bottomLeft  The corner radius for the bottom-left corner.
+     * @param bottomRight The corner radius for the bottom-right corner.
+     * @return The current instance of the subclass.
+     */
+    public T setBackgroundCornerRadius(
+            @NonNull Float topLeft,
+            @NonNull Float topRight,
+            @NonNull Float bottomLeft,
+            @NonNull Float bottomRight) {
+        return setBackgroundCornerRadius(
+                topLeft.floatValue(),
+                topRight.floatValue(),
+                bottomLeft.floatValue(),
+                bottomRight.floatValue()
+        );
+    }
+
     /**
      * Sets the background drawable resource for the action button.
      *
      * @param actionButtonBackground The drawable resource ID for the action button background.
      * @return The current instance of the subclass.
      */
-    public T setActionButtonBackground(@NonNull @DrawableRes Integer actionButtonBackground) {
+    public T setActionButtonBackground(@DrawableRes int actionButtonBackground) {
         this.actionButtonBackground = actionButtonBackground;
+        this.assigned |= HAS_ACTION_BUTTON_BACKGROUND;
         return castType();
     }
 
+    /**
+     * Sets the background drawable resource for the action button.
+     *
+     * @param actionButtonBackground The drawable resource ID for the action button background.
+     * @return The current instance of the subclass.
+     */
+    public T setActionButtonBackground(@NonNull @DrawableRes Integer actionButtonBackground) {
+        return setActionButtonBackground(actionButtonBackground.intValue());
+    }
+
     /**
      * Sets the background color for the action button.
      *
      * @param actionButtonBackgroundColor The color resource ID for the action button background color.
      * @return The current instance of the subclass.
      */
-    public T setActionButtonBackgroundColor(@NonNull @DrawableRes Integer actionButtonBackgroundColor) {
+    public T setActionButtonBackgroundColor(@DrawableRes int actionButtonBackgroundColor) {
         this.actionButtonBackgroundColor = actionButtonBackgroundColor;
+        this.assigned |= HAS_ACTION_BUTTON_BACKGROUND_COLOR;
         return castType();
     }
 
+    /**
+     * Sets the background color for the action button.
+     *
+     * @param actionButtonBackgroundColor The color resource ID for the action button background color.
+     * @return The current instance of the subclass.
+     */
+    public T setActionButtonBackgroundColor(@NonNull @DrawableRes Integer actionButtonBackgroundColor) {
+        return setActionButtonBackgroundColor(actionButtonBackgroundColor.intValue());
+    }
+
     /**
      * Sets the corner radius for the action button.
      *
      * @param actionButtonCornerRadius The corner radius for the action button.
      * @return The current instance of the subclass.
      */
-    public T setActionButtonCornerRadius(@NonNull Float actionButtonCornerRadius) {
+    public T setActionButtonCornerRadius(float actionButtonCornerRadius) {
         this.actionButtonCornerRadius = actionButtonCornerRadius;
+        this.assigned |= HAS_ACTION_BUTTON_CORNER_RADIUS;
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the action button.
+     *
+     * @param actionButtonCornerRadius The corner radius for the action button.
+     * @return The current instance of the subclass.
+     */
+    public T setActionButtonCornerRadius(@NonNull Float actionButtonCornerRadius) {
+        return setActionButtonCornerRadius(actionButtonCornerRadius.floatValue());
+    }
+
     /**
      * Sets the corner radius for the action button.
      *
@@ -544,99 +801,173 @@ public class BaseStatusDialog<T, VB extends ViewDataBinding> extends BaseShapeGe
      * @param bottomRight The corner radius for the bottom-right corner.
      * @return The current instance of the subclass.
      */
-    public T setActionButtonCornerRadius(@NonNull Float topLeft, @NonNull Float topRight, @NonNull Float bottomLeft, @NonNull Float bottomRight) {
+    public T setActionButtonCornerRadius(float topLeft, float topRight, float bottomLeft, float bottomRight) {
         this.actionButtonTopLeftCornerRadius = topLeft;
         this.actionButtonTopRightCornerRadius = topRight;
         this.actionButtonBottomLeftCornerRadius = bottomLeft;
         this.actionButtonBottomRightCornerRadius = bottomRight;
+        this.assigned |= HAS_ACTION_BUTTON_CORNER_RADII;
         return castType();
     }
 
+    /**
+     * Sets the corner radius for the action button.
+     *
+     * @param topLeft     The corner radius for the top-left corner.
+     * @param topRight    The corner radius for the top-right corner.
+     * @param bottomLeft  The corner radius for the bottom-left corner.
+     * @param bottomRight The corner radius for the bottom-right corner.
+     * @return The current instance of the subclass.
+     */
+    public T setActionButtonCornerRadius(@NonNull Float topLeft, @NonNull Float topRight, @NonNull Float bottomLeft, @NonNull Float bottomRight) {
+        return setActionButtonCornerRadius(topLeft.floatValue(), topRight.floatValue(), bottomLeft.floatValue(), bottomRight.floatValue());
+    }
+
     /**
      * Sets the font family for text elements.
      *
      * @param fontFamily The resource ID for the font family.
      * @return The current instance of the subclass.
      */
-    public T setFontFamily(@NonNull @FontRes Integer fontFamily) {
+    public T setFontFamily(@FontRes int fontFamily) {
         this.fontFamily = resToTypeface(fontFamily);
         return castType();
     }
 
+    /**
+     * Sets the font family for text elements.
+     *
+     * @param fontFamily The resource ID for the font family.
+     * @return The current instance of the subclass.
+     */
+    public T setFontFamily(@NonNull @FontRes Integer fontFamily) {
+        return setFontFamily(fontFamily.intValue());
+    }
+
     /**
      * Sets the font for the dialog heading.
      *
      * @param headingFont The resource ID for the heading font.
      * @return The current instance of the subclass.
      */
-    public T setHeadingFont(@NonNull @FontRes Integer headingFont) {
+    public T setHeadingFont(@FontRes int headingFont) {
         this.headingFont = resToTypeface(headingFont);
         return castType();
     }
 
+    /**
+     * Sets the font for the dialog heading.
+     *
+     * @param headingFont The resource ID for the heading font.
+     * @return The current instance of the subclass.
+     */
+    public T setHeadingFont(@NonNull @FontRes Integer headingFont) {
+        return setHeadingFont(headingFont.intValue());
+    }
+
     /**
      * Sets the font for the dialog description.
      *
      * @param descriptionFont The resource ID for the description font.
      * @return The current instance of the subclass.
      */
-    public T setDescriptionFont(@NonNull @FontRes Integer descriptionFont) {
+    public T setDescriptionFont(@FontRes int descriptionFont) {
         this.descriptionFont = resToTypeface(descriptionFont);
         return castType();
     }
 
+    /**
+     * Sets the font for the dialog description.
+     *
+     * @param descriptionFont The resource ID for the description font.
+     * @return The current instance of the subclass.
+     */
+    public T setDescriptionFont(@NonNull @FontRes Integer descriptionFont) {
+        return setDescriptionFont(descriptionFont.intValue());
+    }
+
     /**
      * Sets the font for the action button text.
      *
      * @param buttonFont The resource ID for the button font.
      * @return The current instance of the subclass.
      */
-    public T setButtonFont(@NonNull @FontRes Integer buttonFont) {
+    public T setButtonFont(@FontRes int buttonFont) {
         this.buttonFont = resToTypeface(buttonFont);
         return castType();
     }
 
+    /**
+     * Sets the font for the action button text.
+     *
+     * @param buttonFont The resource ID for the button font.
+     * @return The current instance of the subclass.
+     */
+    public T setButtonFont(@NonNull @FontRes Integer buttonFont) {
+        return setButtonFont(buttonFont.intValue());
+    }
+
     /**
      * Sets the font size for the dialog heading.
      *
      * @param headingFontSize The font size for the heading text.
      * @return The current instance of the subclass.
      */
-    public T setHeadingFontSize(@NonNull Float headingFontSize) {
+    public T setHeadingFontSize(float headingFontSize) {
         this.headingFontSize = headingFontSize;
         return castType();
     }
 
+    /**
+     * Sets the font size for the dialog heading.
+     *
+     * @param headingFontSize The font size for the heading text.
+     * @return The current instance of the subclass.
+     */
+    public T setHeadingFontSize(@NonNull Float headingFontSize) {
+        return setHeadingFontSize(headingFontSize.floatValue());
+    }
+
     /**
      * Sets the font size for the dialog description.
      *
      * @param descriptionFontSize The font size for the description text.
      * @return The current instance of the subclass.
      */
-    public T setDescriptionFontSize(@NonNull Float descriptionFontSize) {
+    public T setDescriptionFontSize(float descriptionFontSize) {
         this.descriptionFontSize = descriptionFontSize;
         return castType();
     }
 
+    /**
+     * Sets the font size for the dialog description.
+     *
+     * @param descriptionFontSize The font size for the description text.
+     * @return The current instance of the subclass.
+     */
+    public T setDescriptionFontSize(@NonNull Float descriptionFontSize) {
+        return setDescriptionFontSize(descriptionFontSize.floatValue());
+    }
+
     /**
      * Sets the font size for the action button text.
      *
      * @param buttonFontSize The font size for the action button text.
      * @return The current instance of the subclass.
      */
-    public T setButtonFontSize(@NonNull Float buttonFontSize) {
+    public T setButtonFontSize(float buttonFontSize) {
         this.buttonFontSize = buttonFontSize;
         return castType();
     }
 
     /**
-     * Converts a resource ID to a Typeface object.
+     * Sets the font size for the action button text.
      *
-     * @param font The resource ID of the font.
-     * @return The corresponding Typeface object.
+     * @param buttonFontSize The font size for the action button text.
+     * @return The current instance of the subclass.
      */
-    private Typeface resToTypeface(@NonNull @FontRes Integer font) {
-        return ResourcesCompat.getFont(super.getContext(), font);
+    public T setButtonFontSize(@NonNull Float buttonFontSize) {
+        return setButtonFontSize(buttonFontSize.floatValue());
     }
 
     /**
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.cache;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.databinding.DataBindingUtil;
+import androidx.databinding.ViewDataBinding;
+
+import com.saadahmedev.popupdialog.base.BaseDialogBinder;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.render.DialogRenderer;
+import com.saadahmedev.popupdialog.util.ActivityDestroyedCallbacks;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A per-Activity pool of already inflated {@link ViewDataBinding} instances, keyed by layout resource.
+ * <p>
+ * Pooling is opt-in: a layout is only pooled once a maximum size greater than zero has been configured for it
+ * with {@link #setMaxSize(int, int)}. {@link #warmUp(int, int)} inflates bindings ahead of time so that the next
+ * dialog built with that layout skips inflation entirely. Bindings taken from the pool are handed back by
+ * {@link BaseDialogBinder} when their dialog is dismissed.
+ * <p>
+ * The pool is released automatically when its Activity is destroyed.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see BaseDialogBinder
+ */
+public class BindingPool {
+
+    /**
+     * The pools of every live Activity.
+     */
+    private static final Map<Context, BindingPool> POOLS = new HashMap<>();
+
+    /**
+     * Whether the Activity lifecycle callbacks releasing the pools have been registered.
+     */
+    private static boolean lifecycleRegistered = false;
+
+    /**
+     * The themed context used to inflate pooled bindings.
+     */
+    private final Context inflaterContext;
+
+    /**
+     * The idle bindings, keyed by layout resource.
+     */
+    private final SparseArray<ArrayDeque<ViewDataBinding>> idle = new SparseArray<>();
+
+    /**
+     * The maximum number of idle bindings per layout resource.
+     */
+    private final SparseIntArray maxSizes = new SparseIntArray();
+
+    /**
+     * Constructs a new {@link BindingPool} for the given host.
+     *
+     * @param host The Activity (or other context) owning the pool.
+     */
+    private BindingPool(@NonNull Context host) {
+        TypedValue dialogTheme = new TypedValue();
+        host.getTheme().resolveAttribute(android.R.attr.dialogTheme, dialogTheme, true);
+        this.inflaterContext = new ContextThemeWrapper(host, dialogTheme.resourceId);
+    }
+
+    /**
+     * Gets the pool of the Activity hosting the given context.
+     *
+     * @param context Any context belonging to the Activity, including a dialog context.
+     * @return The {@link BindingPool} of the Activity.
+     */
+    @NonNull
+    public static synchronized BindingPool getInstance(@NonNull Context context) {
+        Activity activity = ContextUtil.findActivity(context);
+        Context host = activity != null ? activity : context.getApplicationContext();
+        BindingPool pool = POOLS.get(host);
+        if (pool == null) {
+            pool = new BindingPool(host);
+            POOLS.put(host, pool);
+            if (host instanceof Activity) registerLifecycle(((Activity) host).getApplication());
+        }
+        return pool;
+    }
+
+    /**
+     * Sets the maximum number of idle bindings kept for a layout. A size of zero disables pooling for the layout.
+     *
+     * @param layout  The layout resource ID.
+     * @param maxSize The maximum number of idle bindings.
+     * @return The current instance of the {@link BindingPool}.
+     */
+    public synchronized BindingPool setMaxSize(@LayoutRes int layout, int maxSize) {
+        if (maxSize < 0) throw new PopupDialogException("Binding pool size cannot be negative");
+
+        this.maxSizes.put(layout, maxSize);
+        ArrayDeque<ViewDataBinding> bindings = this.idle.get(layout);
+        while (bindings != null && bindings.size() > maxSize) bindings.poll();
+        return this;
+    }
+
+    /**
+     * Creates bindings for a layout ahead of time with the default {@link DialogRenderer}, up to its maximum size.
+     * If no maximum size has been set for the layout, it is set to {@code count}.
+     *
+     * @param layout The layout resource ID.
+     * @param count  The number of idle bindings wanted.
+     * @return The current instance of the {@link BindingPool}.
+     */
+    public BindingPool warmUp(@LayoutRes int layout, int count) {
+        synchronized (this) {
+            if (this.maxSizes.get(layout) == 0) this.maxSizes.put(layout, count);
+        }
+
+        while (getIdleCount(layout) < Math.min(count, getMaxSize(layout))) {
+            release(layout, DataBindingUtil.bind(DialogRenderer.getDefault().createView(this.inflaterContext, layout)));
+        }
+        return this;
+    }
+
+    /**
+     * Takes an idle binding out of the pool.
+     *
+     * @param layout The layout resource ID.
+     * @return An idle binding, or null if none is available.
+     */
+    @Nullable
+    public synchronized ViewDataBinding acquire(@LayoutRes int layout) {
+        ArrayDeque<ViewDataBinding> bindings = this.idle.get(layout);
+        return bindings == null ? null : bindings.poll();
+    }
+
+    /**
+     * Returns a binding to the pool. The binding is dropped if the pool for its layout is full.
+     *
+     * @param layout  The layout resource ID the binding was inflated from.
+     * @param binding The binding to return.
+     */
+    public synchronized void release(@LayoutRes int layout, @NonNull ViewDataBinding binding) {
+        View root = binding.getRoot();
+        if (root.getParent() instanceof ViewGroup) ((ViewGroup) root.getParent()).removeView(root);
+
+        ArrayDeque<ViewDataBinding> bindings = this.idle.get(layout);
+        if (bindings == null) {
+            bindings = new ArrayDeque<>();
+            this.idle.put(layout, bindings);
+        }
+        if (bindings.size() < this.maxSizes.get(layout)) bindings.offer(binding);
+    }
+
+    /**
+     * Checks whether pooling is enabled for a layout.
+     *
+     * @param layout The layout resource ID.
+     * @return True if bindings of the layout are returned to the pool on dismiss, false otherwise.
+     */
+    public synchronized boolean isPooled(@LayoutRes int layout) {
+        return this.maxSizes.get(layout) > 0;
+    }
+
+    /**
+     * Gets the maximum number of idle bindings kept for a layout.
+     *
+     * @param layout The layout resource ID.
+     * @return The maximum pool size.
+     */
+    public synchronized int getMaxSize(@LayoutRes int layout) {
+        return this.maxSizes.get(layout);
+    }
+
+    /**
+     * Gets the number of idle bindings currently pooled for a layout.
+     *
+     * @param layout The layout resource ID.
+     * @return The number of idle bindings.
+     */
+    public synchronized int getIdleCount(@LayoutRes int layout) {
+        ArrayDeque<ViewDataBinding> bindings = this.idle.get(layout);
+        return bindings == null ? 0 : bindings.size();
+    }
+
+    /**
+     * Drops every idle binding of the pool.
+     */
+    public synchronized void clear() {
+        this.idle.clear();
+    }
+
+    /**
+     * Registers the callbacks dropping a pool once its Activity is destroyed.
+     *
+     * @param application The application hosting the Activities.
+     */
+    private static void registerLifecycle(@NonNull Application application) {
+        if (lifecycleRegistered) return;
+        lifecycleRegistered = true;
+
+        application.registerActivityLifecycleCallbacks(new ActivityDestroyedCallbacks() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                synchronized (BindingPool.class) {
+                    BindingPool pool = POOLS.remove(activity);
+                    if (pool != null) pool.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.cache;
+
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.GradientDrawable;
+import android.graphics.drawable.RippleDrawable;
+import android.util.LruCache;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide cache of the rounded rectangle and ripple drawables generated for dialog backgrounds.
+ * <p>
+ * Drawables are keyed by their resolved color, four corner radii and optional ripple color. The cache only
+ * keeps the {@link Drawable.ConstantState} of each drawable and hands out new drawables sharing that state,
+ * so repeated dialogs with the same styling do not rebuild shapes, radii arrays or color state lists.
+ * A caller that needs to change a returned drawable must call {@link Drawable#mutate()} on it first.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class DrawableCache {
+
+    /**
+     * The maximum number of drawable states kept.
+     */
+    private static final int MAX_SIZE = 64;
+
+    /**
+     * The single instance of the cache.
+     */
+    private static final DrawableCache INSTANCE = new DrawableCache();
+
+    /**
+     * The drawable states, keyed by their styling.
+     */
+    private final LruCache<Key, Drawable.ConstantState> states = new LruCache<>(MAX_SIZE);
+
+    /**
+     * The number of lookups served from the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of lookups that had to create the drawable.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private DrawableCache() {
+    }
+
+    /**
+     * Gets the process-wide instance of the cache.
+     *
+     * @return The {@link DrawableCache} instance.
+     */
+    @NonNull
+    public static DrawableCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a rounded rectangle drawable.
+     *
+     * @param color       The resolved background color.
+     * @param topLeft     The radius of the top-left corner.
+     * @param topRight    The radius of the top-right corner.
+     * @param bottomLeft  The radius of the bottom-left corner.
+     * @param bottomRight The radius of the bottom-right corner.
+     * @return A GradientDrawable sharing the cached state.
+     */
+    @NonNull
+    public GradientDrawable getShape(@ColorInt int color, float topLeft, float topRight, float bottomLeft, float bottomRight) {
+        return (GradientDrawable) get(new Key(color, topLeft, topRight, bottomLeft, bottomRight, false, 0));
+    }
+
+    /**
+     * Gets a ripple drawable masked by a rounded rectangle.
+     *
+     * @param color       The resolved background color.
+     * @param topLeft     The radius of the top-left corner.
+     * @param topRight    The radius of the top-right corner.
+     * @param bottomLeft  The radius of the bottom-left corner.
+     * @param bottomRight The radius of the bottom-right corner.
+     * @param rippleColor The resolved ripple color.
+     * @return A RippleDrawable sharing the cached state.
+     */
+    @NonNull
+    public RippleDrawable getRipple(@ColorInt int color, float topLeft, float topRight, float bottomLeft, float bottomRight, @ColorInt int rippleColor) {
+        return (RippleDrawable) get(new Key(color, topLeft, topRight, bottomLeft, bottomRight, true, rippleColor));
+    }
+
+    /**
+     * Builds the array of corner radii expected by {@link GradientDrawable#setCornerRadii(float[])},
+     * which holds an x and y radius for each corner, clockwise from the top-left one.
+     *
+     * @param topLeft     The radius of the top-left corner.
+     * @param topRight    The radius of the top-right corner.
+     * @param bottomLeft  The radius of the bottom-left corner.
+     * @param bottomRight The radius of the bottom-right corner.
+     * @return The array of eight radii.
+     */
+    @NonNull
+    public static float[] toCornerRadii(float topLeft, float topRight, float bottomLeft, float bottomRight) {
+        return new float[]{
+                topLeft,
+                topLeft,
+                topRight,
+                topRight,
+                bottomRight,
+                bottomRight,
+                bottomLeft,
+                bottomLeft
+        };
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to create the drawable.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Drops every cached drawable state and resets the counters.
+     */
+    public void clear() {
+        this.states.evictAll();
+        this.hitCount.set(0);
+        this.missCount.set(0);
+    }
+
+    /**
+     * Gets a new drawable sharing the cached state of the given key, creating the state on the first lookup.
+     *
+     * @param key The styling of the drawable.
+     * @return A new drawable sharing the cached state.
+     */
+    private Drawable get(@NonNull Key key) {
+        Drawable.ConstantState state = this.states.get(key);
+        if (state != null) {
+            this.hitCount.incrementAndGet();
+        } else {
+            this.missCount.incrementAndGet();
+            state = create(key).getConstantState();
+            this.states.put(key, state);
+        }
+        return state.newDrawable();
+    }
+
+    /**
+     * Creates the drawable described by a key.
+     *
+     * @param key The styling of the drawable.
+     * @return The created drawable.
+     */
+    private static Drawable create(@NonNull Key key) {
+        GradientDrawable shape = new GradientDrawable();
+        shape.setShape(GradientDrawable.RECTANGLE);
+        shape.setColor(key.color);
+        shape.setCornerRadii(toCornerRadii(key.topLeft, key.topRight, key.bottomLeft, key.bottomRight));
+
+        if (!key.ripple) return shape;
+        return new RippleDrawable(ColorStateList.valueOf(key.rippleColor), shape, null);
+    }
+
+    /**
+     * The styling identifying a cached drawable.
+     */
+    private static final class Key {
+
+        /** The resolved background color. */
+        private final int color;
+
+        /** The radius of the top-left corner. */
+        private final float topLeft;
+
+        /** The radius of the top-right corner. */
+        private final float topRight;
+
+        /** The radius of the bottom-left corner. */
+        private final float bottomLeft;
+
+        /** The radius of the bottom-right corner. */
+        private final float bottomRight;
+
+        /** Whether the drawable is wrapped in a ripple. */
+        private final boolean ripple;
+
+        /** The resolved ripple color. */
+        private final int rippleColor;
+
+        private Key(int color, float topLeft, float topRight, float bottomLeft, float bottomRight, boolean ripple, int rippleColor) {
+            this.color = color;
+            this.topLeft = topLeft;
+            this.topRight = topRight;
+            this.bottomLeft = bottomLeft;
+            this.bottomRight = bottomRight;
+            this.ripple = ripple;
+            this.rippleColor = rippleColor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return color == that.color
+                    && Float.compare(topLeft, that.topLeft) == 0
+                    && Float.compare(topRight, that.topRight) == 0
+                    && Float.compare(bottomLeft, that.bottomLeft) == 0
+                    && Float.compare(bottomRight, that.bottomRight) == 0
+                    && ripple == that.ripple
+                    && rippleColor == that.rippleColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = color;
+            result = 31 * result + Float.floatToIntBits(topLeft);
+            result = 31 * result + Float.floatToIntBits(topRight);
+            result = 31 * result + Float.floatToIntBits(bottomLeft);
+            result = 31 * result + Float.floatToIntBits(bottomRight);
+            result = 31 * result + (ripple ? 1 : 0);
+            result = 31 * result + rippleColor;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.cache;
+
+import android.content.Context;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RawRes;
+
+import com.airbnb.lottie.LottieComposition;
+import com.airbnb.lottie.LottieCompositionFactory;
+import com.airbnb.lottie.LottieResult;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A bounded, process-wide cache of parsed Lottie compositions, keyed by raw resource, asset name, file or
+ * caller-provided key.
+ * <p>
+ * Compositions are parsed on the background executor of {@link DialogExecutors}, so that a dialog built
+ * afterwards attaches an already parsed composition instead of parsing the JSON when it is shown.
+ * Files, streams and buffers may hold either a JSON animation or a zipped one, such as a dotLottie file.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class LottieCompositionCache {
+
+    /**
+     * The default maximum number of compositions kept.
+     */
+    private static final int DEFAULT_MAX_SIZE = 10;
+
+    /**
+     * The first four bytes of a zip archive, read as a big-endian int.
+     */
+    private static final int ZIP_MAGIC = 0x504B0304;
+
+    /**
+     * The single instance of the cache.
+     */
+    private static final LottieCompositionCache INSTANCE = new LottieCompositionCache();
+
+    /**
+     * The parsed compositions, keyed by source.
+     */
+    private final LruCache<String, LottieComposition> compositions = new LruCache<>(DEFAULT_MAX_SIZE);
+
+    /**
+     * The keys of the compositions currently being parsed in the background.
+     */
+    private final Set<String> pending = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private LottieCompositionCache() {
+    }
+
+    /**
+     * Gets the process-wide instance of the cache.
+     *
+     * @return The {@link LottieCompositionCache} instance.
+     */
+    @NonNull
+    public static LottieCompositionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the maximum number of compositions kept.
+     *
+     * @param maxSize The maximum number of compositions.
+     * @return The current instance of the {@link LottieCompositionCache}.
+     */
+    public LottieCompositionCache setMaxSize(int maxSize) {
+        this.compositions.resize(maxSize);
+        return this;
+    }
+
+    /**
+     * Gets the parsed composition of a raw resource, if it is cached.
+     *
+     * @param rawRes The raw resource ID of the animation.
+     * @return The composition, or null if it has not been parsed yet.
+     */
+    @Nullable
+    public LottieComposition get(@RawRes int rawRes) {
+        return this.compositions.get(rawKey(rawRes));
+    }
+
+    /**
+     * Gets the parsed composition of an asset, if it is cached.
+     *
+     * @param asset The asset file name of the animation.
+     * @return The composition, or null if it has not been parsed yet.
+     */
+    @Nullable
+    public LottieComposition get(@NonNull String asset) {
+        return this.compositions.get(assetKey(asset));
+    }
+
+    /**
+     * Parses the composition of a raw resource on the calling thread, unless it is cached.
+     *
+     * @param context The context used to open the resource.
+     * @param rawRes  The raw resource ID of the animation.
+     * @return The composition, or null if it could not be parsed.
+     */
+    @Nullable
+    public LottieComposition load(@NonNull Context context, @RawRes int rawRes) {
+        LottieComposition composition = get(rawRes);
+        if (composition != null) return composition;
+
+        // Parse without Lottie's own cache key, so that the composition is only kept by this cache
+        return put(rawKey(rawRes), LottieCompositionFactory.fromRawResSync(context.getApplicationContext(), rawRes, null));
+    }
+
+    /**
+     * Parses the composition of an asset on the calling thread, unless it is cached.
+     *
+     * @param context The context used to open the asset.
+     * @param asset   The asset file name of the animation.
+     * @return The composition, or null if it could not be parsed.
+     */
+    @Nullable
+    public LottieComposition load(@NonNull Context context, @NonNull String asset) {
+        LottieComposition composition = get(asset);
+        if (composition != null) return composition;
+
+        return put(assetKey(asset), LottieCompositionFactory.fromAssetSync(context.getApplicationContext(), asset, null));
+    }
+
+    /**
+     * Gets the parsed composition of a file, if it is cached in its current version.
+     * The file is identified by its path, length and modification time, so a file downloaded again is parsed again.
+     *
+     * @param file The animation file.
+     * @return The composition, or null if it has not been parsed yet.
+     */
+    @Nullable
+    public LottieComposition get(@NonNull File file) {
+        return this.compositions.get(fileKey(file));
+    }
+
+    /**
+     * Gets the parsed composition of a stream or a buffer, if it is cached.
+     *
+     * @param cacheKey The key the stream or buffer was loaded with.
+     * @return The composition, or null if it has not been parsed yet.
+     */
+    @Nullable
+    public LottieComposition getByKey(@NonNull String cacheKey) {
+        return this.compositions.get(sourceKey(cacheKey));
+    }
+
+    /**
+     * Parses the composition of a file on the calling thread, unless it is cached. The file is memory-mapped
+     * rather than copied into a heap buffer.
+     *
+     * @param file The animation file.
+     * @return The composition, or null if the file could not be read or parsed.
+     */
+    @Nullable
+    public LottieComposition load(@NonNull File file) {
+        String key = fileKey(file);
+        LottieComposition composition = this.compositions.get(key);
+        if (composition != null) return composition;
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return put(key, parse(mapped));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the composition of a stream on the calling thread, unless it is cached. The stream is closed
+     * once parsed, and left unread if the composition is cached.
+     *
+     * @param stream   The stream of the animation.
+     * @param cacheKey The key identifying the animation, or null to parse it without caching it.
+     * @return The composition, or null if the stream could not be read or parsed.
+     */
+    @Nullable
+    public LottieComposition load(@NonNull InputStream stream, @Nullable String cacheKey) {
+        if (cacheKey != null) {
+            LottieComposition composition = getByKey(cacheKey);
+            if (composition != null) {
+                closeQuietly(stream);
+                return composition;
+            }
+        }
+
+        LottieResult<LottieComposition> result;
+        try {
+            result = parse(stream);
+        } catch (IOException e) {
+            closeQuietly(stream);
+            return null;
+        }
+        if (cacheKey == null) return result.getValue();
+        return put(sourceKey(cacheKey), result);
+    }
+
+    /**
+     * Parses the composition of a buffer on the calling thread, unless it is cached. The position of the
+     * buffer is left unchanged.
+     *
+     * @param buffer   The buffer holding the animation between its position and its limit.
+     * @param cacheKey The key identifying the animation, or null to parse it without caching it.
+     * @return The composition, or null if the buffer could not be parsed.
+     */
+    @Nullable
+    public LottieComposition load(@NonNull ByteBuffer buffer, @Nullable String cacheKey) {
+        if (cacheKey == null) return parse(buffer).getValue();
+
+        String key = sourceKey(cacheKey);
+        LottieComposition composition = this.compositions.get(key);
+        if (composition != null) return composition;
+
+        return put(key, parse(buffer));
+    }
+
+    /**
+     * Parses the compositions of files in the background, skipping those already cached or being parsed.
+     *
+     * @param files The animation files.
+     */
+    public void prefetch(@NonNull File... files) {
+        for (File file : files) {
+            String key = "prefetch:" + file.getAbsolutePath();
+            if (!this.pending.add(key)) continue;
+
+            DialogExecutors.getBackgroundExecutor().execute(() -> {
+                try {
+                    load(file);
+                } finally {
+                    this.pending.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Parses the compositions of raw resources in the background, skipping those already cached or being parsed.
+     *
+     * @param context The context used to open the resources.
+     * @param rawRes  The raw resource IDs of the animations.
+     */
+    public void prefetch(@NonNull Context context, @NonNull @RawRes int... rawRes) {
+        Context appContext = context.getApplicationContext();
+        for (int res : rawRes) {
+            String key = rawKey(res);
+            if (get(res) != null || !this.pending.add(key)) continue;
+
+            DialogExecutors.getBackgroundExecutor().execute(() -> {
+                try {
+                    load(appContext, res);
+                } finally {
+                    this.pending.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Parses the compositions of assets in the background, skipping those already cached or being parsed.
+     *
+     * @param context The context used to open the assets.
+     * @param assets  The asset file names of the animations.
+     */
+    public void prefetch(@NonNull Context context, @NonNull String... assets) {
+        Context appContext = context.getApplicationContext();
+        for (String asset : assets) {
+            String key = assetKey(asset);
+            if (get(asset) != null || !this.pending.add(key)) continue;
+
+            DialogExecutors.getBackgroundExecutor().execute(() -> {
+                try {
+                    load(appContext, asset);
+                } finally {
+                    this.pending.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the number of compositions currently cached.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return this.compositions.size();
+    }
+
+    /**
+     * Drops every cached composition.
+     */
+    public void clear() {
+        this.compositions.evictAll();
+    }
+
+    /**
+     * Caches the composition of a parse result.
+     *
+     * @param key    The key of the composition.
+     * @param result The parse result.
+     * @return The composition, or null if the parse failed.
+     */
+    @Nullable
+    private LottieComposition put(@NonNull String key, @NonNull LottieResult<LottieComposition> result) {
+        LottieComposition composition = result.getValue();
+        if (composition != null) this.compositions.put(key, composition);
+        return composition;
+    }
+
+    /**
+     * Parses an animation held by a buffer, either as JSON or as a zip archive.
+     *
+     * @param buffer The buffer holding the animation between its position and its limit.
+     * @return The parse result.
+     */
+    @NonNull
+    private static LottieResult<LottieComposition> parse(@NonNull ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        boolean zip = source.remaining() >= 4 && source.getInt(source.position()) == ZIP_MAGIC;
+        InputStream stream = new ByteBufferInputStream(source);
+        if (zip) return LottieCompositionFactory.fromZipStreamSync(new ZipInputStream(stream), null);
+        return LottieCompositionFactory.fromJsonInputStreamSync(stream, null);
+    }
+
+    /**
+     * Parses an animation read from a stream, either as JSON or as a zip archive.
+     *
+     * @param stream The stream of the animation.
+     * @return The parse result.
+     * @throws IOException if the header of the stream cannot be read.
+     */
+    @NonNull
+    private static LottieResult<LottieComposition> parse(@NonNull InputStream stream) throws IOException {
+        InputStream buffered = stream.markSupported() ? stream : new BufferedInputStream(stream);
+        buffered.mark(4);
+        int header = 0;
+        for (int i = 0; i < 4; i++) header = header << 8 | (buffered.read() & 0xFF);
+        buffered.reset();
+
+        if (header == ZIP_MAGIC) return LottieCompositionFactory.fromZipStreamSync(new ZipInputStream(buffered), null);
+        return LottieCompositionFactory.fromJsonInputStreamSync(buffered, null);
+    }
+
+    /**
+     * Closes a stream, ignoring any error.
+     *
+     * @param stream The stream to close.
+     */
+    private static void closeQuietly(@NonNull InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Builds the cache key of a file from its path, length and modification time.
+     *
+     * @param file The file.
+     * @return The cache key.
+     */
+    private static String fileKey(@NonNull File file) {
+        return "file:" + file.getAbsolutePath() + ":" + file.length() + ":" + file.lastModified();
+    }
+
+    /**
+     * Builds the cache key of a stream or a buffer.
+     *
+     * @param cacheKey The key provided by the caller.
+     * @return The cache key.
+     */
+    private static String sourceKey(@NonNull String cacheKey) {
+        return "source:" + cacheKey;
+    }
+
+    /**
+     * Builds the cache key of a raw resource.
+     *
+     * @param rawRes The raw resource ID.
+     * @return The cache key.
+     */
+    private static String rawKey(@RawRes int rawRes) {
+        return "raw:" + rawRes;
+    }
+
+    /**
+     * Builds the cache key of an asset.
+     *
+     * @param asset The asset file name.
+     * @return The cache key.
+     */
+    private static String assetKey(@NonNull String asset) {
+        return "asset:" + asset;
+    }
+
+    /**
+     * An input stream reading a buffer from its position to its limit.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        /** The buffer read by the stream. */
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NonNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NonNull byte[] bytes, int offset, int length) {
+            if (length == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
\ No newline at end of file
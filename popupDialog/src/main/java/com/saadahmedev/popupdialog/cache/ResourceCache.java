@@ -0,0 +1,378 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.cache;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.ColorRes;
+import androidx.annotation.DimenRes;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.FontRes;
+import androidx.annotation.NonNull;
+import androidx.core.content.ContextCompat;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide, thread-safe cache of the colors, dimensions, fonts and drawables resolved by the dialog builders.
+ * <p>
+ * Resolved values depend on the configuration they are resolved for: the library ships day and night colors,
+ * and dimensions depend on the screen density and the font scale. The cache therefore keeps a separate table of
+ * values for each combination of {@link Configuration#uiMode}, {@link Configuration#densityDpi} and
+ * {@link Configuration#fontScale}, and every lookup picks the table matching the configuration of the context it
+ * is given. A change of any of them, such as a switch between day and night mode, makes lookups resolve the
+ * resources again instead of returning stale values. The tables of the most recent configurations are kept, so
+ * that switching back and forth, or activities using different night modes, do not resolve everything again.
+ * <p>
+ * Tables are keyed by resource ID without boxing, so a lookup is a configuration check and a hash probe once the
+ * first dialog has resolved a resource.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class ResourceCache {
+
+    /**
+     * The maximum number of configurations whose resolved resources are kept.
+     */
+    private static final int MAX_CONFIGURATIONS = 4;
+
+    /**
+     * The single instance of the cache.
+     */
+    private static final ResourceCache INSTANCE = new ResourceCache();
+
+    /**
+     * The resolved resources of the recent configurations, from the least to the most recently used.
+     */
+    private final ArrayList<Snapshot> snapshots = new ArrayList<>(MAX_CONFIGURATIONS);
+
+    /**
+     * The resolved resources of the configuration used by the last lookup.
+     */
+    private volatile Snapshot current;
+
+    /**
+     * The number of lookups served from the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of lookups that had to resolve the resource.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private ResourceCache() {
+    }
+
+    /**
+     * Gets the process-wide instance of the cache.
+     *
+     * @return The {@link ResourceCache} instance.
+     */
+    @NonNull
+    public static ResourceCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets a color resolved for the configuration of a context.
+     *
+     * @param context The context used to resolve the color.
+     * @param color   The color resource ID.
+     * @return The ARGB color.
+     */
+    @ColorInt
+    public int getColor(@NonNull Context context, @ColorRes int color) {
+        Snapshot snapshot = snapshot(context);
+        synchronized (snapshot) {
+            int index = snapshot.table.indexOf(color);
+            if (index >= 0) {
+                this.hitCount.incrementAndGet();
+                return snapshot.table.values[index];
+            }
+        }
+
+        this.missCount.incrementAndGet();
+        int resolved = ContextCompat.getColor(context, color);
+        synchronized (snapshot) {
+            snapshot.table.put(color, resolved, null);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets a dimension resolved for the configuration of a context.
+     *
+     * @param context The context used to resolve the dimension.
+     * @param dimen   The dimension resource ID.
+     * @return The dimension in pixels.
+     */
+    public float getDimension(@NonNull Context context, @DimenRes int dimen) {
+        Snapshot snapshot = snapshot(context);
+        synchronized (snapshot) {
+            int index = snapshot.table.indexOf(dimen);
+            if (index >= 0) {
+                this.hitCount.incrementAndGet();
+                return Float.intBitsToFloat(snapshot.table.values[index]);
+            }
+        }
+
+        this.missCount.incrementAndGet();
+        float resolved = context.getResources().getDimension(dimen);
+        synchronized (snapshot) {
+            snapshot.table.put(dimen, Float.floatToRawIntBits(resolved), null);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets a font resolved for the configuration of a context. The font itself is loaded through the
+     * {@link TypefaceCache}, so that it is not read again when the configuration changes.
+     *
+     * @param context The context used to load the font.
+     * @param font    The font resource ID.
+     * @return The corresponding Typeface object, or null if the font cannot be loaded.
+     */
+    public Typeface getFont(@NonNull Context context, @FontRes int font) {
+        Snapshot snapshot = snapshot(context);
+        synchronized (snapshot) {
+            int index = snapshot.table.indexOf(font);
+            if (index >= 0) {
+                this.hitCount.incrementAndGet();
+                return (Typeface) snapshot.table.objects[index];
+            }
+        }
+
+        this.missCount.incrementAndGet();
+        Typeface resolved = TypefaceCache.getInstance().get(context, font);
+        if (resolved == null) return null;
+        synchronized (snapshot) {
+            snapshot.table.put(font, 0, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets a drawable resolved for the configuration of a context. The cache only keeps the
+     * {@link Drawable.ConstantState} of the drawable, every call returns a new drawable sharing it.
+     *
+     * @param context  The context used to resolve the drawable.
+     * @param drawable The drawable resource ID.
+     * @return A new drawable sharing the cached state, or null if the drawable cannot be loaded.
+     */
+    public Drawable getDrawable(@NonNull Context context, @DrawableRes int drawable) {
+        Snapshot snapshot = snapshot(context);
+        Drawable.ConstantState state = null;
+        synchronized (snapshot) {
+            int index = snapshot.table.indexOf(drawable);
+            if (index >= 0) state = (Drawable.ConstantState) snapshot.table.objects[index];
+        }
+        if (state != null) {
+            this.hitCount.incrementAndGet();
+            return state.newDrawable(context.getResources());
+        }
+
+        this.missCount.incrementAndGet();
+        Drawable resolved = ContextCompat.getDrawable(context, drawable);
+        if (resolved == null) return null;
+        state = resolved.getConstantState();
+        if (state == null) return resolved;
+        synchronized (snapshot) {
+            snapshot.table.put(drawable, 0, state);
+        }
+        return state.newDrawable(context.getResources());
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to resolve the resource.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Drops the resolved resources of every configuration and resets the counters.
+     */
+    public synchronized void clear() {
+        this.snapshots.clear();
+        this.current = null;
+        this.hitCount.set(0);
+        this.missCount.set(0);
+    }
+
+    /**
+     * Gets the resolved resources of the configuration of a context, creating them on the first lookup
+     * made with that configuration.
+     *
+     * @param context The context of the lookup.
+     * @return The resolved resources of its configuration.
+     */
+    @NonNull
+    private Snapshot snapshot(@NonNull Context context) {
+        Configuration configuration = context.getResources().getConfiguration();
+        Snapshot snapshot = this.current;
+        if (snapshot != null && snapshot.matches(configuration)) return snapshot;
+
+        synchronized (this) {
+            snapshot = null;
+            for (int i = this.snapshots.size() - 1; i >= 0; i--) {
+                if (this.snapshots.get(i).matches(configuration)) {
+                    snapshot = this.snapshots.remove(i);
+                    break;
+                }
+            }
+            if (snapshot == null) {
+                snapshot = new Snapshot(configuration);
+                if (this.snapshots.size() == MAX_CONFIGURATIONS) this.snapshots.remove(0);
+            }
+            this.snapshots.add(snapshot);
+            this.current = snapshot;
+            return snapshot;
+        }
+    }
+
+    /**
+     * The resources resolved for one configuration.
+     */
+    private static final class Snapshot {
+
+        /** The night mode, screen type and UI mode type of the configuration. */
+        private final int uiMode;
+
+        /** The screen density of the configuration. */
+        private final int densityDpi;
+
+        /** The font scale of the configuration. */
+        private final float fontScale;
+
+        /** The resolved resources, keyed by resource ID. */
+        private final ResourceTable table = new ResourceTable();
+
+        private Snapshot(@NonNull Configuration configuration) {
+            this.uiMode = configuration.uiMode;
+            this.densityDpi = configuration.densityDpi;
+            this.fontScale = configuration.fontScale;
+        }
+
+        /**
+         * Checks whether resources resolved for this snapshot are valid for a configuration.
+         *
+         * @param configuration The configuration.
+         * @return True if the configuration has the same UI mode, density and font scale, false otherwise.
+         */
+        private boolean matches(@NonNull Configuration configuration) {
+            return uiMode == configuration.uiMode
+                    && densityDpi == configuration.densityDpi
+                    && Float.compare(fontScale, configuration.fontScale) == 0;
+        }
+    }
+
+    /**
+     * An open addressing hash table keyed by resource ID, holding either an int or an object per resource.
+     * Resource IDs are never 0, which marks a free slot.
+     */
+    private static final class ResourceTable {
+
+        /** The initial capacity, a power of two. */
+        private static final int INITIAL_CAPACITY = 32;
+
+        /** The resource IDs, 0 for a free slot. */
+        private int[] keys = new int[INITIAL_CAPACITY];
+
+        /** The resolved colors and dimensions, by slot. */
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        /** The resolved fonts and drawable states, by slot. */
+        private Object[] objects = new Object[INITIAL_CAPACITY];
+
+        /** The number of used slots. */
+        private int size;
+
+        /**
+         * Finds the slot of a resource ID.
+         *
+         * @param key The resource ID.
+         * @return The slot of the resource ID, or the bitwise complement of the free slot it would use if absent.
+         */
+        private int indexOf(int key) {
+            int mask = keys.length - 1;
+            int index = ((key * 0x9E3779B9) >>> 16) & mask;
+            while (keys[index] != 0) {
+                if (keys[index] == key) return index;
+                index = (index + 1) & mask;
+            }
+            return ~index;
+        }
+
+        /**
+         * Stores the resolved value of a resource ID.
+         *
+         * @param key    The resource ID.
+         * @param value  The resolved color or dimension.
+         * @param object The resolved font or drawable state.
+         */
+        private void put(int key, int value, Object object) {
+            if ((size + 1) * 4 > keys.length * 3) grow();
+            int index = indexOf(key);
+            if (index < 0) {
+                index = ~index;
+                keys[index] = key;
+                size++;
+            }
+            values[index] = value;
+            objects[index] = object;
+        }
+
+        /**
+         * Doubles the capacity of the table.
+         */
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            Object[] oldObjects = objects;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            objects = new Object[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == 0) continue;
+                int index = ~indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                objects[index] = oldObjects[i];
+            }
+        }
+    }
+}
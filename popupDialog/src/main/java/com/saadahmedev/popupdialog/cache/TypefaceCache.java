@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.cache;
+
+import android.content.Context;
+import android.graphics.Typeface;
+
+import androidx.annotation.FontRes;
+import androidx.annotation.NonNull;
+import androidx.core.content.res.ResourcesCompat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide, thread-safe cache of {@link Typeface} objects keyed by font resource.
+ * <p>
+ * Fonts are loaded from disk once per process and shared by every dialog. The cache keeps hit and miss
+ * counters so that its effectiveness can be checked at runtime.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class TypefaceCache {
+
+    /**
+     * The single instance of the cache.
+     */
+    private static final TypefaceCache INSTANCE = new TypefaceCache();
+
+    /**
+     * The loaded typefaces, keyed by font resource ID.
+     */
+    private final ConcurrentHashMap<Integer, Typeface> typefaces = new ConcurrentHashMap<>();
+
+    /**
+     * The number of lookups served from the cache.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The number of lookups that had to load the font.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private TypefaceCache() {
+    }
+
+    /**
+     * Gets the process-wide instance of the cache.
+     *
+     * @return The {@link TypefaceCache} instance.
+     */
+    @NonNull
+    public static TypefaceCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the typeface of a font resource, loading it on the first lookup.
+     *
+     * @param context The context used to load the font.
+     * @param font    The font resource ID.
+     * @return The corresponding Typeface object.
+     */
+    public Typeface get(@NonNull Context context, @FontRes int font) {
+        Typeface typeface = this.typefaces.get(font);
+        if (typeface != null) {
+            this.hitCount.incrementAndGet();
+            return typeface;
+        }
+
+        this.missCount.incrementAndGet();
+        typeface = ResourcesCompat.getFont(context.getApplicationContext(), font);
+        if (typeface == null) return null;
+
+        Typeface existing = this.typefaces.putIfAbsent(font, typeface);
+        return existing != null ? existing : typeface;
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to load the font.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Gets the number of typefaces held by the cache.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return this.typefaces.size();
+    }
+
+    /**
+     * Drops every cached typeface and resets the counters.
+     */
+    public void clear() {
+        this.typefaces.clear();
+        this.hitCount.set(0);
+        this.missCount.set(0);
+    }
+}
@@ -15,20 +15,45 @@
  */
 package com.saadahmedev.popupdialog.dialog.progress;
 
+import android.util.Log;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RawRes;
 
+import com.airbnb.lottie.LottieComposition;
+import com.airbnb.lottie.LottieDrawable;
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.animation.LottiePlaybackController;
+import com.saadahmedev.popupdialog.animation.LottiePlaybackPolicy;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.PopupDialogFuture;
+import com.saadahmedev.popupdialog.cache.LottieCompositionCache;
 import com.saadahmedev.popupdialog.base.BaseDialogBinder;
 import com.saadahmedev.popupdialog.databinding.DialogLottieBinding;
 import com.saadahmedev.popupdialog.dialogType.ProgressTypeDialog;
 import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * A progress dialog class for displaying Lottie animations.
- * This dialog allows displaying Lottie animations either by providing a raw resource ID
- * or an asset file name. It also provides customization options for animation playback.
+ * This dialog allows displaying Lottie animations either by providing a raw resource ID, an asset file name,
+ * or a file, stream or buffer holding the animation, such as one downloaded to the app storage.
+ * It also provides customization options for animation playback.
+ * <p>
+ * Files, streams and buffers are parsed on the background executor as soon as they are set, and the parsed
+ * composition of a file, or of a stream or buffer given a cache key, is kept in the {@link LottieCompositionCache}.
+ * If it is not parsed yet when the dialog is built, the animation is attached once it is.
  * <p>
  * This class extends {@link BaseDialogBinder} to leverage common dialog functionalities.
  *
@@ -37,6 +62,11 @@ import com.saadahmedev.popupdialog.exception.PopupDialogException;
  */
 public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBinding> {
 
+    /**
+     * The tag of the log entries of the dialog.
+     */
+    private static final String TAG = "LottieDialog";
+
     /**
      * The {@link ProgressTypeDialog} associated with this Lottie dialog.
      */
@@ -52,6 +82,26 @@ public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBin
      */
     private String asset;
 
+    /**
+     * The background parse of the file, stream or buffer set as source, or null if none is set.
+     */
+    private SourceTask sourceTask;
+
+    /**
+     * The parsed Lottie composition, when available from the {@link LottieCompositionCache}.
+     */
+    private LottieComposition composition;
+
+    /**
+     * The playback policy of the animation, or null to use {@link LottiePlaybackPolicy#getDefault()}.
+     */
+    private LottiePlaybackPolicy playbackPolicy;
+
+    /**
+     * The controller applying the playback policy to the animation of the built dialog.
+     */
+    private LottiePlaybackController playbackController;
+
     /**
      * The number of times the animation should be repeated.
      */
@@ -91,6 +141,7 @@ public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBin
      */
     public LottieDialog setRawRes(@NonNull @RawRes Integer rawRes) {
         this.rawRes = rawRes;
+        LottieCompositionCache.getInstance().prefetch(getContext(), rawRes);
         return this;
     }
 
@@ -102,6 +153,79 @@ public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBin
      */
     public LottieDialog setAsset(@NonNull String asset) {
         this.asset = asset;
+        LottieCompositionCache.getInstance().prefetch(getContext(), asset);
+        return this;
+    }
+
+    /**
+     * Sets the Lottie animation by file, which is memory-mapped and parsed in the background.
+     * The composition is cached until the file is modified.
+     *
+     * @param file The animation file, either JSON or zipped.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setSource(@NonNull File file) {
+        return setSource(() -> LottieCompositionCache.getInstance().load(file), null);
+    }
+
+    /**
+     * Sets the Lottie animation by stream, which is parsed in the background and then closed.
+     * The composition is not cached, see {@link #setSource(InputStream, String)}.
+     *
+     * @param stream The stream of the animation, either JSON or zipped.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setSource(@NonNull InputStream stream) {
+        return setSource(stream, null);
+    }
+
+    /**
+     * Sets the Lottie animation by stream, which is parsed in the background and then closed.
+     * The composition is cached under the given key, and the stream is not read if it is already cached.
+     *
+     * @param stream   The stream of the animation, either JSON or zipped.
+     * @param cacheKey The key identifying the animation, or null to parse it without caching it.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setSource(@NonNull InputStream stream, @Nullable String cacheKey) {
+        return setSource(() -> LottieCompositionCache.getInstance().load(stream, cacheKey), stream);
+    }
+
+    /**
+     * Sets the Lottie animation by buffer, which is parsed in the background.
+     * The composition is not cached, see {@link #setSource(ByteBuffer, String)}.
+     *
+     * @param buffer The buffer holding the animation between its position and its limit, either JSON or zipped.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setSource(@NonNull ByteBuffer buffer) {
+        return setSource(buffer, null);
+    }
+
+    /**
+     * Sets the Lottie animation by buffer, which is parsed in the background.
+     * The composition is cached under the given key.
+     *
+     * @param buffer   The buffer holding the animation between its position and its limit, either JSON or zipped.
+     * @param cacheKey The key identifying the animation, or null to parse it without caching it.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setSource(@NonNull ByteBuffer buffer, @Nullable String cacheKey) {
+        return setSource(() -> LottieCompositionCache.getInstance().load(buffer, cacheKey), null);
+    }
+
+    /**
+     * Starts parsing the animation source in the background. A source takes precedence over the raw resource
+     * and the asset file. The parse of the previous source is cancelled, closing its stream if it had not started.
+     *
+     * @param loader The parse of the source.
+     * @param stream The stream read by the parse, or null if it does not read a caller's stream.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    private LottieDialog setSource(@NonNull Callable<LottieComposition> loader, @Nullable InputStream stream) {
+        if (this.sourceTask != null) this.sourceTask.cancel(false);
+        this.sourceTask = new SourceTask(loader, stream, new AtomicBoolean(false));
+        DialogExecutors.getBackgroundExecutor().execute(this.sourceTask);
         return this;
     }
 
@@ -116,6 +240,18 @@ public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBin
         return this;
     }
 
+    /**
+     * Sets how the animation is played, overriding {@link LottiePlaybackPolicy#getDefault()}.
+     * A repeat count set with {@link #setLottieRepeatCount(Integer)} takes precedence over the play count of the policy.
+     *
+     * @param playbackPolicy The playback policy of the animation.
+     * @return The current instance of the {@link LottieDialog}.
+     */
+    public LottieDialog setLottiePlaybackPolicy(@NonNull LottiePlaybackPolicy playbackPolicy) {
+        this.playbackPolicy = playbackPolicy.copy();
+        return this;
+    }
+
     /**
      * Sets the speed of the animation playback.
      *
@@ -131,21 +267,173 @@ public class LottieDialog extends BaseDialogBinder<LottieDialog, DialogLottieBin
      * Builds the {@link LottieDialog}.
      *
      * @return The built {@link PopupDialog}.
-     * @throws PopupDialogException if no Lottie raw resource or asset file is provided.
+     * @throws PopupDialogException if no Lottie raw resource, asset file or source is provided.
      */
     public PopupDialog build() {
-        if (this.rawRes == null && this.asset == null) {
-            throw new PopupDialogException("No lottie raw resource or asset file provided");
-        }
+        validate();
+        inflate();
+        ensurePrepared();
 
-        if (rawRes != null) {
-            asset = null;
-            binding.lottieAnimationView.setAnimation(rawRes);
-        }
-        if (asset != null) binding.lottieAnimationView.setAnimation(asset);
+        if (composition != null) binding.lottieAnimationView.setComposition(composition);
+        else if (sourceTask != null) binding.lottieAnimationView.setImageDrawable(null);
+        else if (rawRes != null) binding.lottieAnimationView.setAnimation(rawRes);
+        else binding.lottieAnimationView.setAnimation(asset);
+        if (playbackController != null) playbackController.release();
+        playbackController = LottiePlaybackController.attach(
+                binding.lottieAnimationView,
+                playbackPolicy != null ? playbackPolicy : LottiePlaybackPolicy.getDefault()
+        );
         if (repeatCount != null) binding.lottieAnimationView.setRepeatCount(repeatCount);
         if (animationSpeed != null) binding.lottieAnimationView.setSpeed(animationSpeed);
 
         return progressTypeDialog.getPopupDialog();
     }
-}
+
+    /**
+     * Shows the {@link LottieDialog} once the show delay of its {@link ProgressTypeDialog} has elapsed, and keeps it visible
+     * for at least its minimum visible time. The dialog is only built when it is shown, so an operation that
+     * dismisses the handle before the delay skips inflating it. Must be called on the main thread.
+     *
+     * @return The handle dismissing the dialog.
+     * @throws PopupDialogException if no Lottie raw resource, asset file or source is provided.
+     * @see ProgressTypeDialog#setShowDelay(long)
+     * @see ProgressTypeDialog#setMinimumVisibleTime(long)
+     */
+    @NonNull
+    public ProgressHandle showDelayed() {
+        validate();
+        return ProgressHandle.start(progressTypeDialog, this::build);
+    }
+
+    /**
+     * Builds the {@link LottieDialog} asynchronously, inflating the layout on a background thread.
+     *
+     * @return A future completed on the main thread with the built {@link PopupDialog}.
+     * @throws PopupDialogException if no Lottie raw resource, asset file or source is provided.
+     */
+    public PopupDialogFuture buildAsync() {
+        return submitBuild(this::build);
+    }
+
+    /**
+     * Takes the parsed composition from the {@link LottieCompositionCache} or from the source, parsing it only when
+     * off the main thread.
+     */
+    @Override
+    protected void prepare() {
+        LottieCompositionCache lottieCache = LottieCompositionCache.getInstance();
+        boolean background = !DialogExecutors.isMainThread();
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.LOTTIE);
+        try {
+            if (sourceTask != null) {
+                // Off the main thread, parse the source here if the executor has not started it yet
+                if (background) sourceTask.run();
+                if (sourceTask.isDone()) composition = sourceTask.getComposition();
+            }
+            else if (rawRes != null) composition = background ? lottieCache.load(getContext(), rawRes) : lottieCache.get(rawRes);
+            else if (asset != null) composition = background ? lottieCache.load(getContext(), asset) : lottieCache.get(asset);
+        } finally {
+            DialogTrace.end(traced);
+        }
+    }
+
+    /**
+     * Checks that a Lottie raw resource, asset file or source is set.
+     *
+     * @throws PopupDialogException if no Lottie raw resource, asset file or source is provided.
+     */
+    @Override
+    protected void validate() {
+        if (this.rawRes == null && this.asset == null && this.sourceTask == null) {
+            throw new PopupDialogException("No lottie raw resource, asset file or source provided");
+        }
+    }
+
+    /**
+     * Releases the playback controller, stops the animation and restores its playback settings to the layout defaults.
+     */
+    @Override
+    protected void resetBinding() {
+        if (playbackController != null) {
+            playbackController.release();
+            playbackController = null;
+        }
+        binding.lottieAnimationView.cancelAnimation();
+        binding.lottieAnimationView.setProgress(0F);
+        binding.lottieAnimationView.setRepeatCount(LottieDrawable.INFINITE);
+        binding.lottieAnimationView.setSpeed(1F);
+    }
+
+    /**
+     * Attaches the composition parsed by a source task, if the dialog has been built without it.
+     * Runs on the main thread, from a posted callback where nothing could catch an exception, so a failed parse
+     * is logged and leaves the animation view without a composition. Only {@link #build()} throws it.
+     *
+     * @param task The completed source task.
+     */
+    private void onSourceParsed(@NonNull SourceTask task) {
+        if (task != sourceTask || binding == null || composition != null) return;
+
+        try {
+            composition = task.getComposition();
+        } catch (PopupDialogException e) {
+            Log.w(TAG, "Could not parse the Lottie animation source", e.getCause());
+            return;
+        }
+        if (composition != null) binding.lottieAnimationView.setComposition(composition);
+    }
+
+    /**
+     * The background parse of an animation source, handing the composition over to the main thread once done.
+     * A stream the parse never got to read is closed when the task is cancelled.
+     */
+    private final class SourceTask extends FutureTask<LottieComposition> {
+
+        /** The stream read by the parse, or null. */
+        private final InputStream stream;
+
+        /** Set by whichever comes first of the parse starting and the task closing the stream on cancellation. */
+        private final AtomicBoolean streamClaimed;
+
+        private SourceTask(@NonNull Callable<LottieComposition> loader, @Nullable InputStream stream,
+                           @NonNull AtomicBoolean streamClaimed) {
+            super(() -> streamClaimed.compareAndSet(false, true) ? loader.call() : null);
+            this.stream = stream;
+            this.streamClaimed = streamClaimed;
+        }
+
+        /**
+         * Gets the parsed composition, waiting for the parse if it is running on another thread.
+         *
+         * @return The composition, or null if the source could not be parsed or the parse was cancelled.
+         * @throws PopupDialogException if the parse failed with an unexpected error.
+         */
+        private LottieComposition getComposition() {
+            if (isCancelled()) return null;
+            try {
+                return get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException e) {
+                throw new PopupDialogException(e.getCause());
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (!isCancelled()) {
+                DialogExecutors.postToMainThread(() -> onSourceParsed(this));
+                return;
+            }
+
+            // The parse closes the stream once it has started, so only close one it never read
+            if (stream != null && streamClaimed.compareAndSet(false, true)) {
+                try {
+                    stream.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
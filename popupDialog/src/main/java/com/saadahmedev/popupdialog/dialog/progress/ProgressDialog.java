@@ -17,21 +17,32 @@
 package com.saadahmedev.popupdialog.dialog.progress;
 
 import android.content.res.ColorStateList;
+import android.view.Choreographer;
+import android.view.View;
 
 import androidx.annotation.ColorRes;
 import androidx.annotation.NonNull;
-import androidx.core.content.ContextCompat;
 
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.PopupDialogFuture;
 import com.saadahmedev.popupdialog.base.BaseDialogBinder;
+import com.saadahmedev.popupdialog.cache.ResourceCache;
 import com.saadahmedev.popupdialog.databinding.DialogProgressBinding;
 import com.saadahmedev.popupdialog.dialogType.ProgressTypeDialog;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A dialog class for displaying a progress bar dialog.
  * <p>
- * This dialog allows displaying a progress bar with optional tinting for customization.
+ * This dialog allows displaying a progress bar with optional tinting for customization. The progress bar is
+ * indeterminate until {@link #setProgress(long, long)} is called, which switches it to a determinate bar.
+ * Progress and message updates can be sent from any thread at any rate: they only replace the pending values,
+ * and the latest ones are applied to the views at most once per frame.
  * <p>
  * This class extends {@link BaseDialogBinder} to leverage common dialog functionalities.
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
@@ -39,6 +50,16 @@ import com.saadahmedev.popupdialog.dialogType.ProgressTypeDialog;
  */
 public class ProgressDialog extends BaseDialogBinder<ProgressDialog, DialogProgressBinding> {
 
+    /**
+     * The maximum of the determinate progress bar, which the progress is scaled to.
+     */
+    private static final int PROGRESS_MAX = 10_000;
+
+    /**
+     * The pending progress value while the progress bar is still indeterminate.
+     */
+    private static final int INDETERMINATE = -1;
+
     /**
      * The {@link ProgressTypeDialog} associated with this Progress dialog.
      */
@@ -49,6 +70,49 @@ public class ProgressDialog extends BaseDialogBinder<ProgressDialog, DialogProgr
      */
     private Integer tint;
 
+    /**
+     * The tint color state list resolved from {@link #tint}.
+     */
+    private ColorStateList tintList;
+
+    /**
+     * The latest progress, scaled to {@link #PROGRESS_MAX}, or {@link #INDETERMINATE}.
+     */
+    private final AtomicInteger pendingProgress = new AtomicInteger(INDETERMINATE);
+
+    /**
+     * The latest message, or null for none.
+     */
+    private volatile String pendingMessage;
+
+    /**
+     * Whether a frame callback applying the pending progress and message has been scheduled and not run yet.
+     */
+    private final AtomicBoolean frameScheduled = new AtomicBoolean();
+
+    /**
+     * The progress shown by the views, only accessed on the main thread.
+     */
+    private int shownProgress = INDETERMINATE;
+
+    /**
+     * The message shown by the views, only accessed on the main thread.
+     */
+    private String shownMessage;
+
+    /**
+     * Applies the pending progress and message on the next frame.
+     */
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> {
+        frameScheduled.set(false);
+        applyProgress();
+    };
+
+    /**
+     * Schedules {@link #frameCallback}, must run on the main thread.
+     */
+    private final Runnable postFrameCallback = () -> Choreographer.getInstance().postFrameCallback(frameCallback);
+
     /**
      * Constructs a new {@link ProgressDialog}.
      *
@@ -81,16 +145,155 @@ public class ProgressDialog extends BaseDialogBinder<ProgressDialog, DialogProgr
         return this;
     }
 
+    /**
+     * Sets the progress, switching the progress bar to determinate once the total is known, or back to
+     * indeterminate while it is 0. Can be called from any thread, before or after the dialog is built; the latest
+     * progress is applied on the next frame.
+     *
+     * @param done  The amount of work done.
+     * @param total The total amount of work, or 0 if not known yet.
+     * @return The current instance of the {@link ProgressDialog}.
+     * @throws PopupDialogException if the amount of work done or the total is negative.
+     */
+    public ProgressDialog setProgress(long done, long total) {
+        if (done < 0 || total < 0) throw new PopupDialogException("Progress must not be negative");
+
+        int progress = total == 0 ? INDETERMINATE : (int) (Math.min(done, total) * (double) PROGRESS_MAX / total);
+        pendingProgress.set(progress);
+        scheduleFrame();
+        return this;
+    }
+
+    /**
+     * Sets the progress and the message shown below the progress bar. Can be called from any thread, before or
+     * after the dialog is built; the latest progress and message are applied on the next frame.
+     *
+     * @param done    The amount of work done.
+     * @param total   The total amount of work, or 0 if not known yet.
+     * @param message The message, or null to hide it.
+     * @return The current instance of the {@link ProgressDialog}.
+     * @throws PopupDialogException if the amount of work done or the total is negative.
+     */
+    public ProgressDialog setProgress(long done, long total, String message) {
+        this.pendingMessage = message;
+        return setProgress(done, total);
+    }
+
+    /**
+     * Sets the message shown below the progress bar. Can be called from any thread, before or after the dialog
+     * is built; the latest message is applied on the next frame.
+     *
+     * @param message The message, or null to hide it.
+     * @return The current instance of the {@link ProgressDialog}.
+     */
+    public ProgressDialog setMessage(String message) {
+        this.pendingMessage = message;
+        scheduleFrame();
+        return this;
+    }
+
     /**
      * Builds the {@link ProgressDialog}.
      *
      * @return The built {@link PopupDialog}.
      */
     public PopupDialog build() {
-        if (tint != null) {
-            binding.progressBar.setIndeterminateTintList(ColorStateList.valueOf(ContextCompat.getColor(getContext(), this.tint)));
+        inflate();
+        ensurePrepared();
+
+        if (tintList != null) {
+            binding.progressBar.setIndeterminateTintList(tintList);
+            binding.progressBarDeterminate.setProgressTintList(tintList);
         }
+        applyProgress();
 
         return progressTypeDialog.getPopupDialog();
     }
+
+    /**
+     * Shows the {@link ProgressDialog} once the show delay of its {@link ProgressTypeDialog} has elapsed, and keeps it visible
+     * for at least its minimum visible time. The dialog is only built when it is shown, so an operation that
+     * dismisses the handle before the delay skips inflating it. Must be called on the main thread.
+     *
+     * @return The handle dismissing the dialog.
+     * @see ProgressTypeDialog#setShowDelay(long)
+     * @see ProgressTypeDialog#setMinimumVisibleTime(long)
+     */
+    @NonNull
+    public ProgressHandle showDelayed() {
+        return ProgressHandle.start(progressTypeDialog, this::build);
+    }
+
+    /**
+     * Builds the {@link ProgressDialog} asynchronously, inflating the layout on a background thread.
+     *
+     * @return A future completed on the main thread with the built {@link PopupDialog}.
+     */
+    public PopupDialogFuture buildAsync() {
+        return submitBuild(this::build);
+    }
+
+    /**
+     * Resolves the tint color of the progress bar.
+     */
+    @Override
+    protected void prepare() {
+        if (tint != null) {
+            tintList = ColorStateList.valueOf(ResourceCache.getInstance().getColor(getContext(), this.tint));
+        }
+    }
+
+    /**
+     * Removes the tint of the progress bar and restores the indeterminate progress bar without a message.
+     */
+    @Override
+    protected void resetBinding() {
+        binding.progressBar.setIndeterminateTintList(null);
+        binding.progressBarDeterminate.setProgressTintList(null);
+        binding.progressBar.setVisibility(View.VISIBLE);
+        binding.progressBarDeterminate.setVisibility(View.GONE);
+        binding.progressBarDeterminate.setProgress(0);
+        binding.tvMessage.setVisibility(View.GONE);
+        binding.tvMessage.setText(null);
+        shownProgress = INDETERMINATE;
+        shownMessage = null;
+    }
+
+    /**
+     * Schedules a frame callback applying the pending progress and message, unless one is already scheduled.
+     */
+    private void scheduleFrame() {
+        if (frameScheduled.compareAndSet(false, true)) DialogExecutors.runOnMainThread(postFrameCallback);
+    }
+
+    /**
+     * Applies the pending progress and message to the views, if they have been inflated and the values changed.
+     * Must be called on the main thread.
+     */
+    private void applyProgress() {
+        if (binding == null) return;
+
+        int progress = pendingProgress.get();
+        if (progress != shownProgress) {
+            if (progress == INDETERMINATE) {
+                binding.progressBar.setVisibility(View.VISIBLE);
+                binding.progressBarDeterminate.setVisibility(View.GONE);
+                binding.progressBarDeterminate.setProgress(0);
+            } else {
+                if (shownProgress == INDETERMINATE) {
+                    binding.progressBar.setVisibility(View.GONE);
+                    binding.progressBarDeterminate.setVisibility(View.VISIBLE);
+                }
+                binding.progressBarDeterminate.setProgress(progress);
+            }
+            shownProgress = progress;
+        }
+
+        String message = pendingMessage;
+        if (message != shownMessage) {
+            binding.tvMessage.setText(message);
+            binding.tvMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+            shownMessage = message;
+        }
+    }
 }
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.dialog.progress;
+
+import android.app.Activity;
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.DialogTimerWheel;
+import com.saadahmedev.popupdialog.dialogType.ProgressTypeDialog;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.registry.PopupDialogRegistry;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A progress dialog shown after a delay and kept visible for a minimum time, as configured with
+ * {@link ProgressTypeDialog#setShowDelay(long)} and {@link ProgressTypeDialog#setMinimumVisibleTime(long)}.
+ * <p>
+ * The dialog is only built, which inflates its layout and attaches its animation, once the delay has elapsed.
+ * An operation that calls {@link #dismiss()} before then costs no inflation and no window. Once shown, the dialog
+ * stays visible for at least the minimum time, and an earlier {@link #dismiss()} is deferred until then.
+ * <p>
+ * If the Activity is destroyed before the delay has elapsed, including by a configuration change, the dialog is
+ * never built and the handle lets go of the Activity, see {@link PopupDialogRegistry#addReleaseAction}.
+ * <p>
+ * {@link #dismiss()} can be called from any thread, the handle otherwise runs on the main thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see ProgressDialog#showDelayed()
+ * @see LottieDialog#showDelayed()
+ */
+public final class ProgressHandle {
+
+    /**
+     * The dialog is waiting for the show delay to elapse.
+     */
+    private static final int STATE_PENDING = 0;
+
+    /**
+     * The dialog has been built and shown.
+     */
+    private static final int STATE_SHOWN = 1;
+
+    /**
+     * The dialog has been dismissed, or will never be shown.
+     */
+    private static final int STATE_DISMISSED = 2;
+
+    /**
+     * Builds the dialog once the show delay has elapsed.
+     */
+    private Callable<PopupDialog> build;
+
+    /**
+     * The context the dialog is shown in.
+     */
+    private final Context context;
+
+    /**
+     * The minimum time the dialog stays visible once shown, in milliseconds.
+     */
+    private final long minimumVisibleTime;
+
+    /**
+     * The state of the dialog, one of the {@code STATE_} constants.
+     */
+    private int state = STATE_PENDING;
+
+    /**
+     * The dialog, once built.
+     */
+    private PopupDialog popupDialog;
+
+    /**
+     * The uptime at which the dialog was shown, in milliseconds.
+     */
+    private long shownAt;
+
+    /**
+     * The scheduled show or deferred dismissal, if any.
+     */
+    private DialogTimerWheel.Timeout pendingTimeout;
+
+    /**
+     * Whether {@link #dismiss()} has been called.
+     */
+    private boolean dismissRequested = false;
+
+    /**
+     * Drops the dialog once its Activity is destroyed, registered with the {@link PopupDialogRegistry}.
+     */
+    private final Runnable hostDestroyed = this::onHostDestroyed;
+
+    /**
+     * Whether {@link #hostDestroyed} is registered with the {@link PopupDialogRegistry}.
+     */
+    private boolean releaseActionAdded = false;
+
+    /**
+     * Constructs a new {@link ProgressHandle}.
+     *
+     * @param context            The context the dialog is shown in.
+     * @param build              Builds the dialog once the show delay has elapsed.
+     * @param minimumVisibleTime The minimum time the dialog stays visible once shown, in milliseconds.
+     */
+    private ProgressHandle(@NonNull Context context, @NonNull Callable<PopupDialog> build, long minimumVisibleTime) {
+        this.context = context;
+        this.build = build;
+        this.minimumVisibleTime = minimumVisibleTime;
+    }
+
+    /**
+     * Schedules a progress dialog to be built and shown once the show delay of its {@link ProgressTypeDialog} has
+     * elapsed, or right away if there is none. Must be called on the main thread.
+     *
+     * @param progressTypeDialog The progress type dialog holding the show delay and minimum visible time.
+     * @param build              Builds the dialog.
+     * @return The handle dismissing the dialog.
+     */
+    @NonNull
+    static ProgressHandle start(@NonNull ProgressTypeDialog progressTypeDialog, @NonNull Callable<PopupDialog> build) {
+        ProgressHandle handle = new ProgressHandle(
+                progressTypeDialog.getContext(),
+                build,
+                progressTypeDialog.getMinimumVisibleTime()
+        );
+        handle.releaseActionAdded = PopupDialogRegistry.getInstance().addReleaseAction(
+                handle.context,
+                handle.hostDestroyed
+        );
+
+        long showDelay = progressTypeDialog.getShowDelay();
+        if (showDelay == 0) handle.show();
+        else handle.pendingTimeout = DialogTimerWheel.getInstance().schedule(showDelay, handle::show);
+        return handle;
+    }
+
+    /**
+     * Dismisses the dialog. If it is still waiting for the show delay, it is never built nor shown. If it has been
+     * visible for less than the minimum visible time, it is dismissed once that time has elapsed.
+     * Can be called from any thread.
+     */
+    public void dismiss() {
+        DialogExecutors.runOnMainThread(this::requestDismiss);
+    }
+
+    /**
+     * Checks whether the dialog has been built and shown.
+     *
+     * @return True if the delay elapsed before the dialog was dismissed, false otherwise.
+     */
+    public boolean wasShown() {
+        return this.popupDialog != null;
+    }
+
+    /**
+     * Gets the dialog, once it has been built.
+     *
+     * @return The {@link PopupDialog}, or null if the show delay has not elapsed.
+     */
+    @Nullable
+    public PopupDialog getPopupDialog() {
+        return this.popupDialog;
+    }
+
+    /**
+     * Builds and shows the dialog, unless it has been dismissed or its Activity is finishing or destroyed.
+     */
+    private void show() {
+        this.pendingTimeout = null;
+        if (this.state != STATE_PENDING) return;
+
+        Callable<PopupDialog> build = this.build;
+        this.build = null;
+
+        Activity activity = ContextUtil.findActivity(this.context);
+        if (activity != null && (activity.isFinishing() || activity.isDestroyed())) {
+            this.state = STATE_DISMISSED;
+            removeReleaseAction();
+            return;
+        }
+
+        PopupDialog built;
+        try {
+            built = build.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new PopupDialogException(e);
+        }
+
+        this.popupDialog = built;
+        built.addOnDismissListener(dialog -> onDismissed());
+        built.show();
+        this.shownAt = SystemClock.uptimeMillis();
+        this.state = STATE_SHOWN;
+    }
+
+    /**
+     * Dismisses the dialog, or drops it if it has not been shown yet, honouring the minimum visible time.
+     */
+    private void requestDismiss() {
+        if (this.dismissRequested) return;
+        this.dismissRequested = true;
+
+        if (this.state == STATE_PENDING) {
+            cancelTimeout();
+            removeReleaseAction();
+            this.build = null;
+            this.state = STATE_DISMISSED;
+        } else if (this.state == STATE_SHOWN) {
+            long remaining = this.shownAt + this.minimumVisibleTime - SystemClock.uptimeMillis();
+            if (remaining <= 0) this.popupDialog.dismiss();
+            else this.pendingTimeout = DialogTimerWheel.getInstance().schedule(remaining, this.popupDialog::dismiss);
+        }
+    }
+
+    /**
+     * Marks the dialog as dismissed, whether by {@link #dismiss()}, by the user or by a timeout.
+     */
+    private void onDismissed() {
+        cancelTimeout();
+        removeReleaseAction();
+        this.state = STATE_DISMISSED;
+    }
+
+    /**
+     * Drops the dialog once its Activity is destroyed: the pending show or deferred dismissal is cancelled, so that
+     * neither the timer nor the build keeps the Activity alive. A shown dialog is released by the registry itself.
+     */
+    private void onHostDestroyed() {
+        this.releaseActionAdded = false;
+        cancelTimeout();
+        this.build = null;
+        this.state = STATE_DISMISSED;
+    }
+
+    /**
+     * Removes {@link #hostDestroyed} from the {@link PopupDialogRegistry}, if it was added.
+     */
+    private void removeReleaseAction() {
+        if (!this.releaseActionAdded) return;
+        this.releaseActionAdded = false;
+        PopupDialogRegistry.getInstance().removeReleaseAction(this.context, this.hostDestroyed);
+    }
+
+    /**
+     * Cancels the scheduled show or deferred dismissal, if any.
+     */
+    private void cancelTimeout() {
+        if (this.pendingTimeout != null) {
+            this.pendingTimeout.cancel();
+            this.pendingTimeout = null;
+        }
+    }
+}
@@ -20,8 +20,10 @@ import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
 import com.saadahmedev.popupdialog.base.BaseStandardDialog;
 import com.saadahmedev.popupdialog.databinding.DialogAlertBinding;
+import com.saadahmedev.popupdialog.dto.DialogColor;
 import com.saadahmedev.popupdialog.dto.AlertDialogData;
 import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
 /**
  * A dialog class for displaying an alert dialog or Android default dialog.
@@ -74,39 +76,45 @@ public class AlertDialog extends BaseStandardDialog<AlertDialog, DialogAlertBind
         binding.tvHeading.setTextSize(super.headingFontSize);
         binding.tvDescription.setTextSize(super.descriptionFontSize);
 
-        if (super.background != null) {
-            binding.layoutRoot.setBackgroundResource(super.background);
-        } else if (super.backgroundColor != null) {
-            binding.layoutRoot.setBackground(
-                    getBackground(
-                            backgroundColor,
-                            super.backgroundTopLeftCornerRadius,
-                            super.backgroundTopRightCornerRadius,
-                            super.backgroundBottomLeftCornerRadius,
-                            super.backgroundBottomRightCornerRadius
-                    )
-            );
+        if (isAssigned(HAS_BACKGROUND)) {
+            binding.layoutRoot.setBackground(resToDrawable(super.background));
+        } else if (super.backgroundDrawable != null) {
+            binding.layoutRoot.setBackground(super.backgroundDrawable);
         }
 
         binding.setDialog(super.getDialog());
         binding.setListener(listener);
 
-        super.setPositiveButtonTextColor(super.positiveButtonTextColor == null ? R.color.purple_light : super.positiveButtonTextColor);
-        super.setNegativeButtonTextColor(super.negativeButtonTextColor == null ? R.color.purple_light : super.negativeButtonTextColor);
+        super.positiveButtonTextColor = super.positiveButtonTextColor == null ? DialogColor.ofResource(R.color.purple_light) : super.positiveButtonTextColor;
+        super.negativeButtonTextColor = super.negativeButtonTextColor == null ? DialogColor.ofResource(R.color.purple_light) : super.negativeButtonTextColor;
 
-        binding.setItem(
-                new AlertDialogData(
-                        super.heading,
-                        super.description,
-                        super.headingTextColor,
-                        super.descriptionTextColor,
-                        super.positiveButtonTextColor,
-                        super.negativeButtonTextColor,
-                        super.positiveButtonText,
-                        super.negativeButtonText
-                )
-        );
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.SET_ITEM);
+        try {
+            binding.setItem(
+                    new AlertDialogData(
+                            super.heading,
+                            super.description,
+                            super.headingTextColor,
+                            super.descriptionTextColor,
+                            super.positiveButtonTextColor,
+                            super.negativeButtonTextColor,
+                            super.positiveButtonText,
+                            super.negativeButtonText
+                    )
+            );
+            executeBindings();
+        } finally {
+            DialogTrace.end(traced);
+        }
 
         return super.getPopupDialog();
     }
+
+    /**
+     * Restores the background of the root layout to its layout default.
+     */
+    @Override
+    protected void resetBinding() {
+        binding.layoutRoot.setBackgroundResource(R.drawable.bg_white_10);
+    }
 }
@@ -20,8 +20,10 @@ import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
 import com.saadahmedev.popupdialog.base.BaseStandardDialog;
 import com.saadahmedev.popupdialog.databinding.DialogIosBinding;
+import com.saadahmedev.popupdialog.dto.DialogColor;
 import com.saadahmedev.popupdialog.dto.IOSDialogData;
 import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
 /**
  * A dialog class for displaying an iOS-style dialog.
@@ -74,39 +76,45 @@ public class IOSDialog extends BaseStandardDialog<IOSDialog, DialogIosBinding> {
         binding.tvHeading.setTextSize(super.headingFontSize);
         binding.tvDescription.setTextSize(super.descriptionFontSize);
 
-        if (super.background != null) {
-            binding.rootLayout.setBackgroundResource(super.background);
-        } else if (super.backgroundColor != null) {
-            binding.rootLayout.setBackground(
-                    getBackground(
-                            super.backgroundColor,
-                            super.backgroundTopLeftCornerRadius,
-                            super.backgroundTopRightCornerRadius,
-                            super.backgroundBottomLeftCornerRadius,
-                            super.backgroundBottomRightCornerRadius
-                    )
-            );
+        if (isAssigned(HAS_BACKGROUND)) {
+            binding.rootLayout.setBackground(resToDrawable(super.background));
+        } else if (super.backgroundDrawable != null) {
+            binding.rootLayout.setBackground(super.backgroundDrawable);
         }
 
         binding.setDialog(super.getDialog());
         binding.setListener(listener);
 
-        super.setPositiveButtonTextColor(super.positiveButtonTextColor == null ? R.color.colorBlue : super.positiveButtonTextColor);
-        super.setNegativeButtonTextColor(super.negativeButtonTextColor == null ? R.color.colorBlue : super.negativeButtonTextColor);
+        super.positiveButtonTextColor = super.positiveButtonTextColor == null ? DialogColor.ofResource(R.color.colorBlue) : super.positiveButtonTextColor;
+        super.negativeButtonTextColor = super.negativeButtonTextColor == null ? DialogColor.ofResource(R.color.colorBlue) : super.negativeButtonTextColor;
 
-        binding.setItem(
-                new IOSDialogData(
-                        super.heading,
-                        super.description,
-                        super.headingTextColor,
-                        super.descriptionTextColor,
-                        super.positiveButtonTextColor,
-                        super.negativeButtonTextColor,
-                        super.positiveButtonText,
-                        super.negativeButtonText
-                )
-        );
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.SET_ITEM);
+        try {
+            binding.setItem(
+                    new IOSDialogData(
+                            super.heading,
+                            super.description,
+                            super.headingTextColor,
+                            super.descriptionTextColor,
+                            super.positiveButtonTextColor,
+                            super.negativeButtonTextColor,
+                            super.positiveButtonText,
+                            super.negativeButtonText
+                    )
+            );
+            executeBindings();
+        } finally {
+            DialogTrace.end(traced);
+        }
 
         return super.getPopupDialog();
     }
+
+    /**
+     * Restores the background of the root layout to its layout default.
+     */
+    @Override
+    protected void resetBinding() {
+        binding.rootLayout.setBackgroundResource(R.drawable.bg_white_10);
+    }
 }
@@ -16,20 +16,23 @@
 
 package com.saadahmedev.popupdialog.dialog.standard;
 
-import android.graphics.drawable.GradientDrawable;
+import android.graphics.drawable.Drawable;
 
 import androidx.annotation.ColorRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
-import androidx.core.content.ContextCompat;
+import androidx.annotation.Nullable;
 
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
 import com.saadahmedev.popupdialog.base.BaseStandardDialog;
 import com.saadahmedev.popupdialog.databinding.DialogStandardBinding;
+import com.saadahmedev.popupdialog.dto.DialogColor;
 import com.saadahmedev.popupdialog.dto.StandardDialogData;
 import com.saadahmedev.popupdialog.exception.PopupDialogException;
 import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
+import com.saadahmedev.popupdialog.style.PopupDialogStyle;
+import com.saadahmedev.popupdialog.trace.DialogTrace;
 
 /**
  * A dialog class for displaying a standard dialog with positive and negative buttons.
@@ -45,95 +48,165 @@ import com.saadahmedev.popupdialog.listener.StandardDialogActionListener;
  */
 public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogStandardBinding> {
 
+    /**
+     * Flag of {@link #assigned} set once {@link #icon} has a value.
+     */
+    private static final int HAS_ICON = 1 << 4;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #iconColor} has a value.
+     */
+    private static final int HAS_ICON_COLOR = 1 << 5;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #positiveButtonBackground} has a value.
+     */
+    private static final int HAS_POSITIVE_BUTTON_BACKGROUND = 1 << 6;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #negativeButtonBackground} has a value.
+     */
+    private static final int HAS_NEGATIVE_BUTTON_BACKGROUND = 1 << 7;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #positiveButtonBackgroundColor} has a value.
+     */
+    private static final int HAS_POSITIVE_BUTTON_BACKGROUND_COLOR = 1 << 8;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #negativeButtonBackgroundColor} has a value.
+     */
+    private static final int HAS_NEGATIVE_BUTTON_BACKGROUND_COLOR = 1 << 9;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #positiveButtonRippleColor} has a value.
+     */
+    private static final int HAS_POSITIVE_BUTTON_RIPPLE_COLOR = 1 << 10;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #negativeButtonRippleColor} has a value.
+     */
+    private static final int HAS_NEGATIVE_BUTTON_RIPPLE_COLOR = 1 << 11;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #positiveButtonCornerRadius} has a value.
+     */
+    private static final int HAS_POSITIVE_BUTTON_CORNER_RADIUS = 1 << 12;
+
+    /**
+     * Flag of {@link #assigned} set once {@link #negativeButtonCornerRadius} has a value.
+     */
+    private static final int HAS_NEGATIVE_BUTTON_CORNER_RADIUS = 1 << 13;
+
+    /**
+     * Flag of {@link #assigned} set once the four corner radii of the positive button have a value.
+     */
+    private static final int HAS_POSITIVE_BUTTON_CORNER_RADII = 1 << 14;
+
+    /**
+     * Flag of {@link #assigned} set once the four corner radii of the negative button have a value.
+     */
+    private static final int HAS_NEGATIVE_BUTTON_CORNER_RADII = 1 << 15;
+
     /**
      * The drawable resource ID of the icon displayed in the dialog.
      */
-    private Integer icon;
+    private int icon;
 
     /**
      * The color resource ID of the icon displayed in the dialog.
      */
-    private Integer iconColor;
+    private int iconColor;
 
     /**
      * The drawable resource ID of the background for the positive button.
      */
-    private Integer positiveButtonBackground;
+    private int positiveButtonBackground;
 
     /**
      * The drawable resource ID of the background for the negative button.
      */
-    private Integer negativeButtonBackground;
+    private int negativeButtonBackground;
 
     /**
      * The color resource ID of the background for the positive button.
      */
-    private Integer positiveButtonBackgroundColor;
+    private int positiveButtonBackgroundColor;
 
     /**
      * The color resource ID of the background for the negative button.
      */
-    private Integer negativeButtonBackgroundColor;
+    private int negativeButtonBackgroundColor;
 
     /**
      * The color resource ID of the ripple effect for the positive button.
      */
-    private Integer positiveButtonRippleColor;
+    private int positiveButtonRippleColor;
 
     /**
      * The color resource ID of the ripple effect for the negative button.
      */
-    private Integer negativeButtonRippleColor;
+    private int negativeButtonRippleColor;
 
     /**
      * The corner radius for the positive button.
      */
-    private Float positiveButtonCornerRadius;
+    private float positiveButtonCornerRadius;
 
     /**
      * The corner radius for the negative button.
      */
-    private Float negativeButtonCornerRadius;
+    private float negativeButtonCornerRadius;
 
     /**
      * The top left corner radius for the positive button.
      */
-    private Float positiveButtonTopLeftCornerRadius;
+    private float positiveButtonTopLeftCornerRadius;
 
     /**
      * The top right corner radius for the positive button.
      */
-    private Float positiveButtonTopRightCornerRadius;
+    private float positiveButtonTopRightCornerRadius;
 
     /**
      * The bottom left corner radius for the positive button.
      */
-    private Float positiveButtonBottomLeftCornerRadius;
+    private float positiveButtonBottomLeftCornerRadius;
 
     /**
      * The bottom right corner radius for the positive button.
      */
-    private Float positiveButtonBottomRightCornerRadius;
+    private float positiveButtonBottomRightCornerRadius;
 
     /**
      * The top left corner radius for the negative button.
      */
-    private Float negativeButtonTopLeftCornerRadius;
+    private float negativeButtonTopLeftCornerRadius;
 
     /**
      * The top right corner radius for the negative button.
      */
-    private Float negativeButtonTopRightCornerRadius;
+    private float negativeButtonTopRightCornerRadius;
 
     /**
      * The bottom left corner radius for the negative button.
      */
-    private Float negativeButtonBottomLeftCornerRadius;
+    private float negativeButtonBottomLeftCornerRadius;
 
     /**
      * The bottom right corner radius for the negative button.
      */
-    private Float negativeButtonBottomRightCornerRadius;
+    private float negativeButtonBottomRightCornerRadius;
+
+    /**
+     * The background drawable generated for the positive button.
+     */
+    private Drawable positiveButtonDrawable;
+
+    /**
+     * The background drawable generated for the negative button.
+     */
+    private Drawable negativeButtonDrawable;
 
     /**
      * Constructs a new {@link StandardDialog}.
@@ -158,29 +231,30 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
      * Initializes button corner radius.
      */
     private void init() {
-        if (this.positiveButtonCornerRadius != null) {
+        float defaultRadius = dimenToFloat(R.dimen.dp_5);
+        if (isAssigned(HAS_POSITIVE_BUTTON_CORNER_RADIUS)) {
             this.positiveButtonTopLeftCornerRadius = this.positiveButtonCornerRadius;
             this.positiveButtonTopRightCornerRadius = this.positiveButtonCornerRadius;
             this.positiveButtonBottomLeftCornerRadius = this.positiveButtonCornerRadius;
             this.positiveButtonBottomRightCornerRadius = this.positiveButtonCornerRadius;
         }
-        else {
-            this.positiveButtonTopLeftCornerRadius = this.positiveButtonTopLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.positiveButtonTopRightCornerRadius = this.positiveButtonTopRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.positiveButtonBottomLeftCornerRadius = this.positiveButtonBottomLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.positiveButtonBottomRightCornerRadius = this.positiveButtonBottomRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
+        else if (!isAssigned(HAS_POSITIVE_BUTTON_CORNER_RADII)) {
+            this.positiveButtonTopLeftCornerRadius = defaultRadius;
+            this.positiveButtonTopRightCornerRadius = defaultRadius;
+            this.positiveButtonBottomLeftCornerRadius = defaultRadius;
+            this.positiveButtonBottomRightCornerRadius = defaultRadius;
         }
-        if (this.negativeButtonCornerRadius != null) {
+        if (isAssigned(HAS_NEGATIVE_BUTTON_CORNER_RADIUS)) {
             this.negativeButtonTopLeftCornerRadius = this.negativeButtonCornerRadius;
             this.negativeButtonTopRightCornerRadius = this.negativeButtonCornerRadius;
             this.negativeButtonBottomLeftCornerRadius = this.negativeButtonCornerRadius;
             this.negativeButtonBottomRightCornerRadius = this.negativeButtonCornerRadius;
         }
-        else {
-            this.negativeButtonTopLeftCornerRadius = this.negativeButtonTopLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.negativeButtonTopRightCornerRadius = this.negativeButtonTopRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.negativeButtonBottomLeftCornerRadius = this.negativeButtonBottomLeftCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
-            this.negativeButtonBottomRightCornerRadius = this.negativeButtonBottomRightCornerRadius == null ? dimenToFloat(R.dimen.dp_5) : 0;
+        else if (!isAssigned(HAS_NEGATIVE_BUTTON_CORNER_RADII)) {
+            this.negativeButtonTopLeftCornerRadius = defaultRadius;
+            this.negativeButtonTopRightCornerRadius = defaultRadius;
+            this.negativeButtonBottomLeftCornerRadius = defaultRadius;
+            this.negativeButtonBottomRightCornerRadius = defaultRadius;
         }
     }
 
@@ -193,40 +267,20 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
     @Override
     public PopupDialog build(@NonNull StandardDialogActionListener listener) {
         super.build(listener);
-        init();
-        if (this.icon == null) throw new PopupDialogException("Standard popup dialog icon cannot be null.");
-        if (this.iconColor != null) binding.ivIcon.setColorFilter(ContextCompat.getColor(super.getContext(), iconColor), android.graphics.PorterDuff.Mode.SRC_IN);
+        if (isAssigned(HAS_ICON_COLOR)) binding.ivIcon.setColorFilter(resToColorInt(iconColor), android.graphics.PorterDuff.Mode.SRC_IN);
 
-        if (this.positiveButtonBackground != null) {
-            binding.btnPositive.setBackgroundResource(this.positiveButtonBackground);
+        if (isAssigned(HAS_POSITIVE_BUTTON_BACKGROUND)) {
+            binding.btnPositive.setBackground(resToDrawable(this.positiveButtonBackground));
         }
-        else if (this.positiveButtonBackgroundColor != null) {
-            GradientDrawable shape = getBackground(
-                    positiveButtonBackgroundColor,
-                    positiveButtonTopLeftCornerRadius,
-                    positiveButtonTopRightCornerRadius,
-                    positiveButtonBottomLeftCornerRadius,
-                    positiveButtonBottomRightCornerRadius
-            );
-
-            if (this.positiveButtonRippleColor != null) binding.btnPositive.setBackground(getRipple(shape, this.positiveButtonRippleColor));
-            else binding.btnPositive.setBackground(shape);
+        else if (this.positiveButtonDrawable != null) {
+            binding.btnPositive.setBackground(this.positiveButtonDrawable);
         }
 
-        if (this.negativeButtonBackground != null) {
-            binding.btnNegative.setBackgroundResource(this.negativeButtonBackground);
+        if (isAssigned(HAS_NEGATIVE_BUTTON_BACKGROUND)) {
+            binding.btnNegative.setBackground(resToDrawable(this.negativeButtonBackground));
         }
-        else if (this.negativeButtonBackgroundColor != null) {
-            GradientDrawable shape = getBackground(
-                    negativeButtonBackgroundColor,
-                    negativeButtonTopLeftCornerRadius,
-                    negativeButtonTopRightCornerRadius,
-                    negativeButtonBottomLeftCornerRadius,
-                    negativeButtonBottomRightCornerRadius
-            );
-
-            if (this.negativeButtonRippleColor != null) binding.btnNegative.setBackground(getRipple(shape, this.negativeButtonRippleColor));
-            else binding.btnNegative.setBackground(shape);
+        else if (this.negativeButtonDrawable != null) {
+            binding.btnNegative.setBackground(this.negativeButtonDrawable);
         }
 
         binding.btnPositive.setTypeface(super.buttonFont);
@@ -238,110 +292,259 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
         binding.tvHeading.setTextSize(super.headingFontSize);
         binding.tvDescription.setTextSize(super.descriptionFontSize);
 
-        if (super.background != null) {
-            binding.rootLayout.setBackgroundResource(super.background);
+        if (isAssigned(HAS_BACKGROUND)) {
+            binding.rootLayout.setBackground(resToDrawable(super.background));
         }
-        else if (super.backgroundColor != null) {
-            binding.rootLayout.setBackground(
-                    getBackground(
-                            super.backgroundColor,
-                            super.backgroundTopLeftCornerRadius,
-                            super.backgroundTopRightCornerRadius,
-                            super.backgroundBottomLeftCornerRadius,
-                            super.backgroundBottomRightCornerRadius
-                    )
-            );
+        else if (super.backgroundDrawable != null) {
+            binding.rootLayout.setBackground(super.backgroundDrawable);
         }
 
         binding.setDialog(super.getDialog());
         binding.setListener(listener);
 
-        super.setPositiveButtonTextColor(super.positiveButtonTextColor == null ? R.color.colorWhite : super.positiveButtonTextColor);
-        super.setNegativeButtonTextColor(super.negativeButtonTextColor == null ? R.color.colorBlack : super.negativeButtonTextColor);
-
-        binding.setItem(
-                new StandardDialogData(
-                        this.icon,
-                        super.heading,
-                        super.description,
-                        super.headingTextColor,
-                        super.descriptionTextColor,
-                        super.positiveButtonTextColor,
-                        super.negativeButtonTextColor,
-                        super.positiveButtonText,
-                        super.negativeButtonText
-                )
-        );
+        super.positiveButtonTextColor = super.positiveButtonTextColor == null ? DialogColor.ofResource(R.color.colorWhite) : super.positiveButtonTextColor;
+        super.negativeButtonTextColor = super.negativeButtonTextColor == null ? DialogColor.ofResource(R.color.colorBlack) : super.negativeButtonTextColor;
+
+        boolean traced = DialogTrace.begin(getClass(), DialogTrace.SET_ITEM);
+        try {
+            binding.setItem(
+                    new StandardDialogData(
+                            this.icon,
+                            super.heading,
+                            super.description,
+                            super.headingTextColor,
+                            super.descriptionTextColor,
+                            super.positiveButtonTextColor,
+                            super.negativeButtonTextColor,
+                            super.positiveButtonText,
+                            super.negativeButtonText
+                    )
+            );
+            executeBindings();
+        } finally {
+            DialogTrace.end(traced);
+        }
 
         return super.getPopupDialog();
     }
 
+    /**
+     * Checks that the heading, description and icon are set.
+     *
+     * @throws PopupDialogException if the heading, description or icon is null.
+     */
+    @Override
+    protected void validate() {
+        super.validate();
+        if (!isAssigned(HAS_ICON)) throw new PopupDialogException("Standard popup dialog icon cannot be null.");
+    }
+
+    /**
+     * Resolves the defaults of the base dialog, then the button corner radii and button backgrounds.
+     */
+    @Override
+    protected void prepare() {
+        super.prepare();
+        init();
+
+        if (!isAssigned(HAS_POSITIVE_BUTTON_BACKGROUND) && isAssigned(HAS_POSITIVE_BUTTON_BACKGROUND_COLOR)) {
+            this.positiveButtonDrawable = isAssigned(HAS_POSITIVE_BUTTON_RIPPLE_COLOR)
+                    ? getBackground(
+                            positiveButtonBackgroundColor,
+                            positiveButtonTopLeftCornerRadius,
+                            positiveButtonTopRightCornerRadius,
+                            positiveButtonBottomLeftCornerRadius,
+                            positiveButtonBottomRightCornerRadius,
+                            positiveButtonRippleColor
+                    )
+                    : getBackground(
+                            positiveButtonBackgroundColor,
+                            positiveButtonTopLeftCornerRadius,
+                            positiveButtonTopRightCornerRadius,
+                            positiveButtonBottomLeftCornerRadius,
+                            positiveButtonBottomRightCornerRadius
+                    );
+        }
+
+        if (!isAssigned(HAS_NEGATIVE_BUTTON_BACKGROUND) && isAssigned(HAS_NEGATIVE_BUTTON_BACKGROUND_COLOR)) {
+            this.negativeButtonDrawable = isAssigned(HAS_NEGATIVE_BUTTON_RIPPLE_COLOR)
+                    ? getBackground(
+                            negativeButtonBackgroundColor,
+                            negativeButtonTopLeftCornerRadius,
+                            negativeButtonTopRightCornerRadius,
+                            negativeButtonBottomLeftCornerRadius,
+                            negativeButtonBottomRightCornerRadius,
+                            negativeButtonRippleColor
+                    )
+                    : getBackground(
+                            negativeButtonBackgroundColor,
+                            negativeButtonTopLeftCornerRadius,
+                            negativeButtonTopRightCornerRadius,
+                            negativeButtonBottomLeftCornerRadius,
+                            negativeButtonBottomRightCornerRadius
+                    );
+        }
+    }
+
+    /**
+     * Restores the icon tint and the backgrounds of the buttons and the root layout to their layout defaults.
+     */
+    @Override
+    protected void resetBinding() {
+        binding.ivIcon.clearColorFilter();
+        binding.btnPositive.setBackgroundResource(R.drawable.ripple_bg_blue_10);
+        binding.btnNegative.setBackgroundResource(R.drawable.ripple_bg_light_grey_10);
+        binding.rootLayout.setBackgroundResource(R.drawable.bg_white_10);
+    }
+
+    /**
+     * Applies the action button background of a pre-resolved style to the positive button.
+     *
+     * @param style The style to apply.
+     */
+    @Override
+    protected void applyStyle(@NonNull PopupDialogStyle style) {
+        super.applyStyle(style);
+
+        Drawable styleActionButtonBackground = style.newActionButtonBackground();
+        if (styleActionButtonBackground != null) {
+            this.assigned &= ~(HAS_POSITIVE_BUTTON_BACKGROUND | HAS_POSITIVE_BUTTON_BACKGROUND_COLOR);
+            this.positiveButtonDrawable = styleActionButtonBackground;
+        }
+    }
+
     /**
      * Sets the icon for the {@link StandardDialog}.
      *
      * @param icon The drawable resource ID of the icon.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setIcon(@NonNull @DrawableRes Integer icon) {
+    public StandardDialog setIcon(@DrawableRes int icon) {
         this.icon = icon;
+        this.assigned |= HAS_ICON;
         return this;
     }
 
+    /**
+     * Sets the icon for the {@link StandardDialog}.
+     *
+     * @param icon The drawable resource ID of the icon.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setIcon(@NonNull @DrawableRes Integer icon) {
+        return setIcon(icon.intValue());
+    }
+
     /**
      * Sets the color of the icon for the {@link StandardDialog}.
      *
      * @param iconColor The color resource ID of the icon.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setIconColor(@NonNull @ColorRes Integer iconColor) {
+    public StandardDialog setIconColor(@ColorRes int iconColor) {
         this.iconColor = iconColor;
+        this.assigned |= HAS_ICON_COLOR;
         return this;
     }
 
+    /**
+     * Sets the color of the icon for the {@link StandardDialog}.
+     *
+     * @param iconColor The color resource ID of the icon.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setIconColor(@NonNull @ColorRes Integer iconColor) {
+        return setIconColor(iconColor.intValue());
+    }
+
     /**
      * Sets the background resource for the positive button of the {@link StandardDialog}.
      *
      * @param positiveButtonBackground The drawable resource ID of the positive button background.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setPositiveButtonBackground(@NonNull @DrawableRes Integer positiveButtonBackground) {
+    public StandardDialog setPositiveButtonBackground(@DrawableRes int positiveButtonBackground) {
         this.positiveButtonBackground = positiveButtonBackground;
+        this.assigned |= HAS_POSITIVE_BUTTON_BACKGROUND;
         return this;
     }
 
+    /**
+     * Sets the background resource for the positive button of the {@link StandardDialog}.
+     *
+     * @param positiveButtonBackground The drawable resource ID of the positive button background.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setPositiveButtonBackground(@NonNull @DrawableRes Integer positiveButtonBackground) {
+        return setPositiveButtonBackground(positiveButtonBackground.intValue());
+    }
+
     /**
      * Sets the background resource for the negative button of the {@link StandardDialog}.
      *
      * @param negativeButtonBackground The drawable resource ID of the negative button background.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setNegativeButtonBackground(@NonNull @DrawableRes Integer negativeButtonBackground) {
+    public StandardDialog setNegativeButtonBackground(@DrawableRes int negativeButtonBackground) {
         this.negativeButtonBackground = negativeButtonBackground;
+        this.assigned |= HAS_NEGATIVE_BUTTON_BACKGROUND;
         return this;
     }
 
+    /**
+     * Sets the background resource for the negative button of the {@link StandardDialog}.
+     *
+     * @param negativeButtonBackground The drawable resource ID of the negative button background.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonBackground(@NonNull @DrawableRes Integer negativeButtonBackground) {
+        return setNegativeButtonBackground(negativeButtonBackground.intValue());
+    }
+
     /**
      * Sets the corner radius for the positive button of the {@link StandardDialog}.
      *
      * @param positiveButtonCornerRadius The corner radius of the positive button.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setPositiveButtonCornerRadius(@NonNull Float positiveButtonCornerRadius) {
+    public StandardDialog setPositiveButtonCornerRadius(float positiveButtonCornerRadius) {
         this.positiveButtonCornerRadius = positiveButtonCornerRadius;
+        this.assigned |= HAS_POSITIVE_BUTTON_CORNER_RADIUS;
         return this;
     }
 
+    /**
+     * Sets the corner radius for the positive button of the {@link StandardDialog}.
+     *
+     * @param positiveButtonCornerRadius The corner radius of the positive button.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setPositiveButtonCornerRadius(@NonNull Float positiveButtonCornerRadius) {
+        return setPositiveButtonCornerRadius(positiveButtonCornerRadius.floatValue());
+    }
+
     /**
      * Sets the corner radius for the negative button of the {@link StandardDialog}.
      *
      * @param negativeButtonCornerRadius The corner radius of the negative button.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setNegativeButtonCornerRadius(@NonNull Float negativeButtonCornerRadius) {
+    public StandardDialog setNegativeButtonCornerRadius(float negativeButtonCornerRadius) {
         this.negativeButtonCornerRadius = negativeButtonCornerRadius;
+        this.assigned |= HAS_NEGATIVE_BUTTON_CORNER_RADIUS;
         return this;
     }
 
+    /**
+     * Sets the corner radius for the negative button of the {@link StandardDialog}.
+     *
+     * @param negativeButtonCornerRadius The corner radius of the negative button.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonCornerRadius(@NonNull Float negativeButtonCornerRadius) {
+        return setNegativeButtonCornerRadius(negativeButtonCornerRadius.floatValue());
+    }
+
     /**
      * Sets the corner radius for the positive button of the {@link StandardDialog} with individual values.
      *
@@ -352,21 +555,22 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
      * @return This {@link StandardDialog} instance.
      */
     public StandardDialog setPositiveButtonCornerRadius(
-            @NonNull Float topLeft,
-            @NonNull Float topRight,
-            @NonNull Float bottomLeft,
-            @NonNull Float bottomRight
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight
     ) {
         this.positiveButtonTopLeftCornerRadius = topLeft;
         this.positiveButtonTopRightCornerRadius = topRight;
         this.positiveButtonBottomLeftCornerRadius = bottomLeft;
         this.positiveButtonBottomRightCornerRadius = bottomRight;
+        this.assigned |= HAS_POSITIVE_BUTTON_CORNER_RADII;
 
         return this;
     }
 
     /**
-     * Sets the corner radius for the negative button of the {@link StandardDialog} with individual values.
+     * Sets the corner radius for the positive button of the {@link StandardDialog} with individual values.
      *
      * @param topLeft     The top left corner radius.
      * @param topRight    The top right corner radius.
@@ -374,50 +578,133 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
      * @param bottomRight The bottom right corner radius.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setNegativeButtonCornerRadius(
+    public StandardDialog setPositiveButtonCornerRadius(
             @NonNull Float topLeft,
             @NonNull Float topRight,
             @NonNull Float bottomLeft,
             @NonNull Float bottomRight
+    ) {
+        return setPositiveButtonCornerRadius(
+                topLeft.floatValue(),
+                topRight.floatValue(),
+                bottomLeft.floatValue(),
+                bottomRight.floatValue()
+        );
+    }
+
+    /**
+     * Sets the corner radius for the negative button of the {@link StandardDialog} with individual values.
+     *
+     * @param topLeft     The top left corner radius.
+     * @param topRight    The top right corner radius.
+     * @param bottomLeft  The bottom left corner radius.
+     * @param bottomRight The bottom right corner radius.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonCornerRadius(
+            float topLeft,
+            float topRight,
+            float bottomLeft,
+            float bottomRight
     ) {
         this.negativeButtonTopLeftCornerRadius = topLeft;
         this.negativeButtonTopRightCornerRadius = topRight;
         this.negativeButtonBottomLeftCornerRadius = bottomLeft;
         this.negativeButtonBottomRightCornerRadius = bottomRight;
+        this.assigned |= HAS_NEGATIVE_BUTTON_CORNER_RADII;
 
         return this;
     }
 
+    /**
+     * Sets the corner radius for the negative button of the {@link StandardDialog} with individual values.
+     *
+     * @param topLeft     The top left corner radius.
+     * @param topRight    The top right corner radius.
+     * @param bottomLeft  The bottom left corner radius.
+     * @param bottomRight The bottom right corner radius.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonCornerRadius(
+            @NonNull Float topLeft,
+            @NonNull Float topRight,
+            @NonNull Float bottomLeft,
+            @NonNull Float bottomRight
+    ) {
+        return setNegativeButtonCornerRadius(
+                topLeft.floatValue(),
+                topRight.floatValue(),
+                bottomLeft.floatValue(),
+                bottomRight.floatValue()
+        );
+    }
+
     /**
      * Sets the background color for the positive button of the {@link StandardDialog}.
      *
      * @param positiveButtonBackgroundColor The color resource ID of the positive button background.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setPositiveButtonBackgroundColor(@NonNull @ColorRes Integer positiveButtonBackgroundColor) {
+    public StandardDialog setPositiveButtonBackgroundColor(@ColorRes int positiveButtonBackgroundColor) {
         this.positiveButtonBackgroundColor = positiveButtonBackgroundColor;
+        this.assigned |= HAS_POSITIVE_BUTTON_BACKGROUND_COLOR;
         return this;
     }
 
+    /**
+     * Sets the background color for the positive button of the {@link StandardDialog}.
+     *
+     * @param positiveButtonBackgroundColor The color resource ID of the positive button background.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setPositiveButtonBackgroundColor(@NonNull @ColorRes Integer positiveButtonBackgroundColor) {
+        return setPositiveButtonBackgroundColor(positiveButtonBackgroundColor.intValue());
+    }
+
     /**
      * Sets the background color for the negative button of the {@link StandardDialog}.
      *
      * @param negativeButtonBackgroundColor The color resource ID of the negative button background.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setNegativeButtonBackgroundColor(@NonNull @ColorRes Integer negativeButtonBackgroundColor) {
+    public StandardDialog setNegativeButtonBackgroundColor(@ColorRes int negativeButtonBackgroundColor) {
         this.negativeButtonBackgroundColor = negativeButtonBackgroundColor;
+        this.assigned |= HAS_NEGATIVE_BUTTON_BACKGROUND_COLOR;
         return this;
     }
 
+    /**
+     * Sets the background color for the negative button of the {@link StandardDialog}.
+     *
+     * @param negativeButtonBackgroundColor The color resource ID of the negative button background.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonBackgroundColor(@NonNull @ColorRes Integer negativeButtonBackgroundColor) {
+        return setNegativeButtonBackgroundColor(negativeButtonBackgroundColor.intValue());
+    }
+
     /**
      * Sets the ripple color for the positive button of the {@link StandardDialog}.
      *
      * @param positiveButtonRippleColor The color resource ID of the positive button ripple effect.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setPositiveButtonRippleColor(Integer positiveButtonRippleColor) {
+    public StandardDialog setPositiveButtonRippleColor(@ColorRes int positiveButtonRippleColor) {
         this.positiveButtonRippleColor = positiveButtonRippleColor;
+        this.assigned |= HAS_POSITIVE_BUTTON_RIPPLE_COLOR;
+        return this;
+    }
+
+    /**
+     * Sets the ripple color for the positive button of the {@link StandardDialog}.
+     *
+     * @param positiveButtonRippleColor The color resource ID of the positive button ripple effect, or null for no ripple.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setPositiveButtonRippleColor(@Nullable @ColorRes Integer positiveButtonRippleColor) {
+        if (positiveButtonRippleColor != null) return setPositiveButtonRippleColor(positiveButtonRippleColor.intValue());
+
+        this.assigned &= ~HAS_POSITIVE_BUTTON_RIPPLE_COLOR;
         return this;
     }
 
@@ -427,8 +714,22 @@ public class StandardDialog extends BaseStandardDialog<StandardDialog, DialogSta
      * @param negativeButtonRippleColor The color resource ID of the negative button ripple effect.
      * @return This {@link StandardDialog} instance.
      */
-    public StandardDialog setNegativeButtonRippleColor(Integer negativeButtonRippleColor) {
+    public StandardDialog setNegativeButtonRippleColor(@ColorRes int negativeButtonRippleColor) {
         this.negativeButtonRippleColor = negativeButtonRippleColor;
+        this.assigned |= HAS_NEGATIVE_BUTTON_RIPPLE_COLOR;
+        return this;
+    }
+
+    /**
+     * Sets the ripple color for the negative button of the {@link StandardDialog}.
+     *
+     * @param negativeButtonRippleColor The color resource ID of the negative button ripple effect, or null for no ripple.
+     * @return This {@link StandardDialog} instance.
+     */
+    public StandardDialog setNegativeButtonRippleColor(@Nullable @ColorRes Integer negativeButtonRippleColor) {
+        if (negativeButtonRippleColor != null) return setNegativeButtonRippleColor(negativeButtonRippleColor.intValue());
+
+        this.assigned &= ~HAS_NEGATIVE_BUTTON_RIPPLE_COLOR;
         return this;
     }
 }
@@ -17,6 +17,7 @@
 package com.saadahmedev.popupdialog.dialog.status;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.RawRes;
 
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.R;
@@ -57,6 +58,17 @@ public class StatusDialog extends BaseStatusDialog<StatusDialog, DialogStandardB
         return new StatusDialog(popupDialog);
     }
 
+    /**
+     * Sets the Lottie animation resource for the dialog.
+     *
+     * @param lottieRaw The resource ID of the Lottie animation.
+     * @return The {@link StatusDialog} instance.
+     */
+    @Override
+    public StatusDialog setLottieIcon(@RawRes int lottieRaw) {
+        return super.setLottieIcon(lottieRaw);
+    }
+
     /**
      * Sets the Lottie animation resource for the dialog.
      *
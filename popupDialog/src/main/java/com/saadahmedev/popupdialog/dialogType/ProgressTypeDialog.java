@@ -20,12 +20,17 @@ import com.saadahmedev.popupdialog.dialog.progress.LottieDialog;
 import com.saadahmedev.popupdialog.PopupDialog;
 import com.saadahmedev.popupdialog.dialog.progress.ProgressDialog;
 import com.saadahmedev.popupdialog.base.BaseDialog;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
 
 /**
  * A dialog class representing a progress type dialog.
  * <p>
  * This dialog serves as a base class for creating different types of progress dialogs.
  * It provides methods to create instances of specific progress dialog types such as {@link ProgressDialog} and {@link LottieDialog}.
+ * <p>
+ * A show delay and a minimum visible time can be set for the dialogs shown with {@code showDelayed()}: the dialog is
+ * only built and shown once the operation it covers has lasted longer than the delay, and once shown it stays visible
+ * for at least the minimum time, so that short operations neither pay for a dialog nor make it flash.
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  * @see ProgressDialog
@@ -33,6 +38,16 @@ import com.saadahmedev.popupdialog.base.BaseDialog;
  */
 public class ProgressTypeDialog extends BaseDialog<ProgressTypeDialog> {
 
+    /**
+     * The delay before the dialog is built and shown, in milliseconds.
+     */
+    private long showDelay = 0;
+
+    /**
+     * The minimum time the dialog stays visible once shown, in milliseconds.
+     */
+    private long minimumVisibleTime = 0;
+
     /**
      * Constructs a new ProgressTypeDialog.
      *
@@ -52,6 +67,52 @@ public class ProgressTypeDialog extends BaseDialog<ProgressTypeDialog> {
         return new ProgressTypeDialog(popupDialog);
     }
 
+    /**
+     * Sets the delay before a dialog shown with {@code showDelayed()} is built and shown. If the dialog is dismissed
+     * before then, it is never inflated nor shown.
+     *
+     * @param milliseconds The delay in milliseconds, or 0 to show the dialog right away.
+     * @return The ProgressTypeDialog instance.
+     * @throws PopupDialogException if the delay is negative.
+     */
+    public ProgressTypeDialog setShowDelay(long milliseconds) {
+        if (milliseconds < 0) throw new PopupDialogException("Show delay must not be negative");
+        this.showDelay = milliseconds;
+        return this;
+    }
+
+    /**
+     * Sets the minimum time a dialog shown with {@code showDelayed()} stays visible once shown. Dismissing it
+     * earlier defers the dismissal until that time has elapsed.
+     *
+     * @param milliseconds The minimum visible time in milliseconds, or 0 to dismiss the dialog right away.
+     * @return The ProgressTypeDialog instance.
+     * @throws PopupDialogException if the time is negative.
+     */
+    public ProgressTypeDialog setMinimumVisibleTime(long milliseconds) {
+        if (milliseconds < 0) throw new PopupDialogException("Minimum visible time must not be negative");
+        this.minimumVisibleTime = milliseconds;
+        return this;
+    }
+
+    /**
+     * Gets the delay before a dialog shown with {@code showDelayed()} is built and shown.
+     *
+     * @return The delay in milliseconds.
+     */
+    public long getShowDelay() {
+        return this.showDelay;
+    }
+
+    /**
+     * Gets the minimum time a dialog shown with {@code showDelayed()} stays visible once shown.
+     *
+     * @return The minimum visible time in milliseconds.
+     */
+    public long getMinimumVisibleTime() {
+        return this.minimumVisibleTime;
+    }
+
     /**
      * Creates a new ProgressDialog instance.
      *
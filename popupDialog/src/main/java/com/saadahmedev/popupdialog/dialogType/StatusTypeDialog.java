@@ -28,6 +28,9 @@ import com.saadahmedev.popupdialog.dialog.status.WarningDialog;
  * <p>
  * This dialog serves as a base class for creating different types of status dialogs.
  * It provides methods to create instances of specific status dialog types such as {@link StatusDialog}, {@link SuccessDialog}, {@link WarningDialog}, and {@link ErrorDialog}.
+ * <p>
+ * Identical status dialogs are coalesced when they are built, before the {@link android.app.Dialog} of the
+ * {@link PopupDialog} is created, so {@code build()} may return the dialog already showing rather than a new one.
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  * @see StatusDialog
@@ -39,7 +39,7 @@ public class AlertDialogData extends BaseStandardDialogData {
      * @param positiveButtonText     The text for the positive button.
      * @param negativeButtonText     The text for the negative button.
      */
-    public AlertDialogData(String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer positiveButtonTextColor, Integer negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
+    public AlertDialogData(String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor positiveButtonTextColor, DialogColor negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
         super(heading, description, headingTextColor, descriptionTextColor, positiveButtonTextColor, negativeButtonTextColor, positiveButtonText, negativeButtonText);
     }
 }
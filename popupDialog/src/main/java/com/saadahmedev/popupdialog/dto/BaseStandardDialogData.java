@@ -33,16 +33,16 @@ public class BaseStandardDialogData {
     /** The description text of the dialog. */
     private final String description;
     /** The text color of the heading. */
-    private final Integer headingTextColor;
+    private final DialogColor headingTextColor;
 
     /** The text color of the description. */
-    private final Integer descriptionTextColor;
+    private final DialogColor descriptionTextColor;
 
     /** The text color of the positive button. */
-    private final Integer positiveButtonTextColor;
+    private final DialogColor positiveButtonTextColor;
 
     /** The text color of the negative button. */
-    private final Integer negativeButtonTextColor;
+    private final DialogColor negativeButtonTextColor;
 
     /** The text for the positive button. */
     private final String positiveButtonText;
@@ -62,7 +62,7 @@ public class BaseStandardDialogData {
      * @param positiveButtonText     The text for the positive button.
      * @param negativeButtonText     The text for the negative button.
      */
-    public BaseStandardDialogData(String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer positiveButtonTextColor, Integer negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
+    public BaseStandardDialogData(String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor positiveButtonTextColor, DialogColor negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
         this.heading = heading;
         this.description = description;
         this.headingTextColor = headingTextColor;
@@ -96,7 +96,7 @@ public class BaseStandardDialogData {
      *
      * @return The heading text color.
      */
-    public Integer getHeadingTextColor() {
+    public DialogColor getHeadingTextColor() {
         return headingTextColor;
     }
 
@@ -105,7 +105,7 @@ public class BaseStandardDialogData {
      *
      * @return The description text color.
      */
-    public Integer getDescriptionTextColor() {
+    public DialogColor getDescriptionTextColor() {
         return descriptionTextColor;
     }
 
@@ -114,7 +114,7 @@ public class BaseStandardDialogData {
      *
      * @return The positive button text color.
      */
-    public Integer getPositiveButtonTextColor() {
+    public DialogColor getPositiveButtonTextColor() {
         return positiveButtonTextColor;
     }
 
@@ -123,7 +123,7 @@ public class BaseStandardDialogData {
      *
      * @return The negative button text color.
      */
-    public Integer getNegativeButtonTextColor() {
+    public DialogColor getNegativeButtonTextColor() {
         return negativeButtonTextColor;
     }
 
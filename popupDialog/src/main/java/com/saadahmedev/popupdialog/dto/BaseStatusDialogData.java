@@ -16,6 +16,8 @@
 
 package com.saadahmedev.popupdialog.dto;
 
+import java.util.Objects;
+
 /**
  * Represents the base data for a status dialog.
  * <p>
@@ -40,17 +42,17 @@ public class BaseStatusDialogData {
     /**
      * The text color of the heading.
      */
-    private final Integer headingTextColor;
+    private final DialogColor headingTextColor;
 
     /**
      * The text color of the description.
      */
-    private final Integer descriptionTextColor;
+    private final DialogColor descriptionTextColor;
 
     /**
      * The text color of the action button.
      */
-    private final Integer actionButtonTextColor;
+    private final DialogColor actionButtonTextColor;
 
     /**
      * The text for the action button.
@@ -67,7 +69,7 @@ public class BaseStatusDialogData {
      * @param actionButtonTextColor The text color of the action button.
      * @param actionButtonText   The text for the action button.
      */
-    public BaseStatusDialogData(String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer actionButtonTextColor, String actionButtonText) {
+    public BaseStatusDialogData(String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor actionButtonTextColor, String actionButtonText) {
         this.heading = heading;
         this.description = description;
         this.headingTextColor = headingTextColor;
@@ -99,7 +101,7 @@ public class BaseStatusDialogData {
      *
      * @return The text color of the heading.
      */
-    public Integer getHeadingTextColor() {
+    public DialogColor getHeadingTextColor() {
         return headingTextColor;
     }
 
@@ -108,7 +110,7 @@ public class BaseStatusDialogData {
      *
      * @return The text color of the description.
      */
-    public Integer getDescriptionTextColor() {
+    public DialogColor getDescriptionTextColor() {
         return descriptionTextColor;
     }
 
@@ -117,7 +119,7 @@ public class BaseStatusDialogData {
      *
      * @return The text color of the action button.
      */
-    public Integer getActionButtonTextColor() {
+    public DialogColor getActionButtonTextColor() {
         return actionButtonTextColor;
     }
 
@@ -129,4 +131,22 @@ public class BaseStatusDialogData {
     public String getActionButtonText() {
         return actionButtonText;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BaseStatusDialogData that = (BaseStatusDialogData) o;
+        return Objects.equals(heading, that.heading)
+                && Objects.equals(description, that.description)
+                && Objects.equals(headingTextColor, that.headingTextColor)
+                && Objects.equals(descriptionTextColor, that.descriptionTextColor)
+                && Objects.equals(actionButtonTextColor, that.actionButtonTextColor)
+                && Objects.equals(actionButtonText, that.actionButtonText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(heading, description, headingTextColor, descriptionTextColor, actionButtonTextColor, actionButtonText);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.dto;
+
+import android.content.Context;
+
+import androidx.annotation.ColorInt;
+import androidx.annotation.ColorRes;
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.cache.ResourceCache;
+
+/**
+ * Represents a color used by a dialog, which is either a color resource ID or an already resolved color.
+ * <p>
+ * Carrying the kind of value along with it lets the binding adapters apply the color directly,
+ * instead of guessing whether an integer is a resource ID.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class DialogColor {
+
+    /** The color resource ID or the resolved ARGB color. */
+    private final int value;
+
+    /** Whether {@link #value} is a color resource ID. */
+    private final boolean resource;
+
+    /**
+     * Constructs a new DialogColor object.
+     *
+     * @param value    The color resource ID or the resolved ARGB color.
+     * @param resource Whether the value is a color resource ID.
+     */
+    private DialogColor(int value, boolean resource) {
+        this.value = value;
+        this.resource = resource;
+    }
+
+    /**
+     * Creates a color from a color resource ID.
+     *
+     * @param color The color resource ID.
+     * @return The DialogColor object.
+     */
+    @NonNull
+    public static DialogColor ofResource(@ColorRes int color) {
+        return new DialogColor(color, true);
+    }
+
+    /**
+     * Creates a color from a resolved ARGB color.
+     *
+     * @param color The ARGB color.
+     * @return The DialogColor object.
+     */
+    @NonNull
+    public static DialogColor ofColorInt(@ColorInt int color) {
+        return new DialogColor(color, false);
+    }
+
+    /**
+     * Checks whether the color is a color resource ID.
+     *
+     * @return True if the value is a color resource ID, false if it is a resolved ARGB color.
+     */
+    public boolean isResource() {
+        return resource;
+    }
+
+    /**
+     * Gets the raw value, either a color resource ID or an ARGB color depending on {@link #isResource()}.
+     *
+     * @return The raw value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Resolves the color to an ARGB color.
+     *
+     * @param context The context used to resolve a color resource, once per configuration.
+     * @return The ARGB color.
+     */
+    @ColorInt
+    public int resolve(@NonNull Context context) {
+        return resource ? ResourceCache.getInstance().getColor(context, value) : value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DialogColor)) return false;
+        DialogColor that = (DialogColor) o;
+        return value == that.value && resource == that.resource;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * value + (resource ? 1 : 0);
+    }
+}
@@ -39,7 +39,7 @@ public class IOSDialogData extends BaseStandardDialogData {
      * @param positiveButtonText     The text for the positive button.
      * @param negativeButtonText     The text for the negative button.
      */
-    public IOSDialogData(String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer positiveButtonTextColor, Integer negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
+    public IOSDialogData(String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor positiveButtonTextColor, DialogColor negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
         super(heading, description, headingTextColor, descriptionTextColor, positiveButtonTextColor, negativeButtonTextColor, positiveButtonText, negativeButtonText);
     }
 }
@@ -46,7 +46,7 @@ public class StandardDialogData extends BaseStandardDialogData {
      * @param positiveButtonText      The text for the positive button.
      * @param negativeButtonText      The text for the negative button.
      */
-    public StandardDialogData(Integer icon, String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer positiveButtonTextColor, Integer negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
+    public StandardDialogData(Integer icon, String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor positiveButtonTextColor, DialogColor negativeButtonTextColor, String positiveButtonText, String negativeButtonText) {
         super(heading, description, headingTextColor, descriptionTextColor, positiveButtonTextColor, negativeButtonTextColor, positiveButtonText, negativeButtonText);
         this.icon = icon;
     }
@@ -37,7 +37,7 @@ public class StatusDialogData extends BaseStatusDialogData {
      * @param actionButtonTextColor The text color of the action button.
      * @param actionButtonText   The text for the action button.
      */
-    public StatusDialogData(String heading, String description, Integer headingTextColor, Integer descriptionTextColor, Integer actionButtonTextColor, String actionButtonText) {
+    public StatusDialogData(String heading, String description, DialogColor headingTextColor, DialogColor descriptionTextColor, DialogColor actionButtonTextColor, String actionButtonText) {
         super(heading, description, headingTextColor, descriptionTextColor, actionButtonTextColor, actionButtonText);
     }
 }
@@ -35,4 +35,13 @@ public class PopupDialogException extends RuntimeException {
     public PopupDialogException(String message) {
         super(message);
     }
+
+    /**
+     * Constructs a new PopupDialogException wrapping the specified cause.
+     *
+     * @param cause the cause (which is saved for later retrieval by the Throwable.getCause() method).
+     */
+    public PopupDialogException(Throwable cause) {
+        super(cause);
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.listener;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Interface for receiving the failure of a dialog built asynchronously.
+ * <p>
+ * This interface defines a method called on the main thread when a dialog requested
+ * with {@code buildAsync} could not be built.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface OnDialogBuildFailedListener {
+
+    /**
+     * Called on the main thread when the dialog could not be built.
+     *
+     * @param throwable The failure of the build, such as a {@link com.saadahmedev.popupdialog.exception.PopupDialogException}.
+     */
+    void onDialogBuildFailed(@NonNull Throwable throwable);
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.listener;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+
+/**
+ * Interface for receiving a dialog built asynchronously.
+ * <p>
+ * This interface defines a method called on the main thread once a dialog requested
+ * with {@code buildAsync} is ready to be shown.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface OnDialogBuiltListener {
+
+    /**
+     * Called on the main thread when the dialog has been built.
+     *
+     * @param popupDialog The built dialog, ready to be shown.
+     */
+    void onDialogBuilt(PopupDialog popupDialog);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.listener;
+
+/**
+ * Interface for receiving the duplicates coalesced into a visible dialog.
+ * <p>
+ * This interface defines a method called on the main thread each time an identical dialog
+ * is dropped in favor of the one already showing or queued.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface OnDialogCoalescedListener {
+
+    /**
+     * Called on the main thread when an identical dialog has been dropped.
+     *
+     * @param count The number of occurrences of the dialog, including the visible one.
+     */
+    void onDialogCoalesced(int count);
+}
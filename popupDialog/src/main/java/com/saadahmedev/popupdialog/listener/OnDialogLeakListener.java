@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.listener;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+
+/**
+ * Interface for receiving the dialogs that survive their host.
+ * <p>
+ * This interface defines a method called on the main thread by the leak check of
+ * {@link com.saadahmedev.popupdialog.registry.PopupDialogRegistry} for each dialog still reachable
+ * some time after its host was destroyed and a garbage collection was requested.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface OnDialogLeakListener {
+
+    /**
+     * Called on the main thread when a dialog is still reachable after its host was destroyed.
+     *
+     * @param popupDialog The leaked dialog.
+     * @param host        The description of the destroyed host, such as the class name of the Activity.
+     */
+    void onDialogLeaked(@NonNull PopupDialog popupDialog, @NonNull String host);
+}
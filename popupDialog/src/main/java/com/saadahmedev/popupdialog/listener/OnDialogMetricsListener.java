@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.listener;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.metrics.DialogPhase;
+import com.saadahmedev.popupdialog.metrics.PopupDialogMetrics;
+
+/**
+ * Interface for receiving the duration of each phase of building and showing a dialog.
+ * <p>
+ * This interface defines a method called by {@link PopupDialogMetrics} on the thread that ran the phase,
+ * which is a background thread for phases of {@code buildAsync} run off the main thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface OnDialogMetricsListener {
+
+    /**
+     * Called when a phase of a dialog has completed.
+     *
+     * @param phase         The completed phase.
+     * @param dialogClass   The class of the builder of the dialog, such as {@code SuccessDialog}.
+     * @param layout        The layout resource ID of the dialog.
+     * @param durationNanos The duration of the phase, in nanoseconds.
+     */
+    void onDialogPhase(@NonNull DialogPhase phase, @NonNull Class<?> dialogClass, @LayoutRes int layout, long durationNanos);
+}
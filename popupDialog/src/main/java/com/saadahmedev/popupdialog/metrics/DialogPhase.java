@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.metrics;
+
+/**
+ * The phases of building and showing a dialog reported by {@link PopupDialogMetrics}.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public enum DialogPhase {
+
+    /**
+     * Inflating the layout, or binding a view inflated in the background, a pooled or a recycled binding.
+     */
+    INFLATE,
+
+    /**
+     * Resolving the defaults, fonts, Lottie compositions and generated drawables of the builder.
+     */
+    PREPARE,
+
+    /**
+     * Showing the dialog window with {@link android.app.Dialog#show()}.
+     */
+    SHOW,
+
+    /**
+     * From showing the dialog until its window is drawn for the first time.
+     */
+    FIRST_DRAW
+}
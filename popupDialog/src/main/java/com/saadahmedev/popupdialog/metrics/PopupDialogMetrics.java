@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.metrics;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.saadahmedev.popupdialog.listener.OnDialogMetricsListener;
+
+/**
+ * The process-wide hook receiving the duration of each {@link DialogPhase} of every dialog.
+ * <p>
+ * The library measures a phase by calling {@link #start()} before it and {@link #end(DialogPhase, Class, int, long)}
+ * after it. While no listener is installed, {@link #start()} returns {@link #NOT_STARTED} without reading the clock
+ * and {@link #end(DialogPhase, Class, int, long)} returns immediately, so the only cost is a volatile read per phase.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class PopupDialogMetrics {
+
+    /**
+     * The start time returned while no listener is installed.
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+
+    /**
+     * The installed listener, or null if none.
+     */
+    private static volatile OnDialogMetricsListener listener;
+
+    /**
+     * Not instantiable.
+     */
+    private PopupDialogMetrics() {
+    }
+
+    /**
+     * Installs the listener receiving the duration of each phase, replacing the current one.
+     *
+     * @param listener The listener, or null to stop measuring.
+     */
+    public static void setListener(@Nullable OnDialogMetricsListener listener) {
+        PopupDialogMetrics.listener = listener;
+    }
+
+    /**
+     * Checks whether a listener is installed.
+     *
+     * @return True if phases are being measured.
+     */
+    public static boolean isEnabled() {
+        return listener != null;
+    }
+
+    /**
+     * Gets the start time of a phase.
+     *
+     * @return The current time in nanoseconds, or {@link #NOT_STARTED} if no listener is installed.
+     */
+    public static long start() {
+        return listener != null ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Reports the end of a phase to the installed listener.
+     *
+     * @param phase       The completed phase.
+     * @param dialogClass The class of the builder of the dialog.
+     * @param layout      The layout resource ID of the dialog.
+     * @param start       The start time of the phase returned by {@link #start()}.
+     */
+    public static void end(@NonNull DialogPhase phase, @NonNull Class<?> dialogClass, @LayoutRes int layout, long start) {
+        if (start == NOT_STARTED) return;
+
+        OnDialogMetricsListener current = listener;
+        if (current != null) current.onDialogPhase(phase, dialogClass, layout, System.nanoTime() - start);
+    }
+}
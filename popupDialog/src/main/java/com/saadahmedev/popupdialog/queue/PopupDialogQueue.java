@@ -0,0 +1,359 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.queue;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+import com.saadahmedev.popupdialog.util.ActivityDestroyedCallbacks;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A per-Activity queue showing built dialogs one at a time, in order of priority.
+ * <p>
+ * Dialogs of the same priority are shown in the order they were enqueued. A dialog with a higher priority than
+ * the one showing preempts it: the showing dialog is hidden, without being dismissed, and goes back to the front
+ * of the queue to be shown again once the dialogs preempting it are dismissed. Hiding and showing again reuses
+ * the existing window, so preemption does not create a new window.
+ * <p>
+ * The queue keeps metrics of its depth and of the time dialogs wait before being shown. It is released, dismissing
+ * every dialog it holds, when its Activity is destroyed.
+ * <p>
+ * {@link #getInstance(Context)}, the setters and the metrics must be used from the main thread.
+ * {@link #enqueue(PopupDialog, int)} and {@link #clear()} can be called from any thread, as they post their work
+ * to the main thread, and {@link PopupDialog#enqueue(int)} resolves the queue there too.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see PopupDialog#enqueue(int)
+ */
+public class PopupDialogQueue {
+
+    /**
+     * Priority of dialogs that can wait, such as progress dialogs.
+     */
+    public static final int PRIORITY_LOW = 0;
+
+    /**
+     * Priority of regular dialogs.
+     */
+    public static final int PRIORITY_NORMAL = 1;
+
+    /**
+     * Priority of dialogs that must be shown first, such as error dialogs.
+     */
+    public static final int PRIORITY_HIGH = 2;
+
+    /**
+     * The queues of every live Activity.
+     */
+    private static final Map<Activity, PopupDialogQueue> QUEUES = new HashMap<>();
+
+    /**
+     * Whether the Activity lifecycle callbacks releasing the queues have been registered.
+     */
+    private static boolean lifecycleRegistered = false;
+
+    /**
+     * The dialogs waiting to be shown, highest priority first.
+     */
+    private final PriorityQueue<Entry> waiting = new PriorityQueue<>();
+
+    /**
+     * The dialog currently showing, if any.
+     */
+    private Entry current;
+
+    /**
+     * Whether a higher priority dialog hides the dialog showing.
+     */
+    private boolean preemptionEnabled = true;
+
+    /**
+     * The sequence number of the next enqueued dialog, keeping dialogs of the same priority in order.
+     */
+    private long sequence = 0;
+
+    /**
+     * The largest number of dialogs that have been waiting at the same time.
+     */
+    private int maxDepth = 0;
+
+    /**
+     * The number of dialogs shown for the first time.
+     */
+    private long shownCount = 0;
+
+    /**
+     * The number of times a showing dialog was preempted.
+     */
+    private long preemptionCount = 0;
+
+    /**
+     * The total time dialogs waited before being shown for the first time, in milliseconds.
+     */
+    private long totalWaitTime = 0;
+
+    /**
+     * The longest time a dialog waited before being shown for the first time, in milliseconds.
+     */
+    private long maxWaitTime = 0;
+
+    /**
+     * Not instantiable outside of {@link #getInstance(Context)}.
+     */
+    private PopupDialogQueue() {
+    }
+
+    /**
+     * Gets the queue of the Activity the context belongs to, creating it on first use. Must be called on the main thread.
+     *
+     * @param context The context of the Activity.
+     * @return The {@link PopupDialogQueue} of the Activity.
+     * @throws PopupDialogException if the context does not belong to an Activity.
+     */
+    @NonNull
+    public static PopupDialogQueue getInstance(@NonNull Context context) {
+        Activity activity = ContextUtil.findActivity(context);
+        if (activity == null) throw new PopupDialogException("Dialogs can only be queued with an Activity context");
+
+        PopupDialogQueue queue = QUEUES.get(activity);
+        if (queue == null) {
+            queue = new PopupDialogQueue();
+            QUEUES.put(activity, queue);
+            registerLifecycle(activity.getApplication());
+        }
+        return queue;
+    }
+
+    /**
+     * Sets whether a dialog with a higher priority hides the dialog showing. When disabled, a dialog only ever
+     * waits for the dialog showing to be dismissed.
+     *
+     * @param preemptionEnabled True to let higher priority dialogs preempt the dialog showing.
+     * @return The current instance of the {@link PopupDialogQueue}.
+     */
+    public PopupDialogQueue setPreemptionEnabled(boolean preemptionEnabled) {
+        this.preemptionEnabled = preemptionEnabled;
+        return this;
+    }
+
+    /**
+     * Adds a built dialog to the queue. It is shown right away if no dialog is showing, or if it preempts the
+     * dialog showing. A dialog already held by the queue is ignored. Can be called from any thread.
+     *
+     * @param popupDialog The built dialog.
+     * @param priority    The priority of the dialog, such as {@link #PRIORITY_NORMAL}.
+     */
+    public void enqueue(@NonNull PopupDialog popupDialog, int priority) {
+        DialogExecutors.runOnMainThread(() -> {
+            // A coalesced status dialog hands back a dialog that may already be queued
+            if (contains(popupDialog)) return;
+
+            Entry entry = new Entry(popupDialog, priority, sequence++, SystemClock.elapsedRealtime());
+            popupDialog.addOnDismissListener(dialogInterface -> onDismissed(entry));
+            waiting.add(entry);
+            maxDepth = Math.max(maxDepth, waiting.size());
+
+            if (current == null) {
+                showNext();
+            } else if (preemptionEnabled && priority > current.priority) {
+                preemptionCount++;
+                current.popupDialog.getDialog().hide();
+                waiting.add(current);
+                current = null;
+                showNext();
+            }
+        });
+    }
+
+    /**
+     * Dismisses the dialog showing and every dialog waiting.
+     */
+    public void clear() {
+        DialogExecutors.runOnMainThread(() -> {
+            // Dialog.dismiss() also dismisses the preempted dialogs, which are hidden rather than showing
+            for (Entry entry : new ArrayList<>(waiting)) entry.popupDialog.getDialog().dismiss();
+            waiting.clear();
+            if (current != null) current.popupDialog.getDialog().dismiss();
+        });
+    }
+
+    /**
+     * Gets the number of dialogs waiting to be shown, not counting the dialog showing.
+     *
+     * @return The queue depth.
+     */
+    public int getDepth() {
+        return waiting.size();
+    }
+
+    /**
+     * Gets the largest number of dialogs that have been waiting at the same time.
+     *
+     * @return The maximum queue depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Gets the number of dialogs shown for the first time.
+     *
+     * @return The shown count.
+     */
+    public long getShownCount() {
+        return shownCount;
+    }
+
+    /**
+     * Gets the number of times a showing dialog was preempted.
+     *
+     * @return The preemption count.
+     */
+    public long getPreemptionCount() {
+        return preemptionCount;
+    }
+
+    /**
+     * Gets the average time dialogs waited before being shown for the first time.
+     *
+     * @return The average wait time in milliseconds.
+     */
+    public long getAverageWaitTime() {
+        return shownCount == 0 ? 0 : totalWaitTime / shownCount;
+    }
+
+    /**
+     * Gets the longest time a dialog waited before being shown for the first time.
+     *
+     * @return The maximum wait time in milliseconds.
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    /**
+     * Checks whether a dialog is showing or waiting in the queue.
+     *
+     * @param popupDialog The dialog to look for.
+     * @return True if the dialog is held by the queue.
+     */
+    private boolean contains(@NonNull PopupDialog popupDialog) {
+        if (current != null && current.popupDialog == popupDialog) return true;
+        for (Entry entry : waiting) {
+            if (entry.popupDialog == popupDialog) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shows the waiting dialog with the highest priority, if any.
+     */
+    private void showNext() {
+        current = waiting.poll();
+        if (current == null) return;
+
+        if (current.shownAt == 0) {
+            current.shownAt = SystemClock.elapsedRealtime();
+            long waitTime = current.shownAt - current.enqueuedAt;
+            shownCount++;
+            totalWaitTime += waitTime;
+            maxWaitTime = Math.max(maxWaitTime, waitTime);
+            current.popupDialog.show();
+        } else {
+            current.popupDialog.getDialog().show();
+        }
+    }
+
+    /**
+     * Removes a dismissed dialog from the queue and shows the next one if it was showing.
+     *
+     * @param entry The entry of the dismissed dialog.
+     */
+    private void onDismissed(@NonNull Entry entry) {
+        if (entry == current) {
+            current = null;
+            showNext();
+        } else {
+            waiting.remove(entry);
+        }
+    }
+
+    /**
+     * Registers the callbacks dismissing the dialogs of an Activity once it is destroyed.
+     *
+     * @param application The application hosting the Activities.
+     */
+    private static void registerLifecycle(@NonNull Application application) {
+        if (lifecycleRegistered) return;
+        lifecycleRegistered = true;
+
+        application.registerActivityLifecycleCallbacks(new ActivityDestroyedCallbacks() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                PopupDialogQueue queue = QUEUES.remove(activity);
+                if (queue != null) queue.clear();
+            }
+        });
+    }
+
+    /**
+     * A dialog held by the queue.
+     */
+    private static final class Entry implements Comparable<Entry> {
+
+        /** The queued dialog. */
+        private final PopupDialog popupDialog;
+
+        /** The priority of the dialog. */
+        private final int priority;
+
+        /** The order in which the dialog was enqueued. */
+        private final long sequence;
+
+        /** When the dialog was enqueued, in milliseconds since boot. */
+        private final long enqueuedAt;
+
+        /** When the dialog was first shown, in milliseconds since boot, or 0 if it has not been shown yet. */
+        private long shownAt = 0;
+
+        private Entry(PopupDialog popupDialog, int priority, long sequence, long enqueuedAt) {
+            this.popupDialog = popupDialog;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (priority != other.priority) return Integer.compare(other.priority, priority);
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.queue;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.dto.BaseStatusDialogData;
+import com.saadahmedev.popupdialog.listener.OnDialogCoalescedListener;
+import com.saadahmedev.popupdialog.util.ActivityDestroyedCallbacks;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An opt-in layer dropping status dialogs identical to one already showing or queued.
+ * <p>
+ * Two status dialogs are identical when they belong to the same Activity, are of the same class and carry equal
+ * {@link BaseStatusDialogData}. The records of an Activity are dropped once it is destroyed.
+ * While coalescing is enabled, a status dialog built within the coalescing window of an identical dialog that has
+ * not been dismissed yet is dropped before its layout is inflated, and the builder returns the existing dialog
+ * instead. Each dropped duplicate restarts the window and increments the occurrence count of the existing dialog,
+ * which can be shown next to its heading as "&times;N".
+ * <p>
+ * The coalescer must only be used from the main thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class StatusDialogCoalescer {
+
+    /**
+     * The default coalescing window, in milliseconds.
+     */
+    private static final long DEFAULT_WINDOW = 2000L;
+
+    /**
+     * The single instance of the coalescer.
+     */
+    private static final StatusDialogCoalescer INSTANCE = new StatusDialogCoalescer();
+
+    /**
+     * The dialogs that have not been dismissed yet, keyed by content.
+     */
+    private final Map<Key, Record> records = new HashMap<>();
+
+    /**
+     * Whether the Activity lifecycle callbacks dropping the records of destroyed Activities have been registered.
+     */
+    private boolean lifecycleRegistered = false;
+
+    /**
+     * Whether duplicates are dropped.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long after the last occurrence of a dialog its duplicates are dropped, in milliseconds.
+     */
+    private long window = DEFAULT_WINDOW;
+
+    /**
+     * Whether the occurrence count is shown next to the heading of the visible dialog.
+     */
+    private boolean showCount = false;
+
+    /**
+     * The number of duplicates dropped.
+     */
+    private long droppedCount = 0;
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private StatusDialogCoalescer() {
+    }
+
+    /**
+     * Gets the process-wide instance of the coalescer.
+     *
+     * @return The {@link StatusDialogCoalescer} instance.
+     */
+    @NonNull
+    public static StatusDialogCoalescer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets whether duplicates are dropped.
+     *
+     * @param enabled True to enable coalescing.
+     * @return The current instance of the {@link StatusDialogCoalescer}.
+     */
+    public StatusDialogCoalescer setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) this.records.clear();
+        return this;
+    }
+
+    /**
+     * Sets how long after the last occurrence of a dialog its duplicates are dropped.
+     *
+     * @param milliseconds The coalescing window in milliseconds.
+     * @return The current instance of the {@link StatusDialogCoalescer}.
+     */
+    public StatusDialogCoalescer setWindow(long milliseconds) {
+        this.window = milliseconds;
+        return this;
+    }
+
+    /**
+     * Sets whether the occurrence count is shown next to the heading of the visible dialog, as "&times;N".
+     *
+     * @param showCount True to show the occurrence count.
+     * @return The current instance of the {@link StatusDialogCoalescer}.
+     */
+    public StatusDialogCoalescer setShowCount(boolean showCount) {
+        this.showCount = showCount;
+        return this;
+    }
+
+    /**
+     * Checks whether duplicates are dropped.
+     *
+     * @return True if coalescing is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Checks whether the occurrence count is shown next to the heading of the visible dialog.
+     *
+     * @return True if the occurrence count is shown.
+     */
+    public boolean isShowCount() {
+        return showCount;
+    }
+
+    /**
+     * Gets the number of duplicates dropped.
+     *
+     * @return The dropped count.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Looks for a dialog identical to the one about to be built. If one is found within the coalescing window,
+     * the new dialog is counted as one of its occurrences and must be dropped.
+     *
+     * @param context     The context of the status dialog.
+     * @param dialogClass The class of the status dialog.
+     * @param data        The content of the status dialog.
+     * @return The identical dialog to use instead, or null if the dialog must be built.
+     */
+    @Nullable
+    public PopupDialog coalesce(@NonNull Context context, @NonNull Class<?> dialogClass, @NonNull BaseStatusDialogData data) {
+        if (!enabled) return null;
+
+        Record record = records.get(new Key(hostOf(context), dialogClass, data));
+        long now = SystemClock.elapsedRealtime();
+        if (record == null || now - record.lastSeen > window) return null;
+
+        record.lastSeen = now;
+        record.count++;
+        droppedCount++;
+        if (record.listener != null) record.listener.onDialogCoalesced(record.count);
+        return record.popupDialog;
+    }
+
+    /**
+     * Registers a built status dialog, so that its duplicates are dropped until it is dismissed.
+     *
+     * @param dialogClass The class of the status dialog.
+     * @param data        The content of the status dialog.
+     * @param popupDialog The built dialog.
+     * @param listener    Notified of each dropped duplicate, or null.
+     */
+    public void register(
+            @NonNull Class<?> dialogClass,
+            @NonNull BaseStatusDialogData data,
+            @NonNull PopupDialog popupDialog,
+            @Nullable OnDialogCoalescedListener listener
+    ) {
+        if (!enabled) return;
+
+        // A dialog built again replaces its previous content, and its previous record with it
+        Iterator<Record> iterator = records.values().iterator();
+        while (iterator.hasNext()) {
+            Record previous = iterator.next();
+            if (previous.popupDialog != popupDialog) continue;
+            iterator.remove();
+            popupDialog.removeOnDismissListener(previous.dismissListener);
+        }
+
+        Object host = hostOf(popupDialog.getContext());
+        if (host instanceof Activity) registerLifecycle(((Activity) host).getApplication());
+
+        Key key = new Key(host, dialogClass, data);
+        Record record = new Record(popupDialog, listener, SystemClock.elapsedRealtime());
+        record.dismissListener = dialogInterface -> {
+            popupDialog.removeOnDismissListener(record.dismissListener);
+            if (records.get(key) == record) records.remove(key);
+        };
+        records.put(key, record);
+        popupDialog.addOnDismissListener(record.dismissListener);
+    }
+
+    /**
+     * Gets the host a status dialog is coalesced within.
+     *
+     * @param context The context of the status dialog.
+     * @return The Activity of the context, or the application context if it does not belong to an Activity.
+     */
+    @NonNull
+    private static Object hostOf(@NonNull Context context) {
+        Activity activity = ContextUtil.findActivity(context);
+        return activity != null ? activity : context.getApplicationContext();
+    }
+
+    /**
+     * Registers the callbacks dropping the records of an Activity once it is destroyed.
+     *
+     * @param application The application hosting the Activities.
+     */
+    private void registerLifecycle(@NonNull Application application) {
+        if (lifecycleRegistered) return;
+        lifecycleRegistered = true;
+
+        application.registerActivityLifecycleCallbacks(new ActivityDestroyedCallbacks() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                Iterator<Map.Entry<Key, Record>> iterator = records.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<Key, Record> entry = iterator.next();
+                    if (entry.getKey().host != activity) continue;
+                    iterator.remove();
+                    Record record = entry.getValue();
+                    record.popupDialog.removeOnDismissListener(record.dismissListener);
+                }
+            }
+        });
+    }
+
+    /**
+     * The content identifying a status dialog.
+     */
+    private static final class Key {
+
+        /** The Activity of the status dialog, or the application context. */
+        private final Object host;
+
+        /** The class of the status dialog. */
+        private final Class<?> dialogClass;
+
+        /** The content of the status dialog. */
+        private final BaseStatusDialogData data;
+
+        private Key(Object host, Class<?> dialogClass, BaseStatusDialogData data) {
+            this.host = host;
+            this.dialogClass = dialogClass;
+            this.data = data;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return host == that.host && dialogClass == that.dialogClass && data.equals(that.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(host) + dialogClass.hashCode()) + data.hashCode();
+        }
+    }
+
+    /**
+     * A dialog whose duplicates are dropped.
+     */
+    private static final class Record {
+
+        /** The dialog shown or queued. */
+        private final PopupDialog popupDialog;
+
+        /** Notified of each dropped duplicate. */
+        private final OnDialogCoalescedListener listener;
+
+        /** When the dialog or its last duplicate was built, in milliseconds since boot. */
+        private long lastSeen;
+
+        /** The number of occurrences of the dialog. */
+        private int count = 1;
+
+        /** Removes the record once the dialog is dismissed. */
+        private DialogInterface.OnDismissListener dismissListener;
+
+        private Record(PopupDialog popupDialog, OnDialogCoalescedListener listener, long lastSeen) {
+            this.popupDialog = popupDialog;
+            this.listener = listener;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.registry;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+import com.saadahmedev.popupdialog.PopupDialog;
+import com.saadahmedev.popupdialog.async.DialogExecutors;
+import com.saadahmedev.popupdialog.async.DialogTimerWheel;
+import com.saadahmedev.popupdialog.listener.OnDialogLeakListener;
+import com.saadahmedev.popupdialog.util.ActivityDestroyedCallbacks;
+import com.saadahmedev.popupdialog.util.ContextUtil;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds every dialog to the lifecycle of its host, and releases it once the host is destroyed.
+ * <p>
+ * Each {@link PopupDialog} registers itself with the Activity of its context when it is created, and can be bound to
+ * a narrower {@link LifecycleOwner}, such as a Fragment, with {@link #register(PopupDialog, LifecycleOwner)}. When the
+ * host reaches {@link Lifecycle.Event#ON_DESTROY}, or its Activity is destroyed if it is not a {@link LifecycleOwner},
+ * its dialogs are dismissed and {@link PopupDialog#release() released}: their timeouts are cancelled, their listeners
+ * and binding variables dropped and their Lottie animations stopped. The registry only keeps weak references to
+ * the dialogs, so a dialog dismissed and no longer referenced by the app is not kept until its host is destroyed.
+ * Work scheduled before its dialog exists, such as a delayed show, is cancelled through
+ * {@link #addReleaseAction(Context, Runnable)}.
+ * <p>
+ * A debug leak check can be enabled with {@link #setOnDialogLeakListener(OnDialogLeakListener)}. Some time after a
+ * host is destroyed, a garbage collection is requested and every dialog of that host still reachable is reported,
+ * as it keeps the destroyed Activity alive through its window. It is meant for debug builds only.
+ * <p>
+ * The registry must only be used from the main thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see OnDialogLeakListener
+ */
+public final class PopupDialogRegistry {
+
+    /**
+     * How long after a host is destroyed its dialogs are checked for leaks, in milliseconds.
+     */
+    public static final long LEAK_CHECK_DELAY = 5000L;
+
+    /**
+     * The single instance of the registry.
+     */
+    private static final PopupDialogRegistry INSTANCE = new PopupDialogRegistry();
+
+    /**
+     * The live hosts, keyed by their {@link LifecycleOwner}, or by their Activity if it is not one.
+     */
+    private final Map<Object, Host> hosts = new HashMap<>();
+
+    /**
+     * Whether the Activity lifecycle callbacks releasing the hosts that are not a {@link LifecycleOwner} have been registered.
+     */
+    private boolean lifecycleRegistered = false;
+
+    /**
+     * The listener receiving the leaked dialogs, or null if the leak check is disabled.
+     */
+    private OnDialogLeakListener leakListener;
+
+    /**
+     * The number of dialogs released because their host was destroyed.
+     */
+    private long releasedCount = 0;
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private PopupDialogRegistry() {
+    }
+
+    /**
+     * Gets the process-wide instance of the registry.
+     *
+     * @return The {@link PopupDialogRegistry} instance.
+     */
+    @NonNull
+    public static PopupDialogRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers a dialog with the Activity of its context. Dialogs whose context does not belong to an Activity are
+     * not registered. It is called by every {@link PopupDialog} when it is created.
+     *
+     * @param popupDialog The dialog to register.
+     */
+    public void register(@NonNull PopupDialog popupDialog) {
+        Activity activity = ContextUtil.findActivity(popupDialog.getContext());
+        if (activity == null) return;
+
+        Host host = obtainHost(activity);
+        if (host != null) host.add(popupDialog);
+    }
+
+    /**
+     * Registers a dialog with a lifecycle owner, such as a Fragment or an Activity, so that it is released once the
+     * owner is destroyed. Nothing is registered if the owner is already destroyed.
+     *
+     * @param popupDialog The dialog to register.
+     * @param owner       The host of the dialog.
+     */
+    public void register(@NonNull PopupDialog popupDialog, @NonNull LifecycleOwner owner) {
+        Host host = obtainHost(owner);
+        if (host != null) host.add(popupDialog);
+    }
+
+    /**
+     * Adds an action run once the Activity of a context is destroyed, before its dialogs are released. It is used by
+     * work scheduled for a dialog that does not exist yet, such as the delayed show of a progress dialog.
+     *
+     * @param context Any context belonging to the Activity.
+     * @param action  The action to run.
+     * @return True if the action was added, false if the context does not belong to a live Activity.
+     */
+    public boolean addReleaseAction(@NonNull Context context, @NonNull Runnable action) {
+        Activity activity = ContextUtil.findActivity(context);
+        Host host = activity == null ? null : obtainHost(activity);
+        if (host == null) return false;
+
+        host.releaseActions.add(action);
+        return true;
+    }
+
+    /**
+     * Removes an action added with {@link #addReleaseAction(Context, Runnable)}, once it is no longer needed.
+     *
+     * @param context Any context belonging to the Activity.
+     * @param action  The action to remove.
+     */
+    public void removeReleaseAction(@NonNull Context context, @NonNull Runnable action) {
+        Activity activity = ContextUtil.findActivity(context);
+        Host host = activity == null ? null : this.hosts.get(activity);
+        if (host != null) host.releaseActions.remove(action);
+    }
+
+    /**
+     * Gets the host of an Activity, creating it if needed.
+     *
+     * @param activity The Activity.
+     * @return The host, or null if the Activity is already destroyed.
+     */
+    @Nullable
+    private Host obtainHost(@NonNull Activity activity) {
+        if (activity instanceof LifecycleOwner) return obtainHost((LifecycleOwner) activity);
+        if (activity.isDestroyed()) return null;
+
+        Host host = this.hosts.get(activity);
+        if (host == null) {
+            host = new Host(activity, activity.getClass().getName());
+            this.hosts.put(activity, host);
+            registerLifecycle(activity.getApplication());
+        }
+        return host;
+    }
+
+    /**
+     * Gets the host of a lifecycle owner, creating it if needed.
+     *
+     * @param owner The lifecycle owner.
+     * @return The host, or null if the owner is already destroyed.
+     */
+    @Nullable
+    private Host obtainHost(@NonNull LifecycleOwner owner) {
+        Lifecycle lifecycle = owner.getLifecycle();
+        if (lifecycle.getCurrentState() == Lifecycle.State.DESTROYED) return null;
+
+        Host host = this.hosts.get(owner);
+        if (host == null) {
+            host = new Host(owner, owner.getClass().getName());
+            this.hosts.put(owner, host);
+            lifecycle.addObserver(host);
+        }
+        return host;
+    }
+
+    /**
+     * Gets the number of registered dialogs of a host that are still reachable.
+     *
+     * @param host The {@link LifecycleOwner} or the Activity hosting the dialogs.
+     * @return The number of dialogs.
+     */
+    public int getDialogCount(@NonNull Object host) {
+        Host entry = this.hosts.get(host);
+        if (entry == null) return 0;
+        entry.prune();
+        return entry.dialogs.size();
+    }
+
+    /**
+     * Gets the number of dialogs released because their host was destroyed.
+     *
+     * @return The released count.
+     */
+    public long getReleasedCount() {
+        return this.releasedCount;
+    }
+
+    /**
+     * Sets the listener receiving the dialogs still reachable {@link #LEAK_CHECK_DELAY} milliseconds after their
+     * host was destroyed. The check requests a garbage collection, so it should only be enabled in debug builds.
+     *
+     * @param listener The listener, or null to disable the leak check.
+     * @return The current instance of the {@link PopupDialogRegistry}.
+     */
+    public PopupDialogRegistry setOnDialogLeakListener(@Nullable OnDialogLeakListener listener) {
+        this.leakListener = listener;
+        return this;
+    }
+
+    /**
+     * Runs the release actions of a destroyed host, dismisses and releases every dialog of the host, and schedules
+     * the leak check of those dialogs.
+     *
+     * @param key The key of the host.
+     */
+    private void release(@NonNull Object key) {
+        Host host = this.hosts.remove(key);
+        if (host == null) return;
+
+        for (Runnable action : new ArrayList<>(host.releaseActions)) {
+            action.run();
+        }
+        host.releaseActions.clear();
+
+        host.prune();
+        for (WeakReference<PopupDialog> reference : host.dialogs) {
+            PopupDialog popupDialog = reference.get();
+            if (popupDialog == null) continue;
+            popupDialog.release();
+            this.releasedCount++;
+        }
+
+        OnDialogLeakListener listener = this.leakListener;
+        if (listener != null && !host.dialogs.isEmpty()) {
+            // Only keep the weak references, the host itself holds the destroyed Activity
+            List<WeakReference<PopupDialog>> dialogs = host.dialogs;
+            String name = host.name;
+            DialogTimerWheel.getInstance().schedule(LEAK_CHECK_DELAY, () -> checkLeaks(dialogs, name, listener));
+        }
+    }
+
+    /**
+     * Requests a garbage collection on the background executor, so that it does not block the main thread, and
+     * reports the dialogs of a destroyed host that are still reachable on the main thread.
+     *
+     * @param dialogs  The dialogs of the destroyed host.
+     * @param name     The description of the destroyed host.
+     * @param listener The listener receiving the leaked dialogs.
+     */
+    private static void checkLeaks(@NonNull List<WeakReference<PopupDialog>> dialogs, @NonNull String name, @NonNull OnDialogLeakListener listener) {
+        DialogExecutors.getBackgroundExecutor().execute(() -> {
+            Runtime.getRuntime().gc();
+            System.runFinalization();
+            Runtime.getRuntime().gc();
+
+            DialogExecutors.postToMainThread(() -> {
+                for (WeakReference<PopupDialog> reference : dialogs) {
+                    PopupDialog popupDialog = reference.get();
+                    if (popupDialog != null) listener.onDialogLeaked(popupDialog, name);
+                }
+            });
+        });
+    }
+
+    /**
+     * Registers the callbacks releasing the dialogs of the Activities that are not a {@link LifecycleOwner}.
+     *
+     * @param application The application hosting the Activities.
+     */
+    private void registerLifecycle(@NonNull Application application) {
+        if (this.lifecycleRegistered) return;
+        this.lifecycleRegistered = true;
+
+        application.registerActivityLifecycleCallbacks(new ActivityDestroyedCallbacks() {
+            @Override
+            public void onActivityDestroyed(@NonNull Activity activity) {
+                if (!(activity instanceof LifecycleOwner)) release(activity);
+            }
+        });
+    }
+
+    /**
+     * The dialogs of a host.
+     */
+    private final class Host implements LifecycleEventObserver {
+
+        /** The key of the host in {@link #hosts}. */
+        private final Object key;
+
+        /** The description of the host reported by the leak check. */
+        private final String name;
+
+        /** The registered dialogs. */
+        private final List<WeakReference<PopupDialog>> dialogs = new ArrayList<>();
+
+        /** The actions run once the host is destroyed. */
+        private final List<Runnable> releaseActions = new ArrayList<>();
+
+        private Host(@NonNull Object key, @NonNull String name) {
+            this.key = key;
+            this.name = name;
+        }
+
+        /**
+         * Adds a dialog, unless it is already registered, and drops the dialogs no longer reachable.
+         *
+         * @param popupDialog The dialog to add.
+         */
+        private void add(@NonNull PopupDialog popupDialog) {
+            prune();
+            for (WeakReference<PopupDialog> reference : this.dialogs) {
+                if (reference.get() == popupDialog) return;
+            }
+            this.dialogs.add(new WeakReference<>(popupDialog));
+        }
+
+        /**
+         * Drops the dialogs that have been garbage collected.
+         */
+        private void prune() {
+            Iterator<WeakReference<PopupDialog>> iterator = this.dialogs.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().get() == null) iterator.remove();
+            }
+        }
+
+        @Override
+        public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+            if (event != Lifecycle.Event.ON_DESTROY) return;
+            source.getLifecycle().removeObserver(this);
+            release(this.key);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.render;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.constraintlayout.widget.ConstraintLayout;
+
+/**
+ * A {@link ConstraintLayout} that stacks its children vertically, each centered horizontally, without running the
+ * constraint solver.
+ * <p>
+ * It replaces the roots of the standard and status layouts, whose children are all constrained to the start and the
+ * end of the parent and below each other. It extends {@link ConstraintLayout} only so that the generated binding
+ * classes, which declare their root as one, accept it; none of the constraints of its layout params are read.
+ * Like the fixed 300dp width of the XML layouts, the minimum width, padding included, is also the width the layout
+ * takes when it is not given an exact one.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see ViewTreeFactory
+ */
+final class ColumnLayout extends ConstraintLayout {
+
+    /**
+     * Constructs a new {@link ColumnLayout}.
+     *
+     * @param context The context used to create the layout.
+     */
+    ColumnLayout(@NonNull Context context) {
+        super(context);
+    }
+
+    /**
+     * Measures the layout at its minimum width, bounded by the parent, and the children below each other.
+     *
+     * @param widthMeasureSpec  The horizontal space requirements imposed by the parent.
+     * @param heightMeasureSpec The vertical space requirements imposed by the parent.
+     */
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = getMinimumWidth();
+        int widthMode = MeasureSpec.getMode(widthMeasureSpec);
+        int widthSize = MeasureSpec.getSize(widthMeasureSpec);
+        if (widthMode == MeasureSpec.EXACTLY) width = widthSize;
+        else if (widthMode == MeasureSpec.AT_MOST) width = Math.min(width, widthSize);
+
+        int childWidthSpec = MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY);
+        int height = getPaddingTop() + getPaddingBottom();
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child.getVisibility() == GONE) continue;
+
+            measureChildWithMargins(child, childWidthSpec, 0, heightMeasureSpec, height);
+            MarginLayoutParams params = (MarginLayoutParams) child.getLayoutParams();
+            height += params.topMargin + child.getMeasuredHeight() + params.bottomMargin;
+        }
+
+        setMeasuredDimension(width, resolveSize(Math.max(height, getSuggestedMinimumHeight()), heightMeasureSpec));
+    }
+
+    /**
+     * Places the children below each other, each centered horizontally between the paddings.
+     *
+     * @param changed Whether this view has a new size or position.
+     * @param left    The left position, relative to the parent.
+     * @param top     The top position, relative to the parent.
+     * @param right   The right position, relative to the parent.
+     * @param bottom  The bottom position, relative to the parent.
+     */
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        int start = getPaddingLeft();
+        int available = right - left - getPaddingLeft() - getPaddingRight();
+        int y = getPaddingTop();
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child.getVisibility() == GONE) continue;
+
+            MarginLayoutParams params = (MarginLayoutParams) child.getLayoutParams();
+            int childWidth = child.getMeasuredWidth();
+            int childHeight = child.getMeasuredHeight();
+            int x = start + params.leftMargin
+                    + (available - params.leftMargin - params.rightMargin - childWidth) / 2;
+            y += params.topMargin;
+            child.layout(x, y, x + childWidth, y + childHeight);
+            y += childHeight + params.bottomMargin;
+        }
+    }
+}
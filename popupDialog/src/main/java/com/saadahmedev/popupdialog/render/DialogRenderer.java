@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.render;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Chooses how the view tree of a dialog is created before it is bound to its generated binding class.
+ * <p>
+ * {@link #XML} inflates the layout resource. {@link #PROGRAMMATIC} builds the standard, status, progress and Lottie
+ * view trees directly in code with {@link android.widget.LinearLayout}s, skipping the XML parsing, the reflective
+ * view construction of the inflater and the {@code ConstraintLayout} solve of the XML layouts. The views carry the
+ * same IDs and binding tags as the inflated ones, so the builders, their binding classes and their public API are
+ * the same with either renderer. The other layouts are always inflated.
+ * <p>
+ * Every dialog uses the renderer returned by {@link #getDefault()}, which is {@link #XML} unless changed.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see ViewTreeFactory
+ */
+public enum DialogRenderer {
+
+    /**
+     * Inflates the layout resources.
+     */
+    XML,
+
+    /**
+     * Builds the view trees in code when {@link ViewTreeFactory} knows the layout, and inflates it otherwise.
+     */
+    PROGRAMMATIC;
+
+    /**
+     * The renderer used by every dialog.
+     */
+    private static volatile DialogRenderer defaultRenderer = XML;
+
+    /**
+     * Gets the renderer used by every dialog.
+     *
+     * @return The default {@link DialogRenderer}.
+     */
+    @NonNull
+    public static DialogRenderer getDefault() {
+        return defaultRenderer;
+    }
+
+    /**
+     * Sets the renderer used by every dialog built afterwards. Bindings already pooled or recycled keep the views
+     * they were created with.
+     *
+     * @param renderer The renderer, or null to restore {@link #XML}.
+     */
+    public static void setDefault(@Nullable DialogRenderer renderer) {
+        defaultRenderer = renderer != null ? renderer : XML;
+    }
+
+    /**
+     * Creates the unattached root view of a layout, ready to be bound with
+     * {@link androidx.databinding.DataBindingUtil#bind(View)}. It may be called on a background thread.
+     *
+     * @param context The context used to create the views.
+     * @param layout  The layout resource ID.
+     * @return The root view of the layout.
+     */
+    @NonNull
+    public View createView(@NonNull Context context, @LayoutRes int layout) {
+        if (this == PROGRAMMATIC) {
+            View root = ViewTreeFactory.create(context, layout);
+            if (root != null) return root;
+        }
+        return LayoutInflater.from(context).inflate(layout, null, false);
+    }
+}
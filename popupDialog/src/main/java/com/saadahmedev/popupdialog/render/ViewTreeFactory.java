@@ -0,0 +1,312 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.render;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.util.TypedValue;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.ProgressBar;
+import android.widget.TextView;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.FontRes;
+import androidx.annotation.IdRes;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.constraintlayout.widget.ConstraintLayout;
+
+import com.airbnb.lottie.LottieAnimationView;
+import com.airbnb.lottie.LottieDrawable;
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.cache.ResourceCache;
+
+/**
+ * Builds the view trees of the standard, status, progress and Lottie layouts in code.
+ * <p>
+ * Each tree mirrors its XML layout: same view classes where the generated binding declares them, same IDs, sizes,
+ * margins, paddings, fonts and backgrounds. The {@code ConstraintLayout} roots of the standard and status layouts are
+ * replaced by a {@link ColumnLayout}, since all their children are centered below each other. The root and every view
+ * holding a binding expression are tagged the way the DataBinding compiler tags the processed layout, so that
+ * {@link androidx.databinding.DataBindingUtil#bind(View)} maps the tree onto the generated binding class exactly as it
+ * maps an inflated one. The tags must follow the layouts: a view gaining or losing an expression in the XML renumbers
+ * the ones after it. {@code DialogRendererBindingTest} in the perf module binds real items through both renderers and
+ * fails on any view whose ID, text or size differs.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ * @see DialogRenderer
+ */
+final class ViewTreeFactory {
+
+    /**
+     * Plays a Lottie animation each time its view is attached, like {@code app:lottie_autoPlay}.
+     */
+    private static final View.OnAttachStateChangeListener AUTO_PLAY = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(@NonNull View v) {
+            LottieAnimationView view = (LottieAnimationView) v;
+            if (!view.isAnimating()) view.playAnimation();
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(@NonNull View v) {
+        }
+    };
+
+    /**
+     * Not instantiable.
+     */
+    private ViewTreeFactory() {
+    }
+
+    /**
+     * Builds the view tree of a layout, if it is one of the layouts built in code.
+     *
+     * @param context The context used to create the views.
+     * @param layout  The layout resource ID.
+     * @return The unattached root view, or null if the layout must be inflated.
+     */
+    @Nullable
+    static View create(@NonNull Context context, @LayoutRes int layout) {
+        if (layout == R.layout.dialog_standard) return createStandard(context);
+        if (layout == R.layout.dialog_status) return createStatus(context);
+        if (layout == R.layout.dialog_progress) return createProgress(context);
+        if (layout == R.layout.dialog_lottie) return createLottie(context);
+        return null;
+    }
+
+    /**
+     * Builds the tree of {@code dialog_standard.xml}.
+     *
+     * @param context The context used to create the views.
+     * @return The root view.
+     */
+    @NonNull
+    private static View createStandard(@NonNull Context context) {
+        ColumnLayout root = createColumn(context, R.id.root_layout, "layout/dialog_standard_0");
+
+        ImageView icon = new ImageView(context);
+        icon.setId(R.id.iv_icon);
+        icon.setTag("binding_1");
+        root.addView(icon, columnParams(context, dp(context, 32), dp(context, 32), 0));
+
+        root.addView(createText(context, R.id.tv_heading, "binding_2", R.font.bold, 22),
+                columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, 18));
+        root.addView(createText(context, R.id.tv_description, "binding_3", R.font.regular, 16),
+                columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, 10));
+
+        View divider = new View(context);
+        divider.setId(R.id.v_divider);
+        divider.setBackgroundColor(ResourceCache.getInstance().getColor(context, R.color.colorLightGrey));
+        root.addView(divider, columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, dp(context, 1), 20));
+
+        LinearLayout buttons = new LinearLayout(context);
+        buttons.setOrientation(LinearLayout.HORIZONTAL);
+        buttons.setWeightSum(2F);
+
+        TextView negative = createText(context, R.id.btn_negative, "binding_4", R.font.bold, 16);
+        negative.setBackground(drawable(context, R.drawable.ripple_bg_light_grey_10));
+        LinearLayout.LayoutParams negativeParams = new LinearLayout.LayoutParams(0, dp(context, 50), 1F);
+        negativeParams.setMarginEnd(dp(context, 6));
+        buttons.addView(negative, negativeParams);
+
+        TextView positive = createText(context, R.id.btn_positive, "binding_5", R.font.bold, 16);
+        positive.setBackground(drawable(context, R.drawable.ripple_bg_blue_10));
+        LinearLayout.LayoutParams positiveParams = new LinearLayout.LayoutParams(0, dp(context, 50), 1F);
+        positiveParams.setMarginStart(dp(context, 6));
+        buttons.addView(positive, positiveParams);
+
+        root.addView(buttons, columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, 13));
+        return root;
+    }
+
+    /**
+     * Builds the tree of {@code dialog_status.xml}.
+     *
+     * @param context The context used to create the views.
+     * @return The root view.
+     */
+    @NonNull
+    private static View createStatus(@NonNull Context context) {
+        ColumnLayout root = createColumn(context, R.id.layout_root, "layout/dialog_status_0");
+
+        LottieAnimationView icon = createLottieView(context, R.id.lottie_icon);
+        root.addView(icon, columnParams(context, dp(context, 55), dp(context, 55), 0));
+
+        root.addView(createText(context, R.id.tv_heading, "binding_1", R.font.bold, 22),
+                columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, 18));
+        root.addView(createText(context, R.id.tv_description, "binding_2", R.font.regular, 16),
+                columnParams(context, ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, 10));
+
+        TextView dismiss = createText(context, R.id.btn_dismiss, "binding_3", R.font.bold, 16);
+        dismiss.setBackground(drawable(context, R.drawable.ripple_bg_dark_grey_10));
+        root.addView(dismiss, columnParams(context, dp(context, 120), dp(context, 50), 25));
+        return root;
+    }
+
+    /**
+     * Builds the tree of {@code dialog_progress.xml}.
+     *
+     * @param context The context used to create the views.
+     * @return The root view.
+     */
+    @NonNull
+    private static View createProgress(@NonNull Context context) {
+        LinearLayout root = new LinearLayout(context);
+        root.setId(R.id.layout_root);
+        root.setTag("layout/dialog_progress_0");
+        root.setOrientation(LinearLayout.VERTICAL);
+        root.setGravity(Gravity.CENTER_HORIZONTAL);
+
+        ProgressBar progressBar = new ProgressBar(context);
+        progressBar.setId(R.id.progress_bar);
+        root.addView(progressBar, new LinearLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        ProgressBar determinate = new ProgressBar(context, null, android.R.attr.progressBarStyleHorizontal);
+        determinate.setId(R.id.progress_bar_determinate);
+        determinate.setIndeterminate(false);
+        determinate.setMax(10000);
+        determinate.setVisibility(View.GONE);
+        root.addView(determinate, new LinearLayout.LayoutParams(dp(context, 220), ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        TextView message = createText(context, R.id.tv_message, null, R.font.regular, 14);
+        message.setTextColor(ResourceCache.getInstance().getColor(context, R.color.static_white));
+        message.setVisibility(View.GONE);
+        LinearLayout.LayoutParams messageParams = new LinearLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+        messageParams.topMargin = dp(context, 10);
+        root.addView(message, messageParams);
+        return root;
+    }
+
+    /**
+     * Builds the tree of {@code dialog_lottie.xml}.
+     *
+     * @param context The context used to create the views.
+     * @return The root view.
+     */
+    @NonNull
+    private static View createLottie(@NonNull Context context) {
+        LottieAnimationView root = createLottieView(context, R.id.lottie_animation_view);
+        root.setTag("layout/dialog_lottie_0");
+        return root;
+    }
+
+    /**
+     * Creates the root of the standard and status layouts: 300dp wide with a padding of 25dp and a white background.
+     *
+     * @param context The context used to create the view.
+     * @param id      The ID of the root.
+     * @param tag     The binding tag of the root.
+     * @return The root view.
+     */
+    @NonNull
+    private static ColumnLayout createColumn(@NonNull Context context, @IdRes int id, @NonNull String tag) {
+        ColumnLayout root = new ColumnLayout(context);
+        root.setId(id);
+        root.setTag(tag);
+        int padding = dp(context, 25);
+        root.setPadding(padding, padding, padding, padding);
+        root.setMinimumWidth(dp(context, 300));
+        root.setBackground(drawable(context, R.drawable.bg_white_10));
+        return root;
+    }
+
+    /**
+     * Creates a centered text view.
+     *
+     * @param context  The context used to create the view.
+     * @param id       The ID of the view.
+     * @param tag      The binding tag of the view, or null if it holds no binding expression.
+     * @param font     The font resource ID.
+     * @param textSize The text size in sp.
+     * @return The text view.
+     */
+    @NonNull
+    private static TextView createText(@NonNull Context context, @IdRes int id, @Nullable String tag, @FontRes int font, float textSize) {
+        TextView textView = new TextView(context);
+        textView.setId(id);
+        if (tag != null) textView.setTag(tag);
+        textView.setGravity(Gravity.CENTER);
+        textView.setTypeface(ResourceCache.getInstance().getFont(context, font));
+        textView.setTextSize(TypedValue.COMPLEX_UNIT_SP, textSize);
+        return textView;
+    }
+
+    /**
+     * Creates a looping Lottie animation view that plays each time it is attached.
+     *
+     * @param context The context used to create the view.
+     * @param id      The ID of the view.
+     * @return The animation view.
+     */
+    @NonNull
+    private static LottieAnimationView createLottieView(@NonNull Context context, @IdRes int id) {
+        LottieAnimationView view = new LottieAnimationView(context);
+        view.setId(id);
+        view.setRepeatCount(LottieDrawable.INFINITE);
+        view.addOnAttachStateChangeListener(AUTO_PLAY);
+        return view;
+    }
+
+    /**
+     * Creates the layout params of a child of a {@link ColumnLayout}.
+     *
+     * @param context   The context used to convert the margin.
+     * @param width     The width in pixels, or a {@link ViewGroup.LayoutParams} constant.
+     * @param height    The height in pixels, or a {@link ViewGroup.LayoutParams} constant.
+     * @param marginTop The top margin in dp.
+     * @return The layout params.
+     */
+    @NonNull
+    private static ConstraintLayout.LayoutParams columnParams(@NonNull Context context, int width, int height, int marginTop) {
+        ConstraintLayout.LayoutParams params = new ConstraintLayout.LayoutParams(width, height);
+        params.topMargin = dp(context, marginTop);
+        return params;
+    }
+
+    /**
+     * Gets a drawable through the {@link ResourceCache}.
+     *
+     * @param context  The context used to resolve the drawable.
+     * @param drawable The drawable resource ID.
+     * @return The drawable, or null if it cannot be loaded.
+     */
+    @Nullable
+    private static Drawable drawable(@NonNull Context context, @DrawableRes int drawable) {
+        return ResourceCache.getInstance().getDrawable(context, drawable);
+    }
+
+    /**
+     * Converts dp to pixels the way layout dimensions are converted, rounding and never turning a non-zero size into 0.
+     *
+     * @param context The context whose display metrics are used.
+     * @param value   The value in dp.
+     * @return The value in pixels.
+     */
+    private static int dp(@NonNull Context context, int value) {
+        if (value == 0) return 0;
+        float pixels = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, value, context.getResources().getDisplayMetrics());
+        return Math.max(1, Math.round(pixels));
+    }
+}
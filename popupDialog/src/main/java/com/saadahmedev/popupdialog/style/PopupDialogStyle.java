@@ -0,0 +1,656 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.style;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.ColorRes;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.FontRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.saadahmedev.popupdialog.R;
+import com.saadahmedev.popupdialog.cache.DrawableCache;
+import com.saadahmedev.popupdialog.cache.ResourceCache;
+import com.saadahmedev.popupdialog.dto.DialogColor;
+import com.saadahmedev.popupdialog.exception.PopupDialogException;
+
+/**
+ * An immutable set of fully resolved fonts, colors, sizes, corner radii and drawables, applied to a dialog
+ * builder in a single call with {@code setStyle}.
+ * <p>
+ * Every resource of a style is resolved once, when it is built, so dialogs sharing a style skip the resolution of
+ * their defaults and only bind their text. The drawables are kept as {@link Drawable.ConstantState}, and each dialog
+ * gets its own drawable sharing that state. Properties left unset in the style keep the defaults of each dialog,
+ * and setters called on a builder after {@code setStyle} override the style.
+ * <p>
+ * A style is resolved against the configuration of the context it was built with. It should be built again once
+ * {@link #isValidFor(Context)} returns false, for instance after switching to night mode.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class PopupDialogStyle {
+
+    /** The font of the heading text. */
+    private final Typeface headingFont;
+
+    /** The font of the description text. */
+    private final Typeface descriptionFont;
+
+    /** The font of the button text. */
+    private final Typeface buttonFont;
+
+    /** The font size of the heading text. */
+    private final Float headingFontSize;
+
+    /** The font size of the description text. */
+    private final Float descriptionFontSize;
+
+    /** The font size of the button text. */
+    private final Float buttonFontSize;
+
+    /** The text color of the heading. */
+    private final DialogColor headingTextColor;
+
+    /** The text color of the description. */
+    private final DialogColor descriptionTextColor;
+
+    /** The text color of the positive button of standard dialogs and the action button of status dialogs. */
+    private final DialogColor positiveButtonTextColor;
+
+    /** The text color of the negative button of standard dialogs. */
+    private final DialogColor negativeButtonTextColor;
+
+    /** The corner radii of the background: top-left, top-right, bottom-left and bottom-right. */
+    private final Float[] backgroundCornerRadii;
+
+    /** The state of the background drawable. */
+    private final Drawable.ConstantState background;
+
+    /**
+     * The state of the background drawable of the action button of status dialogs and the positive button of the
+     * standard dialog.
+     */
+    private final Drawable.ConstantState actionButtonBackground;
+
+    /** The UI mode the style was resolved for. */
+    private final int uiMode;
+
+    /** The screen density the style was resolved for. */
+    private final int densityDpi;
+
+    /** The font scale the style was resolved for. */
+    private final float fontScale;
+
+    /**
+     * Constructs a new PopupDialogStyle object from its builder.
+     *
+     * @param builder The builder holding the resolved values.
+     */
+    private PopupDialogStyle(@NonNull Builder builder) {
+        Configuration configuration = builder.context.getResources().getConfiguration();
+        this.headingFont = builder.headingFont;
+        this.descriptionFont = builder.descriptionFont;
+        this.buttonFont = builder.buttonFont;
+        this.headingFontSize = builder.headingFontSize;
+        this.descriptionFontSize = builder.descriptionFontSize;
+        this.buttonFontSize = builder.buttonFontSize;
+        this.headingTextColor = builder.headingTextColor;
+        this.descriptionTextColor = builder.descriptionTextColor;
+        this.positiveButtonTextColor = builder.positiveButtonTextColor;
+        this.negativeButtonTextColor = builder.negativeButtonTextColor;
+        this.backgroundCornerRadii = builder.backgroundCornerRadii.clone();
+        this.background = builder.resolveBackground();
+        this.actionButtonBackground = builder.resolveActionButtonBackground();
+        this.uiMode = configuration.uiMode;
+        this.densityDpi = configuration.densityDpi;
+        this.fontScale = configuration.fontScale;
+    }
+
+    /**
+     * Creates a builder resolving its resources with the given context.
+     *
+     * @param context The context used to resolve the resources.
+     * @return A new {@link Builder}.
+     */
+    @NonNull
+    public static Builder builder(@NonNull Context context) {
+        return new Builder(context);
+    }
+
+    /**
+     * Checks whether the style was resolved for the current configuration of a context.
+     *
+     * @param context The context to check against.
+     * @return True if the UI mode, density and font scale of the context match those of the style.
+     */
+    public boolean isValidFor(@NonNull Context context) {
+        Configuration configuration = context.getResources().getConfiguration();
+        return configuration.uiMode == uiMode
+                && configuration.densityDpi == densityDpi
+                && configuration.fontScale == fontScale;
+    }
+
+    /**
+     * Gets the font of the heading text.
+     *
+     * @return The Typeface, or null if not set.
+     */
+    @Nullable
+    public Typeface getHeadingFont() {
+        return headingFont;
+    }
+
+    /**
+     * Gets the font of the description text.
+     *
+     * @return The Typeface, or null if not set.
+     */
+    @Nullable
+    public Typeface getDescriptionFont() {
+        return descriptionFont;
+    }
+
+    /**
+     * Gets the font of the button text.
+     *
+     * @return The Typeface, or null if not set.
+     */
+    @Nullable
+    public Typeface getButtonFont() {
+        return buttonFont;
+    }
+
+    /**
+     * Gets the font size of the heading text.
+     *
+     * @return The font size, or null if not set.
+     */
+    @Nullable
+    public Float getHeadingFontSize() {
+        return headingFontSize;
+    }
+
+    /**
+     * Gets the font size of the description text.
+     *
+     * @return The font size, or null if not set.
+     */
+    @Nullable
+    public Float getDescriptionFontSize() {
+        return descriptionFontSize;
+    }
+
+    /**
+     * Gets the font size of the button text.
+     *
+     * @return The font size, or null if not set.
+     */
+    @Nullable
+    public Float getButtonFontSize() {
+        return buttonFontSize;
+    }
+
+    /**
+     * Gets the text color of the heading.
+     *
+     * @return The resolved color, or null if not set.
+     */
+    @Nullable
+    public DialogColor getHeadingTextColor() {
+        return headingTextColor;
+    }
+
+    /**
+     * Gets the text color of the description.
+     *
+     * @return The resolved color, or null if not set.
+     */
+    @Nullable
+    public DialogColor getDescriptionTextColor() {
+        return descriptionTextColor;
+    }
+
+    /**
+     * Gets the text color of the positive button of standard dialogs and the action button of status dialogs.
+     *
+     * @return The resolved color, or null if not set.
+     */
+    @Nullable
+    public DialogColor getPositiveButtonTextColor() {
+        return positiveButtonTextColor;
+    }
+
+    /**
+     * Gets the text color of the negative button of standard dialogs.
+     *
+     * @return The resolved color, or null if not set.
+     */
+    @Nullable
+    public DialogColor getNegativeButtonTextColor() {
+        return negativeButtonTextColor;
+    }
+
+    /**
+     * Gets a corner radius of the background.
+     *
+     * @param corner The corner: 0 for top-left, 1 for top-right, 2 for bottom-left and 3 for bottom-right.
+     * @return The radius, or null if not set.
+     */
+    @Nullable
+    public Float getBackgroundCornerRadius(int corner) {
+        return backgroundCornerRadii[corner];
+    }
+
+    /**
+     * Creates a background drawable sharing the state resolved by the style.
+     *
+     * @return A new Drawable, or null if no background is set.
+     */
+    @Nullable
+    public Drawable newBackground() {
+        return background == null ? null : background.newDrawable();
+    }
+
+    /**
+     * Creates a background drawable for the action button of status dialogs and the positive button of the
+     * standard dialog, sharing the state resolved by the style.
+     *
+     * @return A new Drawable, or null if no action button background is set.
+     */
+    @Nullable
+    public Drawable newActionButtonBackground() {
+        return actionButtonBackground == null ? null : actionButtonBackground.newDrawable();
+    }
+
+    /**
+     * Builds {@link PopupDialogStyle} objects, resolving every resource as it is set.
+     */
+    public static final class Builder {
+
+        /** The context used to resolve the resources. */
+        private final Context context;
+
+        /** The font of the heading text. */
+        private Typeface headingFont;
+
+        /** The font of the description text. */
+        private Typeface descriptionFont;
+
+        /** The font of the button text. */
+        private Typeface buttonFont;
+
+        /** The font size of the heading text. */
+        private Float headingFontSize;
+
+        /** The font size of the description text. */
+        private Float descriptionFontSize;
+
+        /** The font size of the button text. */
+        private Float buttonFontSize;
+
+        /** The text color of the heading. */
+        private DialogColor headingTextColor;
+
+        /** The text color of the description. */
+        private DialogColor descriptionTextColor;
+
+        /** The text color of the positive or action button. */
+        private DialogColor positiveButtonTextColor;
+
+        /** The text color of the negative button. */
+        private DialogColor negativeButtonTextColor;
+
+        /** The corner radii of the background. */
+        private final Float[] backgroundCornerRadii = new Float[4];
+
+        /** The drawable resource of the background. */
+        private Integer background;
+
+        /** The resolved background color. */
+        private Integer backgroundColor;
+
+        /** The drawable resource of the action button background. */
+        private Integer actionButtonBackground;
+
+        /** The resolved action button background color. */
+        private Integer actionButtonBackgroundColor;
+
+        /** The resolved ripple color of the action button. */
+        private Integer actionButtonRippleColor;
+
+        /** The corner radius of the action button background. */
+        private Float actionButtonCornerRadius;
+
+        /**
+         * Constructs a new {@link Builder}.
+         *
+         * @param context The context used to resolve the resources.
+         */
+        private Builder(@NonNull Context context) {
+            this.context = context;
+        }
+
+        /**
+         * Sets the font of every text.
+         *
+         * @param fontFamily The font resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setFontFamily(@NonNull @FontRes Integer fontFamily) {
+            Typeface typeface = ResourceCache.getInstance().getFont(context, fontFamily);
+            this.headingFont = typeface;
+            this.descriptionFont = typeface;
+            this.buttonFont = typeface;
+            return this;
+        }
+
+        /**
+         * Sets the font of the heading text.
+         *
+         * @param headingFont The font resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setHeadingFont(@NonNull @FontRes Integer headingFont) {
+            this.headingFont = ResourceCache.getInstance().getFont(context, headingFont);
+            return this;
+        }
+
+        /**
+         * Sets the font of the description text.
+         *
+         * @param descriptionFont The font resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setDescriptionFont(@NonNull @FontRes Integer descriptionFont) {
+            this.descriptionFont = ResourceCache.getInstance().getFont(context, descriptionFont);
+            return this;
+        }
+
+        /**
+         * Sets the font of the button text.
+         *
+         * @param buttonFont The font resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setButtonFont(@NonNull @FontRes Integer buttonFont) {
+            this.buttonFont = ResourceCache.getInstance().getFont(context, buttonFont);
+            return this;
+        }
+
+        /**
+         * Sets the font size of the heading text.
+         *
+         * @param headingFontSize The font size.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setHeadingFontSize(@NonNull Float headingFontSize) {
+            this.headingFontSize = headingFontSize;
+            return this;
+        }
+
+        /**
+         * Sets the font size of the description text.
+         *
+         * @param descriptionFontSize The font size.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setDescriptionFontSize(@NonNull Float descriptionFontSize) {
+            this.descriptionFontSize = descriptionFontSize;
+            return this;
+        }
+
+        /**
+         * Sets the font size of the button text.
+         *
+         * @param buttonFontSize The font size.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setButtonFontSize(@NonNull Float buttonFontSize) {
+            this.buttonFontSize = buttonFontSize;
+            return this;
+        }
+
+        /**
+         * Sets the text color of the heading.
+         *
+         * @param headingTextColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setHeadingTextColor(@NonNull @ColorRes Integer headingTextColor) {
+            this.headingTextColor = resolveColor(headingTextColor);
+            return this;
+        }
+
+        /**
+         * Sets the text color of the description.
+         *
+         * @param descriptionTextColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setDescriptionTextColor(@NonNull @ColorRes Integer descriptionTextColor) {
+            this.descriptionTextColor = resolveColor(descriptionTextColor);
+            return this;
+        }
+
+        /**
+         * Sets the text color of the positive button of standard dialogs and the action button of status dialogs.
+         *
+         * @param positiveButtonTextColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setPositiveButtonTextColor(@NonNull @ColorRes Integer positiveButtonTextColor) {
+            this.positiveButtonTextColor = resolveColor(positiveButtonTextColor);
+            return this;
+        }
+
+        /**
+         * Sets the text color of the negative button of standard dialogs.
+         *
+         * @param negativeButtonTextColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setNegativeButtonTextColor(@NonNull @ColorRes Integer negativeButtonTextColor) {
+            this.negativeButtonTextColor = resolveColor(negativeButtonTextColor);
+            return this;
+        }
+
+        /**
+         * Sets the background of the dialog by drawable resource.
+         *
+         * @param background The drawable resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setBackground(@NonNull @DrawableRes Integer background) {
+            this.background = background;
+            return this;
+        }
+
+        /**
+         * Sets the background color of the dialog.
+         *
+         * @param backgroundColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setBackgroundColor(@NonNull @ColorRes Integer backgroundColor) {
+            this.backgroundColor = ResourceCache.getInstance().getColor(context, backgroundColor);
+            return this;
+        }
+
+        /**
+         * Sets the corner radius of every corner of the background.
+         *
+         * @param cornerRadius The corner radius.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setBackgroundCornerRadius(@NonNull Float cornerRadius) {
+            return setBackgroundCornerRadius(cornerRadius, cornerRadius, cornerRadius, cornerRadius);
+        }
+
+        /**
+         * Sets the corner radii of the background.
+         *
+         * @param topLeft     The top-left corner radius.
+         * @param topRight    The top-right corner radius.
+         * @param bottomLeft  The bottom-left corner radius.
+         * @param bottomRight The bottom-right corner radius.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setBackgroundCornerRadius(
+                @NonNull Float topLeft,
+                @NonNull Float topRight,
+                @NonNull Float bottomLeft,
+                @NonNull Float bottomRight
+        ) {
+            this.backgroundCornerRadii[0] = topLeft;
+            this.backgroundCornerRadii[1] = topRight;
+            this.backgroundCornerRadii[2] = bottomLeft;
+            this.backgroundCornerRadii[3] = bottomRight;
+            return this;
+        }
+
+        /**
+         * Sets the background of the action button of status dialogs and the positive button of the standard dialog
+         * by drawable resource.
+         *
+         * @param actionButtonBackground The drawable resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setActionButtonBackground(@NonNull @DrawableRes Integer actionButtonBackground) {
+            this.actionButtonBackground = actionButtonBackground;
+            return this;
+        }
+
+        /**
+         * Sets the background color of the action button of status dialogs and the positive button of the standard
+         * dialog.
+         *
+         * @param actionButtonBackgroundColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setActionButtonBackgroundColor(@NonNull @ColorRes Integer actionButtonBackgroundColor) {
+            this.actionButtonBackgroundColor = ResourceCache.getInstance().getColor(context, actionButtonBackgroundColor);
+            return this;
+        }
+
+        /**
+         * Sets the ripple color of the action button of status dialogs and the positive button of the standard dialog,
+         * drawn over its background color.
+         *
+         * @param actionButtonRippleColor The color resource ID.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setActionButtonRippleColor(@NonNull @ColorRes Integer actionButtonRippleColor) {
+            this.actionButtonRippleColor = ResourceCache.getInstance().getColor(context, actionButtonRippleColor);
+            return this;
+        }
+
+        /**
+         * Sets the corner radius of the background of the action button of status dialogs and the positive button of
+         * the standard dialog.
+         *
+         * @param actionButtonCornerRadius The corner radius.
+         * @return The current instance of the {@link Builder}.
+         */
+        public Builder setActionButtonCornerRadius(@NonNull Float actionButtonCornerRadius) {
+            this.actionButtonCornerRadius = actionButtonCornerRadius;
+            return this;
+        }
+
+        /**
+         * Builds the style.
+         *
+         * @return The immutable {@link PopupDialogStyle}.
+         */
+        @NonNull
+        public PopupDialogStyle build() {
+            return new PopupDialogStyle(this);
+        }
+
+        /**
+         * Resolves a color resource.
+         *
+         * @param color The color resource ID.
+         * @return The resolved color.
+         */
+        private DialogColor resolveColor(@ColorRes int color) {
+            return DialogColor.ofColorInt(ResourceCache.getInstance().getColor(context, color));
+        }
+
+        /**
+         * Resolves the background drawable, rounding its corners by 5dp unless radii are set.
+         *
+         * @return The state of the drawable, or null if no background is set.
+         */
+        @Nullable
+        private Drawable.ConstantState resolveBackground() {
+            if (background != null) return resolveDrawable(background);
+            if (backgroundColor == null) return null;
+
+            float defaultRadius = ResourceCache.getInstance().getDimension(context, R.dimen.dp_5);
+            for (int i = 0; i < backgroundCornerRadii.length; i++) {
+                if (backgroundCornerRadii[i] == null) backgroundCornerRadii[i] = defaultRadius;
+            }
+            return DrawableCache.getInstance().getShape(
+                    backgroundColor,
+                    backgroundCornerRadii[0],
+                    backgroundCornerRadii[1],
+                    backgroundCornerRadii[2],
+                    backgroundCornerRadii[3]
+            ).getConstantState();
+        }
+
+        /**
+         * Resolves the action button background drawable, rounding its corners by 5dp unless a radius is set.
+         *
+         * @return The state of the drawable, or null if no action button background is set.
+         */
+        @Nullable
+        private Drawable.ConstantState resolveActionButtonBackground() {
+            if (actionButtonBackground != null) return resolveDrawable(actionButtonBackground);
+            if (actionButtonBackgroundColor == null) return null;
+
+            float radius = actionButtonCornerRadius != null
+                    ? actionButtonCornerRadius
+                    : ResourceCache.getInstance().getDimension(context, R.dimen.dp_5);
+            DrawableCache drawableCache = DrawableCache.getInstance();
+            Drawable drawable = actionButtonRippleColor == null
+                    ? drawableCache.getShape(actionButtonBackgroundColor, radius, radius, radius, radius)
+                    : drawableCache.getRipple(actionButtonBackgroundColor, radius, radius, radius, radius, actionButtonRippleColor);
+            return drawable.getConstantState();
+        }
+
+        /**
+         * Resolves a drawable resource.
+         *
+         * @param drawable The drawable resource ID.
+         * @return The state of the drawable.
+         * @throws PopupDialogException if the drawable cannot be loaded.
+         */
+        private Drawable.ConstantState resolveDrawable(@DrawableRes int drawable) {
+            Drawable resolved = ResourceCache.getInstance().getDrawable(context, drawable);
+            if (resolved == null || resolved.getConstantState() == null) {
+                throw new PopupDialogException("Drawable resource cannot be used in a style");
+            }
+            return resolved.getConstantState();
+        }
+    }
+}
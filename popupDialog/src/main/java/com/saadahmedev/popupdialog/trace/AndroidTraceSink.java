@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.trace;
+
+import androidx.annotation.NonNull;
+import androidx.tracing.Trace;
+
+/**
+ * The default {@link TraceSink}, emitting sections with androidx.tracing so that they show up in Systrace
+ * and Perfetto captures of the app.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class AndroidTraceSink implements TraceSink {
+
+    /**
+     * The single instance of the sink.
+     */
+    private static final AndroidTraceSink INSTANCE = new AndroidTraceSink();
+
+    /**
+     * Not instantiable outside of {@link #getInstance()}.
+     */
+    private AndroidTraceSink() {
+    }
+
+    /**
+     * Gets the instance of the sink.
+     *
+     * @return The {@link AndroidTraceSink} instance.
+     */
+    @NonNull
+    public static AndroidTraceSink getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Trace.isEnabled();
+    }
+
+    @Override
+    public void beginSection(@NonNull String name) {
+        Trace.beginSection(name);
+    }
+
+    @Override
+    public void endSection() {
+        Trace.endSection();
+    }
+}
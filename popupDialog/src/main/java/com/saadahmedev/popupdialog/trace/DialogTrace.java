@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * The process-wide trace of the dialog lifecycle, emitting a named section around each phase to the installed
+ * {@link TraceSink}, {@link AndroidTraceSink} by default.
+ * <p>
+ * Section names have the form {@code PopupDialog:<dialog type>#<phase>}, such as
+ * {@code PopupDialog:SuccessDialog#inflate}. A section is emitted with:
+ * <pre>
+ * boolean traced = DialogTrace.begin(getClass(), DialogTrace.INFLATE);
+ * try {
+ *     ...
+ * } finally {
+ *     DialogTrace.end(traced);
+ * }
+ * </pre>
+ * While the sink is disabled, no section name is built and nothing is emitted.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public final class DialogTrace {
+
+    /** The phase inflating or binding the layout of a dialog. */
+    public static final String INFLATE = "inflate";
+
+    /** The phase generating a background drawable. */
+    public static final String DRAWABLE = "drawable";
+
+    /** The phase resolving a font. */
+    public static final String FONT = "font";
+
+    /** The phase loading a Lottie composition. */
+    public static final String LOTTIE = "lottie";
+
+    /** The phase setting the data item of the binding, and executing the bindings when they are synchronous. */
+    public static final String SET_ITEM = "setItem";
+
+    /** The phase showing the dialog. */
+    public static final String SHOW = "show";
+
+    /** The phase dismissing the dialog. */
+    public static final String DISMISS = "dismiss";
+
+    /**
+     * The prefix of every section name.
+     */
+    private static final String PREFIX = "PopupDialog:";
+
+    /**
+     * The installed sink.
+     */
+    private static volatile TraceSink sink = AndroidTraceSink.getInstance();
+
+    /**
+     * Not instantiable.
+     */
+    private DialogTrace() {
+    }
+
+    /**
+     * Installs the sink receiving the sections. It should be installed while no section is open.
+     *
+     * @param sink The sink, or null to restore {@link AndroidTraceSink}.
+     */
+    public static void setSink(@Nullable TraceSink sink) {
+        DialogTrace.sink = sink != null ? sink : AndroidTraceSink.getInstance();
+    }
+
+    /**
+     * Gets the installed sink.
+     *
+     * @return The {@link TraceSink} instance.
+     */
+    @NonNull
+    public static TraceSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Builds the name of the section of a phase.
+     *
+     * @param dialogClass The class of the dialog builder.
+     * @param phase       The phase, such as {@link #INFLATE}.
+     * @return The section name.
+     */
+    @NonNull
+    public static String sectionName(@NonNull Class<?> dialogClass, @NonNull String phase) {
+        return PREFIX + dialogClass.getSimpleName() + "#" + phase;
+    }
+
+    /**
+     * Begins the section of a phase on the calling thread, if the sink is enabled.
+     *
+     * @param dialogClass The class of the dialog builder.
+     * @param phase       The phase, such as {@link #INFLATE}.
+     * @return True if the section was begun and must be ended with {@link #end(boolean)}.
+     */
+    public static boolean begin(@NonNull Class<?> dialogClass, @NonNull String phase) {
+        TraceSink current = sink;
+        if (!current.isEnabled()) return false;
+
+        current.beginSection(sectionName(dialogClass, phase));
+        return true;
+    }
+
+    /**
+     * Ends the section most recently begun on the calling thread.
+     *
+     * @param begun The value returned by {@link #begin(Class, String)}.
+     */
+    public static void end(boolean begun) {
+        if (begun) sink.endSection();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A {@link TraceSink} keeping every section in memory, so that a JVM test can install it with
+ * {@link DialogTrace#setSink(TraceSink)} and assert on the names, nesting and durations of the sections.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class InMemoryTraceSink implements TraceSink {
+
+    /**
+     * Every section begun, in the order they were begun.
+     */
+    private final List<Section> sections = new ArrayList<>();
+
+    /**
+     * The sections currently open on each thread, innermost first.
+     */
+    private final ThreadLocal<Deque<Section>> open = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void beginSection(@NonNull String name) {
+        Deque<Section> stack = open.get();
+        Section section = new Section(name, stack.peek(), Thread.currentThread().getName(), System.nanoTime());
+        stack.push(section);
+        synchronized (sections) {
+            sections.add(section);
+        }
+    }
+
+    @Override
+    public void endSection() {
+        Section section = open.get().poll();
+        if (section == null) throw new IllegalStateException("No section open on " + Thread.currentThread().getName());
+        section.endNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets every section begun so far, in the order they were begun.
+     *
+     * @return A copy of the sections.
+     */
+    @NonNull
+    public List<Section> getSections() {
+        synchronized (sections) {
+            return new ArrayList<>(sections);
+        }
+    }
+
+    /**
+     * Gets the sections with the given name, in the order they were begun.
+     *
+     * @param name The name of the sections.
+     * @return The matching sections.
+     */
+    @NonNull
+    public List<Section> getSections(@NonNull String name) {
+        List<Section> matching = new ArrayList<>();
+        for (Section section : getSections()) {
+            if (section.getName().equals(name)) matching.add(section);
+        }
+        return matching;
+    }
+
+    /**
+     * Drops every recorded section. Sections still open keep being closed on their thread.
+     */
+    public void clear() {
+        synchronized (sections) {
+            sections.clear();
+        }
+    }
+
+    /**
+     * A recorded trace section.
+     */
+    public static final class Section {
+
+        /** The name of the section. */
+        private final String name;
+
+        /** The section it is nested in, or null for a top-level section. */
+        private final Section parent;
+
+        /** The name of the thread the section ran on. */
+        private final String threadName;
+
+        /** The time the section began, in nanoseconds. */
+        private final long startNanos;
+
+        /** The time the section ended, in nanoseconds, or -1 while it is open. */
+        private volatile long endNanos = -1;
+
+        private Section(@NonNull String name, @Nullable Section parent, @NonNull String threadName, long startNanos) {
+            this.name = name;
+            this.parent = parent;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Gets the name of the section.
+         *
+         * @return The section name.
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the section this one is nested in.
+         *
+         * @return The enclosing section, or null for a top-level section.
+         */
+        @Nullable
+        public Section getParent() {
+            return parent;
+        }
+
+        /**
+         * Gets the nesting depth of the section.
+         *
+         * @return 0 for a top-level section, the depth of the parent plus one otherwise.
+         */
+        public int getDepth() {
+            return parent == null ? 0 : parent.getDepth() + 1;
+        }
+
+        /**
+         * Gets the name of the thread the section ran on.
+         *
+         * @return The thread name.
+         */
+        @NonNull
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Checks whether the section has ended.
+         *
+         * @return True if the section is closed.
+         */
+        public boolean isClosed() {
+            return endNanos != -1;
+        }
+
+        /**
+         * Gets the duration of the section.
+         *
+         * @return The duration in nanoseconds, or -1 while the section is open.
+         */
+        public long getDurationNanos() {
+            long end = endNanos;
+            return end == -1 ? -1 : end - startNanos;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return name + " (" + getDurationNanos() + " ns)";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.trace;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Interface for receiving the trace sections emitted by {@link DialogTrace}.
+ * <p>
+ * Sections are begun and ended on the same thread and nest like a stack, each {@link #endSection()} closing the
+ * section most recently begun on the calling thread.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public interface TraceSink {
+
+    /**
+     * Checks whether sections are currently recorded, so that their names are only built when needed.
+     *
+     * @return True if sections should be emitted.
+     */
+    boolean isEnabled();
+
+    /**
+     * Begins a section on the calling thread.
+     *
+     * @param name The name of the section.
+     */
+    void beginSection(@NonNull String name);
+
+    /**
+     * Ends the section most recently begun on the calling thread.
+     */
+    void endSection();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018-2024 Saad Ahmed
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.saadahmedev.popupdialog.util;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Utility class for finding the Activity hosting a dialog.
+ * <p>
+ * Dialog contexts are theme wrappers around the Activity they were created with, so the Activity
+ * is found by walking up the chain of {@link ContextWrapper}s.
+ *
+ * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
+ */
+public class ContextUtil {
+
+    /**
+     * Finds the Activity a context belongs to.
+     *
+     * @param context The context to unwrap.
+     * @return The Activity, or null if the context does not belong to one.
+     */
+    @Nullable
+    public static Activity findActivity(@NonNull Context context) {
+        Context current = context;
+        while (current instanceof ContextWrapper) {
+            if (current instanceof Activity) return (Activity) current;
+            current = ((ContextWrapper) current).getBaseContext();
+        }
+        return null;
+    }
+}
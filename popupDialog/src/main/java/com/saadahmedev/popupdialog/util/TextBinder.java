@@ -16,22 +16,19 @@
 
 package com.saadahmedev.popupdialog.util;
 
-import android.annotation.SuppressLint;
-import android.content.res.Resources;
 import android.widget.TextView;
 
-import androidx.annotation.ColorRes;
-import androidx.core.content.ContextCompat;
 import androidx.databinding.BindingAdapter;
 
+import com.saadahmedev.popupdialog.dto.DialogColor;
+
 /**
  * Utility class for binding text color to TextViews in XML layouts.
  * <p>
  * This class provides a method to set the text color for a dialog TextView using data binding.
- * It handles the case where the color resource ID is null to avoid setting a null color.
- * If the color resource is not found, it sets the text color directly using the provided color ID.
- * <p>
- * Note: This class suppresses lint warnings for resource colors.
+ * It handles the case where the color is null to avoid setting a null color. The {@link DialogColor}
+ * tells whether it holds a color resource ID or a resolved color, so the color is applied without
+ * having to probe the resources.
  *
  * @author <a href="https://github.com/saadahmedscse">Saad Ahmed</a>
  */
@@ -41,17 +38,12 @@ public class TextBinder {
      * Sets the text color for a dialog TextView using data binding.
      *
      * @param textView The TextView to which the text color will be set.
-     * @param color    The resource ID of the text color to be set.
+     * @param color    The color to be set.
      */
-    @SuppressLint("ResourceAsColor")
     @BindingAdapter("android:dialogTextColor")
-    public static void setDialogTextColor(TextView textView, @ColorRes Integer color) {
+    public static void setDialogTextColor(TextView textView, DialogColor color) {
         if (color != null) {
-            try {
-                textView.setTextColor(ContextCompat.getColor(textView.getContext(), color));
-            } catch (Resources.NotFoundException e) {
-                textView.setTextColor(color);
-            }
+            textView.setTextColor(color.resolve(textView.getContext()));
         }
     }
 }